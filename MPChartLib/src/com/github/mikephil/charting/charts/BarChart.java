@@ -112,6 +112,22 @@ public class BarChart extends BarLineChartBase<BarData> {
         mDeltaX += maxEntry * groupSpace;
     }
 
+    @Override
+    protected void getMarkerPosition(Entry e, int dataSetIndex, float[] pos) {
+
+        float space = mData.getGroupSpace();
+        float j = mData.getDataSetByIndex(dataSetIndex).getEntryPosition(e);
+
+        // make sure the marker is in the center of the bar
+        float x = (j * (mData.getDataSetCount() - 1)) + dataSetIndex + space * j + space
+                / 2f + 0.5f;
+
+        pos[0] = mData.getXPosition(e) + x;
+        pos[1] = e.getVal() * mPhaseY;
+
+        mTrans.pointValuesToPixel(pos);
+    }
+
     @Override
     protected void drawHighlights() {
 
@@ -320,13 +336,13 @@ public class BarChart extends BarLineChartBase<BarData> {
 
             if (position[0] >= mOffsetLeft && position[0] <= getWidth() - mOffsetRight) {
 
-                String label = mData.getXVals().get(i);
+                String label = mData.getXVal(i);
 
                 if (mXLabels.isAvoidFirstLastClippingEnabled()) {
 
                     // avoid clipping of the last
                     if (i == mData.getXValCount() - 1) {
-                        float width = Utils.calcTextWidth(mXLabelPaint, label);
+                        float width = mXLabels.getLabelWidth(mXLabelPaint, label);
 
                         if (width > getOffsetRight() * 2 && position[0] + width > getWidth())
                             position[0] -= width / 2;
@@ -334,7 +350,7 @@ public class BarChart extends BarLineChartBase<BarData> {
                         // avoid clipping of the first
                     } else if (i == 0) {
 
-                        float width = Utils.calcTextWidth(mXLabelPaint, label);
+                        float width = mXLabels.getLabelWidth(mXLabelPaint, label);
                         position[0] += width / 2;
                     }
                 }
@@ -19,7 +19,10 @@ import android.view.MotionEvent;
 import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarLineScatterCandleData;
 import com.github.mikephil.charting.data.BarLineScatterCandleRadarDataSet;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.ChartDataSnapshot;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.EntryXValueProvider;
 import com.github.mikephil.charting.data.filter.Approximator;
 import com.github.mikephil.charting.interfaces.OnDrawListener;
 import com.github.mikephil.charting.listener.BarLineChartTouchListener;
@@ -27,8 +30,8 @@ import com.github.mikephil.charting.utils.Highlight;
 import com.github.mikephil.charting.utils.Legend.LegendPosition;
 import com.github.mikephil.charting.utils.LimitLine;
 import com.github.mikephil.charting.utils.LimitLine.LimitLabelPosition;
+import com.github.mikephil.charting.utils.NearestPointIndex;
 import com.github.mikephil.charting.utils.PointD;
-import com.github.mikephil.charting.utils.SelInfo;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.XLabels;
 import com.github.mikephil.charting.utils.XLabels.XLabelPosition;
@@ -46,6 +49,9 @@ import java.util.ArrayList;
 public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? extends BarLineScatterCandleRadarDataSet<? extends Entry>>>
         extends Chart<T> {
 
+    /** the maximum number of x-labels that are measured in prepareXLabels() */
+    private static final int MAX_MEASURED_XLABELS = 500;
+
     /** the maximum number of entried to which values will be drawn */
     protected int mMaxVisibleCount = 100;
 
@@ -68,6 +74,12 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
     /** if true, scaling is enabled for the chart */
     private boolean mScaleEnabled = true;
 
+    /**
+     * if true, dragging over a chart that cannot be dragged highlights the
+     * touched values
+     */
+    private boolean mHighlightPerDragEnabled = false;
+
     /** if true, the y range is predefined */
     protected boolean mFixedYValues = false;
 
@@ -124,6 +136,104 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
 
     protected int mSelectedValueIndex = -1;
 
+    /** flag that indicates if the cached y-label layout can be reused */
+    private boolean mYLabelsCacheValid = false;
+
+    /** the visible y-range the current y-label layout was computed for */
+    private float mYLabelsCacheMin = 0f;
+    private float mYLabelsCacheMax = 0f;
+
+    /** the chart min and max the current y-label layout was computed for */
+    private float mYLabelsCacheChartMin = 0f;
+    private float mYLabelsCacheChartMax = 0f;
+
+    /** the label count the current y-label layout was computed for */
+    private int mYLabelsCacheCount = 0;
+
+    /** true if the current y-label layout only shows min and max */
+    private boolean mYLabelsCacheMinMax = false;
+
+    /** the y-label texts (including the unit) ready for drawing */
+    private String[] mYLabelTexts = new String[] {};
+
+    /** the unit the y-label texts were created with */
+    private String mYLabelTextsUnit = null;
+
+    /** the formatting version of the y-labels the texts were created with */
+    private int mYLabelTextsVersion = -1;
+
+    /** buffer for converting the content bounds into values */
+    private float[] mYLabelsBuffer = new float[4];
+
+    /** buffer for the pixel positions of the y-labels */
+    private float[] mYLabelPositions = new float[] {};
+
+    /**
+     * the x-positions (relative to the x-origin) of the x-labels, only used if
+     * the entries have their own x-values
+     */
+    private double[] mContinuousXLabels = new double[] {};
+
+    /** the number of x-labels if the entries have their own x-values */
+    private int mContinuousXLabelCount = 0;
+
+    /** the number of decimals used for formatting continuous x-labels */
+    private int mContinuousXLabelDecimals = 0;
+
+    /** buffer for converting the content bounds into x-values */
+    private float[] mXLabelsBuffer = new float[4];
+
+    /** buffer for converting the content bounds into the visible x-range */
+    private float[] mVisibleRangeBuffer = new float[4];
+
+    /**
+     * spatial index over the pixel positions of the drawn entries, used for
+     * highlighting the entry closest to a touch point, created lazily
+     */
+    private NearestPointIndex mPointIndex = null;
+
+    /** the pixel mapping and phases the point index was built for */
+    private float[] mPointIndexKey = new float[6];
+
+    /** the data object the point index was built for */
+    private ChartData<?> mPointIndexData = null;
+
+    /** buffer for converting a touch point into values */
+    private float[] mTouchPointBuffer = new float[2];
+
+    /**
+     * the last Highlight created for a touch point, returned again as long
+     * as the same value is touched
+     */
+    private Highlight mTouchHighlight = null;
+
+    /** buffer for the pixel position of the reference values */
+    private float[] mPointIndexProbe = new float[4];
+
+    /** the values version of the data the point index was built for */
+    private int mPointIndexVersion = -1;
+
+    /**
+     * counts the calls of notifyDataSetChanged(), which also covers values
+     * that were modified in place without changing the values version
+     */
+    private int mDataChangeCount = 0;
+
+    /** the data change count the point index was built for */
+    private int mPointIndexChangeCount = -1;
+
+    /** buffer for the visible x-range the point index is built for */
+    private float[] mPointIndexRange = new float[4];
+
+    /** buffer for transforming the entries into pixels in chunks */
+    private float[] mPointIndexBuffer = null;
+
+    /**
+     * the viewport of a restored snapshot that is applied as soon as the
+     * size of the content is known, null if none
+     */
+    private float[] mPendingViewport = null;
+
     // /** the approximator object used for data filtering */
     // private Approximator mApproximator;
 
@@ -184,7 +294,14 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
             // Log.i(LOG_TAG, "Filtering disabled.");
         }
 
-        if (mXLabels.isAdjustXLabelsEnabled())
+        if (mPendingViewport != null && mContentRect.width() > 0f)
+            applyPendingViewport();
+
+        prepareVisibleRange();
+
+        if (mData.isXContinuous())
+            prepareContinuousXLabels();
+        else if (mXLabels.isAdjustXLabelsEnabled())
             calcModulus();
 
         // execute all drawing commands
@@ -244,8 +361,14 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         if (mDataNotSet)
             return;
 
+        // everything is prepared, remember the versions of the data
+        consumeDataChanges();
+
         calcMinMax(mFixedYValues);
 
+        // data or flags changed, the y-labels need to be computed again
+        mYLabelsCacheValid = false;
+
         prepareYLabels();
 
         prepareXLabels();
@@ -271,8 +394,52 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
 
     @Override
     public void notifyDataSetChanged() {
+
+        mDataChangeCount++;
+
+        if (deferUpdate(DIRTY_DATA))
+            return;
+
+        if (mDataNotSet)
+            return;
+
         if (!mFixedYValues) {
-            prepare();
+
+            int changes = consumeDataChanges();
+
+            // nothing changed since the last preparation, only possible for
+            // changes picked up by the chart itself
+            if (changes == 0)
+                return;
+
+            // only the colors changed (only possible for changes picked up
+            // by the chart itself), the size of the legend stays the same
+            if (changes == ChartData.CHANGED_COLORS) {
+                prepareLegend();
+                return;
+            }
+
+            calcMinMax(mFixedYValues);
+
+            // the y-labels depend on the values
+            if ((changes & (ChartData.CHANGED_VALUES | ChartData.CHANGED_MEMBERSHIP)) != 0) {
+                mYLabelsCacheValid = false;
+                prepareYLabels();
+            }
+
+            // the x-labels depend on the x-values and on the entries for
+            // continuous x-values
+            if ((changes & (ChartData.CHANGED_LABELS | ChartData.CHANGED_MEMBERSHIP
+                    | ChartData.CHANGED_COUNT)) != 0)
+                prepareXLabels();
+
+            // the legend depends on the labels, colors and number of entries
+            if ((changes & (ChartData.CHANGED_LABELS | ChartData.CHANGED_COLORS
+                    | ChartData.CHANGED_MEMBERSHIP | ChartData.CHANGED_COUNT)) != 0)
+                prepareLegend();
+
+            calculateOffsets();
+
             // prepareContentRect();
             mTrans.prepareMatrixValuePx(this);
         } else {
@@ -416,12 +583,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
      */
     protected void calcModulus() {
 
-        float[] values = new float[9];
-        mTrans.getTouchMatrix().getValues(values);
-
-        mXLabels.mXAxisLabelModulus = (int) Math
-                .ceil((mData.getXValCount() * mXLabels.mLabelWidth)
-                        / (mContentRect.width() * values[Matrix.MSCALE_X]));
+        mXLabels.calcModulus(mData.getXValCount(), mContentRect.width(), mTrans.getScaleX());
     }
 
     @Override
@@ -464,27 +626,50 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
     }
 
     /**
-     * setup the x-axis labels
+     * setup the x-axis labels, measures the widest label (plus the space
+     * between labels) that is used for calculating the modulus
      */
     protected void prepareXLabels() {
 
-        StringBuffer a = new StringBuffer();
+        mXLabelPaint.setTypeface(mXLabels.getTypeface());
+        mXLabelPaint.setTextSize(mXLabels.getTextSize());
+
+        int count = mData.getXValCount();
 
-        int max = (int) Math.round(mData.getXValAverageLength()
-                + mXLabels.getSpaceBetweenLabels());
+        // for large numbers of x-values, only evenly distributed samples are
+        // measured
+        int step = Math.max(1, count / MAX_MEASURED_XLABELS);
+
+        float maxWidth = 0f;
+
+        for (int i = 0; i < count; i += step) {
+
+            float width = mXLabels.getLabelWidth(mXLabelPaint, mData.getXVal(i));
+
+            if (width > maxWidth)
+                maxWidth = width;
+        }
 
-        for (int i = 0; i < max; i++) {
+        StringBuffer a = new StringBuffer();
+
+        for (int i = 0; i < mXLabels.getSpaceBetweenLabels(); i++) {
             a.append("h");
         }
 
-        mXLabels.mLabelWidth = Utils.calcTextWidth(mXLabelPaint, a.toString());
+        mXLabels.mLabelWidth = (int) Math.ceil(maxWidth
+                + Utils.calcTextWidth(mXLabelPaint, a.toString()));
         mXLabels.mLabelHeight = Utils.calcTextHeight(mXLabelPaint, "Q");
+
+        mXLabels.invalidateModulus();
     }
 
     /**
      * Sets up the y-axis labels. Computes the desired number of labels between
      * the two given extremes. Unlike the papareXLabels() method, this method
-     * needs to be called upon every refresh of the view.
+     * needs to be called upon every refresh of the view. The computed layout is
+     * cached and only recalculated if an end of the visible y-range moves by
+     * more than half a pixel, or if the label count or the min-max setting
+     * change.
      * 
      * @return
      */
@@ -497,19 +682,24 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         // zoom / contentrect bounds)
         if (mContentRect.width() > 10 && !mTrans.isFullyZoomedOutY()) {
 
-            PointD p1 = getValuesByTouchPoint(mContentRect.left, mContentRect.top);
-            PointD p2 = getValuesByTouchPoint(mContentRect.left, mContentRect.bottom);
+            float[] pts = mYLabelsBuffer;
+            pts[0] = mContentRect.left;
+            pts[1] = mContentRect.top;
+            pts[2] = mContentRect.left;
+            pts[3] = mContentRect.bottom;
+
+            mTrans.pixelsToValue(pts);
 
             if (!mTrans.isInvertYAxisEnabled()) {
-                yMin = (float) p2.y;
-                yMax = (float) p1.y;
+                yMin = pts[3];
+                yMax = pts[1];
             } else {
 
                 if (!mStartAtZero)
-                    yMin = (float) Math.min(p1.y, p2.y);
+                    yMin = Math.min(pts[1], pts[3]);
                 else
                     yMin = 0;
-                yMax = (float) Math.max(p1.y, p2.y);
+                yMax = Math.max(pts[1], pts[3]);
             }
 
         } else {
@@ -527,6 +717,61 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
             }
         }
 
+        if (isYLabelsCacheHit(yMin, yMax))
+            return;
+
+        computeYLabels(yMin, yMax);
+
+        mYLabelsCacheMin = yMin;
+        mYLabelsCacheMax = yMax;
+        mYLabelsCacheChartMin = mYChartMin;
+        mYLabelsCacheChartMax = mYChartMax;
+        mYLabelsCacheCount = mYLabels.getLabelCount();
+        mYLabelsCacheMinMax = mYLabels.isShowOnlyMinMaxEnabled();
+        mYLabelsCacheValid = true;
+
+        // the entries changed, the texts need to be formatted again
+        mYLabels.invalidateFormattedLabels();
+    }
+
+    /**
+     * Returns true if the y-label layout computed for the given visible range
+     * can be reused. Ranges whose ends differ by at most half a pixel are
+     * considered equal.
+     * 
+     * @param yMin
+     * @param yMax
+     * @return
+     */
+    private boolean isYLabelsCacheHit(float yMin, float yMax) {
+
+        if (!mYLabelsCacheValid
+                || mYLabelsCacheCount != mYLabels.getLabelCount()
+                || mYLabelsCacheMinMax != mYLabels.isShowOnlyMinMaxEnabled()
+                || mYLabelsCacheChartMin != mYChartMin
+                || mYLabelsCacheChartMax != mYChartMax)
+            return false;
+
+        float height = mContentRect.height();
+
+        if (height <= 0)
+            return yMin == mYLabelsCacheMin && yMax == mYLabelsCacheMax;
+
+        // half the value-range of a single pixel
+        float tolerance = Math.abs(yMax - yMin) / height / 2f;
+
+        return Math.abs(yMin - mYLabelsCacheMin) <= tolerance
+                && Math.abs(yMax - mYLabelsCacheMax) <= tolerance;
+    }
+
+    /**
+     * Computes the y-label entries for the given visible range.
+     * 
+     * @param yMin
+     * @param yMax
+     */
+    private void computeYLabels(float yMin, float yMax) {
+
         int labelCount = mYLabels.getLabelCount();
         double range = Math.abs(yMax - yMin);
 
@@ -629,6 +874,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
      */
     protected void drawXLabels(float yPos) {
 
+        if (mData.isXContinuous()) {
+            drawContinuousXLabels(yPos);
+            return;
+        }
+
         // pre allocate to save performance (dont allocate in loop)
         float[] position = new float[] {
                 0f, 0f
@@ -646,13 +896,13 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
 
             if (position[0] >= mOffsetLeft && position[0] <= getWidth() - mOffsetRight) {
 
-                String label = mData.getXVals().get(i);
+                String label = mData.getXVal(i);
 
                 if (mXLabels.isAvoidFirstLastClippingEnabled()) {
 
                     // avoid clipping of the last
                     if (i == mData.getXValCount() - 1) {
-                        float width = Utils.calcTextWidth(mXLabelPaint, label);
+                        float width = mXLabels.getLabelWidth(mXLabelPaint, label);
 
                         if (width > getOffsetRight() * 2 && position[0] + width > getWidth())
                             position[0] -= width / 2;
@@ -660,7 +910,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
                         // avoid clipping of the first
                     } else if (i == 0) {
 
-                        float width = Utils.calcTextWidth(mXLabelPaint, label);
+                        float width = mXLabels.getLabelWidth(mXLabelPaint, label);
                         position[0] += width / 2;
                     }
                 }
@@ -687,6 +937,138 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         }
     }
 
+    /**
+     * Tells each DataSet the range of x-indices that is currently visible,
+     * so that DataSets which do not hold all entries in memory (e.g.
+     * PagedLineDataSet) can load the entries of the visible range before the
+     * chart is drawn.
+     */
+    protected void prepareVisibleRange() {
+
+        float[] pts = mVisibleRangeBuffer;
+        pts[0] = mContentRect.left;
+        pts[1] = 0f;
+        pts[2] = mContentRect.right;
+        pts[3] = 0f;
+
+        mTrans.pixelsToValue(pts);
+
+        int from = (int) Math.floor(Math.min(pts[0], pts[2]));
+        int to = (int) Math.ceil(Math.max(pts[0], pts[2]));
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+            mData.getDataSetByIndex(i).prepareVisibleRange(from, to);
+        }
+    }
+
+    /**
+     * Computes the positions of the x-labels if the entries have their own
+     * x-values. The labels are placed at round multiples of an interval that
+     * leaves enough space for the widest label at the current scale.
+     */
+    private void prepareContinuousXLabels() {
+
+        float[] pts = mXLabelsBuffer;
+        pts[0] = mContentRect.left;
+        pts[1] = 0f;
+        pts[2] = mContentRect.right;
+        pts[3] = 0f;
+
+        mTrans.pixelsToValue(pts);
+
+        double origin = mData.getXOrigin();
+        double min = Math.min(pts[0], pts[2]) + origin;
+        double max = Math.max(pts[0], pts[2]) + origin;
+        double range = max - min;
+
+        int labelCount = (int) (mContentRect.width() / Math.max(1, mXLabels.mLabelWidth));
+
+        if (labelCount < 1 || range <= 0) {
+            mContinuousXLabelCount = 0;
+            return;
+        }
+
+        // smallest interval of 1, 2 or 5 times a power of ten that is large
+        // enough
+        double rawInterval = range / labelCount;
+        double magnitude = Math.pow(10, Math.floor(Math.log10(rawInterval)));
+        double interval = magnitude;
+
+        if (interval < rawInterval)
+            interval = 2 * magnitude;
+        if (interval < rawInterval)
+            interval = 5 * magnitude;
+        if (interval < rawInterval)
+            interval = 10 * magnitude;
+
+        double first = Math.ceil(min / interval) * interval;
+
+        int n = 0;
+        for (double f = first; f <= max; f += interval) {
+            ++n;
+        }
+
+        if (mContinuousXLabels.length < n)
+            mContinuousXLabels = new double[n];
+
+        double f = first;
+        for (int i = 0; i < n; i++, f += interval) {
+            mContinuousXLabels[i] = f - origin;
+        }
+
+        mContinuousXLabelCount = n;
+        mContinuousXLabelDecimals = interval < 1 ? (int) Math.ceil(-Math.log10(interval)) : 0;
+    }
+
+    /**
+     * Returns the formatted label for the given x-value, used if the entries
+     * have their own x-values.
+     * 
+     * @param x
+     * @return
+     */
+    private String getFormattedContinuousXLabel(double x) {
+
+        if (mXLabels.getFormatter() != null)
+            return mXLabels.getFormatter().getFormattedXValue(x);
+
+        if (mData.getXValueProvider() instanceof EntryXValueProvider)
+            return ((EntryXValueProvider) mData.getXValueProvider()).getFormatter()
+                    .getFormattedXValue(x);
+
+        if (mContinuousXLabelDecimals == 0)
+            return Long.toString(Math.round(x));
+        else
+            return Utils.formatDecimal(x, mContinuousXLabelDecimals);
+    }
+
+    /**
+     * draws the x-labels on the specified y-position if the entries have their
+     * own x-values
+     * 
+     * @param yPos
+     */
+    private void drawContinuousXLabels(float yPos) {
+
+        float[] position = mXLabelsBuffer;
+        double origin = mData.getXOrigin();
+
+        for (int i = 0; i < mContinuousXLabelCount; i++) {
+
+            position[0] = (float) mContinuousXLabels[i];
+            position[1] = 0f;
+
+            mTrans.pointValuesToPixel(position);
+
+            if (position[0] >= mOffsetLeft && position[0] <= getWidth() - mOffsetRight) {
+
+                String label = getFormattedContinuousXLabel(mContinuousXLabels[i] + origin);
+
+                mDrawCanvas.drawText(label, position[0], yPos, mXLabelPaint);
+            }
+        }
+    }
+
     /**
      * draws the y-axis labels to the screen
      */
@@ -695,7 +1077,10 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         if (!mDrawYLabels)
             return;
 
-        float[] positions = new float[mYLabels.mEntryCount * 2];
+        if (mYLabelPositions.length != mYLabels.mEntryCount * 2)
+            mYLabelPositions = new float[mYLabels.mEntryCount * 2];
+
+        float[] positions = mYLabelPositions;
 
         for (int i = 0; i < positions.length; i += 2) {
             // only fill y values, x values are not needed since the y-labels
@@ -706,6 +1091,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
 
         mTrans.pointValuesToPixel(positions);
 
+        prepareYLabelTexts();
+
         mYLabelPaint.setTypeface(mYLabels.getTypeface());
         mYLabelPaint.setTextSize(mYLabels.getTextSize());
         mYLabelPaint.setColor(mYLabels.getTextColor());
@@ -746,6 +1133,31 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         }
     }
 
+    /**
+     * Creates the texts of the y-labels (including the unit if enabled). The
+     * texts are only created again if the y-label entries, the formatting or
+     * the unit changed.
+     */
+    private void prepareYLabelTexts() {
+
+        String unit = mYLabels.isDrawUnitsInYLabelEnabled() ? mUnit : "";
+
+        if (mYLabelTextsUnit != null && mYLabelTextsUnit.equals(unit)
+                && mYLabelTextsVersion == mYLabels.getFormattedLabelsVersion()
+                && mYLabelTexts.length == mYLabels.mEntryCount)
+            return;
+
+        if (mYLabelTexts.length != mYLabels.mEntryCount)
+            mYLabelTexts = new String[mYLabels.mEntryCount];
+
+        for (int i = 0; i < mYLabels.mEntryCount; i++) {
+            mYLabelTexts[i] = mYLabels.getFormattedLabel(i) + unit;
+        }
+
+        mYLabelTextsUnit = unit;
+        mYLabelTextsVersion = mYLabels.getFormattedLabelsVersion();
+    }
+
     /**
      * draws the y-labels on the specified x-position
      * 
@@ -757,17 +1169,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         // draw
         for (int i = 0; i < mYLabels.mEntryCount; i++) {
 
-            String text = mYLabels.getFormattedLabel(i);
-
             if (!mYLabels.isDrawTopYLabelEntryEnabled() && i >= mYLabels.mEntryCount - 1)
                 return;
 
-            if (mYLabels.isDrawUnitsInYLabelEnabled()) {
-                mDrawCanvas.drawText(text + mUnit, xPos, positions[i * 2 + 1] + yOffset,
-                        mYLabelPaint);
-            } else {
-                mDrawCanvas.drawText(text, xPos, positions[i * 2 + 1] + yOffset, mYLabelPaint);
-            }
+            mDrawCanvas.drawText(mYLabelTexts[i], xPos, positions[i * 2 + 1] + yOffset,
+                    mYLabelPaint);
         }
     }
 
@@ -869,6 +1275,22 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
                 0f, 0f
         };
 
+        if (mData.isXContinuous()) {
+
+            for (int i = 0; i < mContinuousXLabelCount; i++) {
+
+                position[0] = (float) mContinuousXLabels[i];
+                position[1] = 0f;
+
+                mTrans.pointValuesToPixel(position);
+
+                mDrawCanvas.drawLine(position[0], mOffsetTop, position[0], getHeight()
+                        - mOffsetBottom, mGridPaint);
+            }
+
+            return;
+        }
+
         for (int i = 0; i < mData.getXValCount(); i += mXLabels.mXAxisLabelModulus) {
 
             position[0] = i;
@@ -1064,6 +1486,66 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         mTrans.refresh(save, this);
     }
 
+    /**
+     * Returns a snapshot of the data of the chart that also contains the
+     * current zoom and translation of the chart, or null if no data is set.
+     * 
+     * @return
+     */
+    @Override
+    public ChartDataSnapshot createDataSnapshot() {
+
+        ChartDataSnapshot snapshot = super.createDataSnapshot();
+
+        if (snapshot == null || mContentRect.width() <= 0f || mContentRect.height() <= 0f)
+            return snapshot;
+
+        float[] vals = new float[9];
+        mTrans.getTouchMatrix().getValues(vals);
+
+        // the translation is stored relative to the content size because the
+        // size may change together with the configuration
+        snapshot.setViewport(vals[Matrix.MSCALE_X], vals[Matrix.MSCALE_Y],
+                vals[Matrix.MTRANS_X] / mContentRect.width(),
+                vals[Matrix.MTRANS_Y] / mContentRect.height());
+
+        return snapshot;
+    }
+
+    /**
+     * Sets the data of the given snapshot as the data of the chart and
+     * restores the zoom and translation of the snapshot before the chart is
+     * drawn the next time.
+     * 
+     * @param snapshot
+     */
+    @Override
+    public void restoreDataSnapshot(ChartDataSnapshot snapshot) {
+        super.restoreDataSnapshot(snapshot);
+
+        if (snapshot != null)
+            mPendingViewport = snapshot.getViewport();
+    }
+
+    /**
+     * Sets the viewport of a restored snapshot as the touch matrix, called
+     * once the content rect is known.
+     */
+    private void applyPendingViewport() {
+
+        float[] viewport = mPendingViewport;
+        mPendingViewport = null;
+
+        Matrix matrix = new Matrix();
+        matrix.setValues(new float[] {
+                viewport[0], 0f, viewport[2] * mContentRect.width(),
+                0f, viewport[1], viewport[3] * mContentRect.height(),
+                0f, 0f, 1f
+        });
+
+        mTrans.refresh(matrix, this);
+    }
+
     /**
      * If this is set to true, the y-axis is inverted which means that low
      * values are on top of the chart, high values on bottom.
@@ -1226,7 +1708,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
             return null;
 
         float[] vals = new float[] {
-                e.getXIndex(), e.getVal()
+                mData.getXPosition(e), e.getVal()
         };
 
         if (this instanceof BarChart) {
@@ -1364,6 +1846,26 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         return mDoubleTapToZoomEnabled;
     }
 
+    /**
+     * Set this to true to highlight the touched values while dragging over
+     * the chart when it cannot be dragged (fully zoomed out). Default:
+     * disabled
+     * 
+     * @param enabled
+     */
+    public void setHighlightPerDragEnabled(boolean enabled) {
+        mHighlightPerDragEnabled = enabled;
+    }
+
+    /**
+     * Returns true if values are highlighted by dragging over the chart.
+     * 
+     * @return
+     */
+    public boolean isHighlightPerDragEnabled() {
+        return mHighlightPerDragEnabled;
+    }
+
     /**
      * if set to true, the vertical grid will be drawn, default: true
      * 
@@ -1511,13 +2013,15 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
             return null;
         }
 
-        // create an array of the touch-point
-        float[] pts = new float[2];
+        float[] pts = mTouchPointBuffer;
         pts[0] = x;
         pts[1] = y;
 
         mTrans.pixelsToValue(pts);
 
+        if (mData.isXContinuous())
+            return getContinuousHighlight(pts[0], pts[1]);
+
         double xTouchVal = pts[0];
         double yTouchVal = pts[1];
         double base = Math.floor(xTouchVal);
@@ -1552,9 +2056,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
             xIndex = (int) base + 1;
         }
 
-        ArrayList<SelInfo> valsAtIndex = getYValsAtIndex(xIndex);
-
-        dataSetIndex = Utils.getClosestDataSetIndex(valsAtIndex, (float) yTouchVal);
+        dataSetIndex = getClosestDataSetIndex(xIndex, (float) yTouchVal);
 
         if (dataSetIndex == -1)
             return null;
@@ -1563,7 +2065,245 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleData<? exte
         // + dataSetIndex,
         // Toast.LENGTH_SHORT).show();
 
-        return new Highlight(xIndex, dataSetIndex);
+        return obtainTouchHighlight(xIndex, dataSetIndex);
+    }
+
+    /**
+     * Returns the Highlight of the drawn Entry that is closest to the given
+     * touch point in pixels, across all DataSets. Touch points outside of
+     * the content rect are moved to its border. Uses a spatial index over the
+     * pixel positions of the entries inside the content rect, which is only
+     * rebuilt if the data was changed (or notifyDataSetChanged() was called),
+     * or the zoom, the translation or the animation phase changed since the
+     * last lookup, so dragging the highlight does not allocate. Returns null
+     * if no Entry is drawn.
+     * 
+     * @param x
+     * @param y
+     * @return
+     */
+    protected Highlight getNearestHighlight(float x, float y) {
+
+        if (mDataNotSet || mData == null) {
+            Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return null;
+        }
+
+        if (isPointIndexStale())
+            buildPointIndex();
+
+        x = Math.max(mContentRect.left, Math.min(x, mContentRect.right));
+        y = Math.max(mContentRect.top, Math.min(y, mContentRect.bottom));
+
+        int point = mPointIndex.nearest(x, y);
+
+        if (point < 0)
+            return null;
+
+        return obtainTouchHighlight(mPointIndex.getXIndex(point),
+                mPointIndex.getDataSetIndex(point));
+    }
+
+    /**
+     * Returns true if the point index needs to be rebuilt. Compares the
+     * pixel position of two reference values, which covers all matrices of
+     * the Transformer.
+     * 
+     * @return
+     */
+    private boolean isPointIndexStale() {
+
+        float[] key = mPointIndexProbe;
+        key[0] = 0f;
+        key[1] = 0f;
+        key[2] = 1f;
+        key[3] = 1f;
+
+        mTrans.pointValuesToPixel(key);
+
+        int version = mData.getValuesVersion();
+
+        boolean stale = mPointIndex == null || mPointIndexData != mData
+                || mPointIndexVersion != version
+                || mPointIndexChangeCount != mDataChangeCount || mPointIndexKey[4] != mPhaseY
+                || mPointIndexKey[5] != mPhaseX;
+
+        for (int i = 0; i < 4; i++) {
+            if (mPointIndexKey[i] != key[i])
+                stale = true;
+
+            mPointIndexKey[i] = key[i];
+        }
+
+        mPointIndexKey[4] = mPhaseY;
+        mPointIndexKey[5] = mPhaseX;
+        mPointIndexData = mData;
+        mPointIndexVersion = version;
+        mPointIndexChangeCount = mDataChangeCount;
+
+        return stale;
+    }
+
+    /**
+     * Transforms the drawn entries of the visible x-range into pixels in
+     * chunks and adds the ones inside the content rect to the point index.
+     * The visible range is found with binary search, as for drawing the
+     * lines. Entries beyond the animated x-phase are not drawn and not added.
+     */
+    private void buildPointIndex() {
+
+        if (mPointIndex == null) {
+            mPointIndex = new NearestPointIndex();
+            mPointIndexBuffer = new float[2048];
+        }
+
+        mPointIndex.reset(mContentRect.left, mContentRect.top, mContentRect.right,
+                mContentRect.bottom);
+
+        float[] range = mPointIndexRange;
+        range[0] = mContentRect.left;
+        range[1] = 0f;
+        range[2] = mContentRect.right;
+        range[3] = 0f;
+
+        mTrans.pixelsToValue(range);
+
+        float minX = Math.min(range[0], range[2]);
+        float maxX = Math.max(range[0], range[2]);
+
+        float[] buffer = mPointIndexBuffer;
+        int chunk = buffer.length / 2;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+            ArrayList<? extends Entry> entries = mData.getDataSetByIndex(i).getYVals();
+
+            int size = Math.min(entries.size(),
+                    (int) Math.ceil(entries.size() * mPhaseX));
+
+            // the entries are sorted by their x-position
+            int start = getFirstEntryIndexAt(entries, size, minX);
+            int end = getFirstEntryIndexAt(entries, size, Math.nextUp(maxX));
+
+            for (int from = start; from < end; from += chunk) {
+
+                int count = Math.min(chunk, end - from);
+
+                for (int j = 0; j < count; j++) {
+                    Entry e = entries.get(from + j);
+                    buffer[j * 2] = mData.getXPosition(e);
+                    buffer[j * 2 + 1] = e.getVal() * mPhaseY;
+                }
+
+                mTrans.pointValuesToPixel(buffer, count);
+
+                for (int j = 0; j < count; j++)
+                    mPointIndex.add(buffer[j * 2], buffer[j * 2 + 1], i,
+                            entries.get(from + j).getXIndex());
+            }
+        }
+
+        mPointIndex.build();
+    }
+
+    /**
+     * Returns the index of the first of the given number of entries whose
+     * x-position is at or after the given x-position, or count if there is
+     * none. The entries need to be sorted by their x-position.
+     * 
+     * @param entries
+     * @param count
+     * @param xPosition
+     * @return
+     */
+    protected int getFirstEntryIndexAt(ArrayList<? extends Entry> entries, int count,
+            float xPosition) {
+
+        int low = 0;
+        int high = count;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mData.getXPosition(entries.get(m)) < xPosition)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the Highlight for the given touch position (in values) if the
+     * entries have their own x-values. Looks up the Entry closest to the
+     * touched x-value in each DataSet (binary search) and selects the one
+     * closest to the touched y-value.
+     * 
+     * @param xTouchVal x-value relative to the x-origin
+     * @param yTouchVal
+     * @return
+     */
+    private Highlight getContinuousHighlight(float xTouchVal, float yTouchVal) {
+
+        double touchOffset = mDeltaX * 0.025;
+
+        // touch out of chart
+        if (xTouchVal < -touchOffset || xTouchVal > mDeltaX + touchOffset)
+            return null;
+
+        double x = xTouchVal + mData.getXOrigin();
+
+        // candles are drawn to the right of their x-value
+        if (this instanceof CandleStickChart)
+            x -= ((CandleStickChart) this).getCandleWidth() / 2f;
+
+        int dataSetIndex = -1;
+        int xIndex = -1;
+        float distance = Float.MAX_VALUE;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+            Entry e = mData.getDataSetByIndex(i).getEntryForX(x);
+
+            if (e == null)
+                continue;
+
+            float cdistance = Math.abs(e.getVal() - yTouchVal);
+
+            if (cdistance < distance) {
+                distance = cdistance;
+                dataSetIndex = i;
+                xIndex = e.getXIndex();
+            }
+        }
+
+        if (dataSetIndex == -1)
+            return null;
+
+        return obtainTouchHighlight(xIndex, dataSetIndex);
+    }
+
+    /**
+     * Returns a Highlight for the given indices. The Highlight of the last
+     * touch lookup is returned again if it has the same indices, so that
+     * dragging over the same value does not allocate. Highlights are
+     * immutable, sharing them is safe.
+     * 
+     * @param xIndex
+     * @param dataSetIndex
+     * @return
+     */
+    protected Highlight obtainTouchHighlight(int xIndex, int dataSetIndex) {
+
+        Highlight h = mTouchHighlight;
+
+        if (h == null || h.getXIndex() != xIndex || h.getDataSetIndex() != dataSetIndex) {
+            h = new Highlight(xIndex, dataSetIndex);
+            mTouchHighlight = h;
+        }
+
+        return h;
     }
 
     /**
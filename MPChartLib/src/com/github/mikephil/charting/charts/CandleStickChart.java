@@ -8,6 +8,7 @@ import android.util.AttributeSet;
 import com.github.mikephil.charting.data.CandleData;
 import com.github.mikephil.charting.data.CandleDataSet;
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
 
 import java.util.ArrayList;
 
@@ -18,6 +19,13 @@ import java.util.ArrayList;
  */
 public class CandleStickChart extends BarLineChartBase<CandleData> {
 
+    /**
+     * the width of a candle in x-values, 1 for candles positioned by x-index,
+     * the smallest average distance between candles if the candles have their
+     * own x-values
+     */
+    private float mCandleWidth = 1f;
+
     public CandleStickChart(Context context) {
         super(context);
     }
@@ -34,8 +42,46 @@ public class CandleStickChart extends BarLineChartBase<CandleData> {
     protected void calcMinMax(boolean fixedValues) {
         super.calcMinMax(fixedValues);
 
-        // increase deltax by 1 because the candles have a width of 1
-        mDeltaX++;
+        mCandleWidth = 1f;
+
+        if (mData.isXContinuous()) {
+
+            for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+                CandleDataSet set = mData.getDataSetByIndex(i);
+
+                if (set.getEntryCount() < 2)
+                    continue;
+
+                float width = (float) ((set.getXMax() - set.getXMin()) / (set.getEntryCount() - 1));
+
+                if (i == 0 || width < mCandleWidth)
+                    mCandleWidth = width;
+            }
+        }
+
+        // increase deltax by the width of a candle
+        mDeltaX += mCandleWidth;
+    }
+
+    /**
+     * Returns the width of a candle in x-values. This is 1 for candles
+     * positioned by their x-index.
+     * 
+     * @return
+     */
+    public float getCandleWidth() {
+        return mCandleWidth;
+    }
+
+    @Override
+    protected void getMarkerPosition(Entry e, int dataSetIndex, float[] pos) {
+
+        // make sure the marker is in the center of the candle
+        pos[0] = mData.getXPosition(e) + mCandleWidth / 2f;
+        pos[1] = e.getVal() * mPhaseY;
+
+        mTrans.pointValuesToPixel(pos);
     }
 
     @Override
@@ -116,9 +162,11 @@ public class CandleStickChart extends BarLineChartBase<CandleData> {
      */
     private void transformBody(float[] bodyPoints, CandleEntry e, float bodySpace) {
 
-        bodyPoints[0] = e.getXIndex() + bodySpace;
+        float x = mData.getXPosition(e);
+
+        bodyPoints[0] = x + bodySpace * mCandleWidth;
         bodyPoints[1] = e.getClose() * mPhaseY;
-        bodyPoints[2] = e.getXIndex() + (1f - bodySpace);
+        bodyPoints[2] = x + (1f - bodySpace) * mCandleWidth;
         bodyPoints[3] = e.getOpen() * mPhaseY;
 
         mTrans.pointValuesToPixel(bodyPoints);
@@ -132,9 +180,11 @@ public class CandleStickChart extends BarLineChartBase<CandleData> {
      */
     private void transformShadow(float[] shadowPoints, CandleEntry e) {
 
-        shadowPoints[0] = e.getXIndex() + 0.5f;
+        float x = mData.getXPosition(e) + mCandleWidth / 2f;
+
+        shadowPoints[0] = x;
         shadowPoints[1] = e.getHigh() * mPhaseY;
-        shadowPoints[2] = e.getXIndex() + 0.5f;
+        shadowPoints[2] = x;
         shadowPoints[3] = e.getLow() * mPhaseY;
 
         mTrans.pointValuesToPixel(shadowPoints);
@@ -173,10 +223,11 @@ public class CandleStickChart extends BarLineChartBase<CandleData> {
 
             float low = e.getLow() * mPhaseY;
             float high = e.getHigh() * mPhaseY;
+            float x = mData.getXPosition(e);
 
             float[] vertPts = new float[] {
-                    xIndex, mYChartMax, xIndex, mYChartMin, xIndex + 1f, mYChartMax, xIndex + 1f,
-                    mYChartMin
+                    x, mYChartMax, x, mYChartMin, x + mCandleWidth, mYChartMax,
+                    x + mCandleWidth, mYChartMin
             };
 
             float[] horPts = new float[] {
@@ -16,6 +16,7 @@ import android.graphics.PointF;
 import android.graphics.RectF;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.os.Environment;
 import android.provider.MediaStore.Images;
 import android.text.TextUtils;
@@ -24,9 +25,9 @@ import android.util.Log;
 import android.view.View;
 import android.view.ViewParent;
 
-import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.ChartDataSnapshot;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.PieDataSet;
@@ -39,6 +40,7 @@ import com.github.mikephil.charting.utils.Legend;
 import com.github.mikephil.charting.utils.Legend.LegendPosition;
 import com.github.mikephil.charting.utils.MarkerView;
 import com.github.mikephil.charting.utils.SelInfo;
+import com.github.mikephil.charting.utils.SvgCanvas;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ValueFormatter;
 
@@ -48,6 +50,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Baseclass of all Chart-Views.
@@ -352,6 +356,111 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
         Log.i(LOG_TAG, "Data is set.");
     }
 
+    /**
+     * Returns a snapshot of the data of the chart that can be saved across
+     * configuration changes (e.g. put into the Bundle in
+     * onSaveInstanceState(...)) and restored with restoreDataSnapshot(...).
+     * Returns null if no data is set.
+     * 
+     * @return
+     */
+    public ChartDataSnapshot createDataSnapshot() {
+
+        if (mDataNotSet || mData == null)
+            return null;
+
+        return new ChartDataSnapshot(mData);
+    }
+
+    /**
+     * Sets the data of the given snapshot as the data of the chart. The
+     * snapshot needs to be created from a chart of the same type. The
+     * entries are restored without recalculating their aggregates.
+     * 
+     * @param snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public void restoreDataSnapshot(ChartDataSnapshot snapshot) {
+
+        if (snapshot == null) {
+            Log.e(LOG_TAG, "Cannot restore data for chart. Provided snapshot is null.");
+            return;
+        }
+
+        setData((T) snapshot.restore());
+    }
+
+    /**
+     * the data object that was published from any thread and will be drawn
+     * with the next frame, null if nothing new was published
+     */
+    private final AtomicReference<T> mPublishedData = new AtomicReference<T>();
+
+    /**
+     * Publishes a new data object for the chart. Can be called from any
+     * thread. The data object replaces the current data of the chart on the
+     * UI thread right before the next draw, all publications in between two
+     * frames are coalesced and only the last one is drawn. The published
+     * object must not be modified after publishing it, use publishSnapshot(...)
+     * for data that is modified further by the calling thread.
+     * 
+     * @param data
+     */
+    public void publishData(T data) {
+
+        if (data == null) {
+            Log.e(LOG_TAG, "Cannot publish data for chart. Provided data object is null.");
+            return;
+        }
+
+        mPublishedData.set(data);
+        postInvalidate();
+    }
+
+    /**
+     * Publishes a copy of the given data object for the chart. Can be called
+     * from any thread. The given object is a staging buffer that is owned by
+     * the calling thread and can be modified further after publishing, the
+     * chart only ever draws the copy.
+     * 
+     * @param staging
+     */
+    @SuppressWarnings("unchecked")
+    public void publishSnapshot(T staging) {
+
+        if (staging == null) {
+            Log.e(LOG_TAG, "Cannot publish data for chart. Provided data object is null.");
+            return;
+        }
+
+        publishData((T) staging.copy());
+    }
+
+    /**
+     * Replaces the data of the chart with the most recently published data
+     * object, if there is one. Called on the UI thread before drawing.
+     */
+    private void swapPublishedData() {
+
+        T data = mPublishedData.getAndSet(null);
+
+        if (data == null)
+            return;
+
+        boolean first = mDataNotSet;
+
+        mDataNotSet = false;
+        mData = data;
+
+        prepare();
+
+        // only needed once, the formats of the first data are kept afterwards
+        if (first) {
+            mOffsetsCalculated = false;
+            calcFormats();
+        }
+    }
+
     /**
      * Clears the chart from all data and refreshes it (by calling
      * invalidate()).
@@ -389,10 +498,234 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
     /**
      * Lets the chart know its underlying data has changed and performs all
-     * necessary recalculations.
+     * necessary recalculations. If called during a batch update, the
+     * recalculations are deferred until the next draw.
      */
     public abstract void notifyDataSetChanged();
 
+    /** the data object the chart was last prepared for */
+    private ChartData<?> mPreparedData = null;
+
+    /** the versions and counts of the data the chart was last prepared for */
+    private int mPreparedValuesVersion, mPreparedColorsVersion, mPreparedMembershipVersion;
+    private int mPreparedXValCount, mPreparedYValCount;
+
+    /**
+     * true while the chart itself notifies about data changes it picked up,
+     * only then nothing is recalculated if no version of the data changed
+     */
+    private boolean mVersionChangesOnly = false;
+
+    /**
+     * Calls notifyDataSetChanged() for changes the chart picked up itself
+     * (e.g. drained ingest queues). Unlike an explicit call of
+     * notifyDataSetChanged(), this does nothing if no version of the data
+     * changed.
+     */
+    protected void notifyVersionChanges() {
+
+        mVersionChangesOnly = true;
+
+        try {
+            notifyDataSetChanged();
+        } finally {
+            mVersionChangesOnly = false;
+        }
+    }
+
+    /**
+     * Returns which aspects of the data changed since the last call of this
+     * method (ChartData.CHANGED_VALUES, CHANGED_LABELS, ...) by comparing the
+     * versions of the data, and remembers the current versions. Returns all
+     * flags if the data object itself was replaced, and on every explicit
+     * call of notifyDataSetChanged(), which may follow changes that have no
+     * version (entries modified in place, changed settings of the legend or
+     * labels). Only the internal notifyVersionChanges() uses the fine-grained
+     * flags.
+     * 
+     * @return
+     */
+    protected int consumeDataChanges() {
+
+        if (mData == null)
+            return 0;
+
+        int valuesVersion = mData.getValuesVersion();
+        int colorsVersion = mData.getColorsVersion();
+        int membershipVersion = mData.getMembershipVersion();
+        int xValCount = mData.getXValCount();
+        int yValCount = mData.getYValCount();
+
+        int changes = 0;
+
+        if (mData != mPreparedData) {
+
+            changes = ChartData.CHANGED_VALUES | ChartData.CHANGED_LABELS
+                    | ChartData.CHANGED_COLORS | ChartData.CHANGED_MEMBERSHIP
+                    | ChartData.CHANGED_COUNT;
+        } else {
+
+            if (valuesVersion != mPreparedValuesVersion)
+                changes |= ChartData.CHANGED_VALUES;
+            if (colorsVersion != mPreparedColorsVersion)
+                changes |= ChartData.CHANGED_COLORS;
+            if (membershipVersion != mPreparedMembershipVersion)
+                changes |= ChartData.CHANGED_MEMBERSHIP;
+            if (xValCount != mPreparedXValCount)
+                changes |= ChartData.CHANGED_LABELS;
+            if (yValCount != mPreparedYValCount)
+                changes |= ChartData.CHANGED_COUNT;
+
+            if (!mVersionChangesOnly)
+                changes = ChartData.CHANGED_VALUES | ChartData.CHANGED_LABELS
+                        | ChartData.CHANGED_COLORS | ChartData.CHANGED_MEMBERSHIP
+                        | ChartData.CHANGED_COUNT;
+        }
+
+        mPreparedData = mData;
+        mPreparedValuesVersion = valuesVersion;
+        mPreparedColorsVersion = colorsVersion;
+        mPreparedMembershipVersion = membershipVersion;
+        mPreparedXValCount = xValCount;
+        mPreparedYValCount = yValCount;
+
+        return changes;
+    }
+
+    /** flag for the dirty state, the data changed, everything is prepared again */
+    public static final int DIRTY_DATA = 1;
+
+    /** flag for the dirty state, the legend needs to be prepared again */
+    public static final int DIRTY_LEGEND = 2;
+
+    /** flag for the dirty state, the offsets need to be calculated again */
+    public static final int DIRTY_OFFSETS = 4;
+
+    /** the state of the chart that needs to be recalculated before drawing */
+    private int mDirtyFlags = 0;
+
+    /** the number of nested beginBatchUpdate() calls */
+    private int mBatchUpdateDepth = 0;
+
+    /**
+     * Starts a batch update. Until endBatchUpdate() is called,
+     * notifyDataSetChanged() and markDirty(...) only mark the chart as dirty,
+     * the recalculations are done once before the next draw. Batch updates
+     * can be nested. Must be called on the UI thread.
+     */
+    public void beginBatchUpdate() {
+        mBatchUpdateDepth++;
+    }
+
+    /**
+     * Ends a batch update started with beginBatchUpdate(). If this ends the
+     * outermost batch update and the chart is dirty, a redraw is scheduled for
+     * the next frame.
+     */
+    public void endBatchUpdate() {
+
+        if (mBatchUpdateDepth == 0) {
+            Log.e(LOG_TAG, "endBatchUpdate() called without beginBatchUpdate().");
+            return;
+        }
+
+        mBatchUpdateDepth--;
+
+        if (mBatchUpdateDepth == 0 && mDirtyFlags != 0)
+            invalidateOnNextFrame();
+    }
+
+    /**
+     * Returns true if the chart is currently in a batch update.
+     * 
+     * @return
+     */
+    public boolean isBatchUpdating() {
+        return mBatchUpdateDepth > 0;
+    }
+
+    /**
+     * Marks the given state of the chart as dirty (DIRTY_DATA, DIRTY_LEGEND,
+     * DIRTY_OFFSETS, can be combined). The dirty state is recalculated only
+     * once, before the next draw, no matter how often it was marked. If not in
+     * a batch update, a redraw is scheduled for the next frame.
+     * 
+     * @param flags
+     */
+    public void markDirty(int flags) {
+
+        mDirtyFlags |= flags;
+
+        if (mBatchUpdateDepth == 0)
+            invalidateOnNextFrame();
+    }
+
+    /**
+     * Returns true if some state of the chart is marked as dirty and will be
+     * recalculated before the next draw.
+     * 
+     * @return
+     */
+    public boolean isDirty() {
+        return mDirtyFlags != 0;
+    }
+
+    /**
+     * Defers the recalculation of the given state if the chart is in a batch
+     * update. Returns true if it was deferred, false if the caller needs to
+     * do the recalculation right away.
+     * 
+     * @param flags
+     * @return
+     */
+    protected boolean deferUpdate(int flags) {
+
+        if (mBatchUpdateDepth == 0)
+            return false;
+
+        mDirtyFlags |= flags;
+        return true;
+    }
+
+    /**
+     * Recalculates all state that was marked as dirty. Called before drawing,
+     * nothing is done while a batch update is in progress.
+     */
+    protected void processDirtyState() {
+
+        // a batch update that spans multiple frames is processed when it ends
+        if (mDirtyFlags == 0 || mBatchUpdateDepth > 0)
+            return;
+
+        int flags = mDirtyFlags;
+        mDirtyFlags = 0;
+
+        if ((flags & DIRTY_DATA) != 0) {
+
+            // preparing the data also prepares the legend and offsets
+            notifyDataSetChanged();
+            return;
+        }
+
+        if ((flags & DIRTY_LEGEND) != 0)
+            prepareLegend();
+
+        if ((flags & DIRTY_OFFSETS) != 0)
+            calculateOffsets();
+    }
+
+    /**
+     * Schedules a redraw of the chart aligned with the next display frame
+     * where supported (API 16+), otherwise invalidates the chart.
+     */
+    private void invalidateOnNextFrame() {
+
+        if (Build.VERSION.SDK_INT >= 16)
+            postInvalidateOnAnimation();
+        else
+            invalidate();
+    }
+
     /**
      * calculates the offsets of the chart to the border depending on the
      * position of an eventual legend or depending on the length of the y-axis
@@ -412,7 +745,11 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
         // calc delta
         mDeltaY = Math.abs(mYChartMax - mYChartMin);
-        mDeltaX = mData.getXVals().size() - 1;
+
+        if (mData.isXContinuous())
+            mDeltaX = (float) (mData.getXMax() - mData.getXMin());
+        else
+            mDeltaX = mData.getXValCount() - 1;
     }
 
     /**
@@ -464,6 +801,13 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
     protected void onDraw(Canvas canvas) {
         // super.onDraw(canvas);
 
+        // pick up the data published by other threads
+        swapPublishedData();
+
+        // add the values queued by producer threads, all in one batch
+        if (!mDataNotSet && mData != null && mData.drainIngestQueues() > 0)
+            notifyVersionChanges();
+
         if (mDataNotSet) { // check if there is data
 
             // if no data, inform the user
@@ -477,6 +821,9 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
             return;
         }
 
+        // do all recalculations that were deferred since the last draw
+        processDirtyState();
+
         if (!mOffsetsCalculated) {
 
             calculateOffsets();
@@ -516,14 +863,22 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
     public void prepareLegend() {
 
         ArrayList<String> labels = new ArrayList<String>();
-        ArrayList<Integer> colors = new ArrayList<Integer>();
+
+        // at most all colors of each DataSet plus one description label
+        int maxColors = 0;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++)
+            maxColors += mData.getDataSetByIndex(i).getColorCount() + 1;
+
+        int[] colors = new int[maxColors];
+        int colorCount = 0;
 
         // loop for building up the colors and labels used in the legend
         for (int i = 0; i < mData.getDataSetCount(); i++) {
 
             DataSet<? extends Entry> dataSet = mData.getDataSetByIndex(i);
 
-            ArrayList<Integer> clrs = dataSet.getColors();
+            int[] clrs = dataSet.getColorArray();
             int entryCount = dataSet.getEntryCount();
 
             // if we have a barchart with stacked bars
@@ -532,37 +887,36 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
                 BarDataSet bds = (BarDataSet) dataSet;
                 String[] sLabels = bds.getStackLabels();
 
-                for (int j = 0; j < clrs.size() && j < entryCount && j < bds.getStackSize(); j++) {
+                for (int j = 0; j < clrs.length && j < entryCount && j < bds.getStackSize(); j++) {
 
                     labels.add(sLabels[j % sLabels.length]);
-                    colors.add(clrs.get(j));
+                    colors[colorCount++] = clrs[j];
                 }
 
                 // add the legend description label
-                colors.add(-2);
+                colors[colorCount++] = -2;
                 labels.add(bds.getLabel());
 
             } else if (dataSet instanceof PieDataSet) {
 
-                ArrayList<String> xVals = mData.getXVals();
                 PieDataSet pds = (PieDataSet) dataSet;
 
-                for (int j = 0; j < clrs.size() && j < entryCount && j < xVals.size(); j++) {
+                for (int j = 0; j < clrs.length && j < entryCount && j < mData.getXValCount(); j++) {
 
-                    labels.add(xVals.get(j));
-                    colors.add(clrs.get(j));
+                    labels.add(mData.getXVal(j));
+                    colors[colorCount++] = clrs[j];
                 }
 
                 // add the legend description label
-                colors.add(-2);
+                colors[colorCount++] = -2;
                 labels.add(pds.getLabel());
 
             } else { // all others
 
-                for (int j = 0; j < clrs.size() && j < entryCount; j++) {
+                for (int j = 0; j < clrs.length && j < entryCount; j++) {
 
                     // if multiple colors are set for a DataSet, group them
-                    if (j < clrs.size() - 1 && j < entryCount - 1) {
+                    if (j < clrs.length - 1 && j < entryCount - 1) {
 
                         labels.add(null);
                     } else { // add label to the last entry
@@ -571,12 +925,13 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
                         labels.add(label);
                     }
 
-                    colors.add(clrs.get(j));
+                    colors[colorCount++] = clrs[j];
                 }
             }
         }
 
-        Legend l = new Legend(colors, labels);
+        Legend l = new Legend(Arrays.copyOf(colors, colorCount),
+                labels.toArray(new String[labels.size()]));
 
         if (mLegend != null) {
             // apply the old legend settings to a potential new legend
@@ -1014,6 +1369,9 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
     /** the view that represents the marker */
     protected MarkerView mMarkerView;
 
+    /** buffer for the position of the marker that is drawn */
+    private float[] mMarkerPosBuffer = new float[2];
+
     /**
      * draws all MarkerViews on the highlighted positions
      */
@@ -1036,76 +1394,37 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
                 if (e == null)
                     continue;
 
-                float[] pos = getMarkerPosition(e, dataSetIndex);
+                float[] pos = mMarkerPosBuffer;
+                getMarkerPosition(e, dataSetIndex, pos);
 
                 // check bounds
                 if (pos[0] < mOffsetLeft || pos[0] > getWidth() - mOffsetRight
                         || pos[1] < mOffsetTop || pos[1] > getHeight() - mOffsetBottom)
                     continue;
 
-                // callbacks to update the content
-                mMarkerView.refreshContent(e, dataSetIndex);
-
-                mMarkerView.measure(MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED),
-                        MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
-                mMarkerView.layout(0, 0, mMarkerView.getMeasuredWidth(),
-                        mMarkerView.getMeasuredHeight());
-                mMarkerView.draw(mDrawCanvas, pos[0], pos[1]);
+                // the content is only refreshed and laid out if the entry of
+                // the highlight changed
+                mMarkerView.draw(mDrawCanvas, pos[0], pos[1], e, dataSetIndex, i);
             }
         }
     }
 
     /**
-     * Returns the actual position in pixels of the MarkerView for the given
-     * Entry in the given DataSet.
+     * Calculates the position in pixels of the MarkerView for the given Entry
+     * in the given DataSet and writes it into the given array. By default,
+     * the marker is positioned at the x-position and value of the Entry.
+     * Chart types that draw their values elsewhere override this.
      * 
-     * @param xIndex
+     * @param e
      * @param dataSetIndex
-     * @return
+     * @param pos array of size 2 the x- and y-position is written into
      */
-    private float[] getMarkerPosition(Entry e, int dataSetIndex) {
+    protected void getMarkerPosition(Entry e, int dataSetIndex, float[] pos) {
 
-        float xPos = (float) e.getXIndex();
+        pos[0] = mData.getXPosition(e);
+        pos[1] = e.getVal() * mPhaseY;
 
-        // make sure the marker is in the center of the bars in BarChart and
-        // CandleStickChart
-        if (this instanceof CandleStickChart)
-            xPos += 0.5f;
-
-        else if (this instanceof BarChart) {
-
-            BarData bd = (BarData) mData;
-            float space = bd.getGroupSpace();
-            float j = mData.getDataSetByIndex(dataSetIndex)
-                    .getEntryPosition(e);
-
-            float x = (j * (mData.getDataSetCount() - 1)) + dataSetIndex + space * j + space
-                    / 2f + 0.5f;
-
-            xPos += x;
-        } else if (this instanceof RadarChart) {
-
-            RadarChart rc = (RadarChart) this;
-            float angle = rc.getSliceAngle() * e.getXIndex() + rc.getRotationAngle();
-            float val = e.getVal() * rc.getFactor();
-            PointF c = getCenterOffsets();
-
-            PointF p = new PointF((float) (c.x + val * Math.cos(Math.toRadians(angle))),
-                    (float) (c.y + val * Math.sin(Math.toRadians(angle))));
-
-            return new float[] {
-                    p.x, p.y
-            };
-        }
-
-        // position of the marker depends on selected value index and value
-        float[] pts = new float[] {
-                xPos, e.getVal() * mPhaseY
-        };
-
-        mTrans.pointValuesToPixel(pts);
-
-        return pts;
+        mTrans.pointValuesToPixel(pos);
     }
 
     /**
@@ -1874,7 +2193,7 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
         if (mData == null || mData.getXValCount() <= index)
             return null;
         else
-            return mData.getXVals().get(index);
+            return mData.getXVal(index);
     }
 
     /**
@@ -1976,17 +2295,55 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
 
         for (int i = 0; i < mData.getDataSetCount(); i++) {
 
+            DataSet<? extends Entry> set = mData.getDataSetByIndex(i);
+            ArrayList<? extends Entry> entries = set.getYVals();
+
             // extract all y-values from all DataSets at the given x-index
-            float yVal = mData.getDataSetByIndex(i).getYValForXIndex(xIndex);
+            int to = set.getEntryUpperBound(xIndex);
 
-            if (!Float.isNaN(yVal)) {
-                vals.add(new SelInfo(yVal, i));
+            for (int j = set.getEntryLowerBound(xIndex); j < to; j++) {
+                vals.add(new SelInfo(entries.get(j).getVal(), i));
             }
         }
 
         return vals;
     }
 
+    /**
+     * Returns the index of the DataSet that has the value closest to the given
+     * y-value at the given x-index, or -1 if no DataSet has a value at the
+     * x-index. Unlike getYValsAtIndex(...), this does not allocate.
+     * 
+     * @param xIndex
+     * @param yVal
+     * @return
+     */
+    public int getClosestDataSetIndex(int xIndex, float yVal) {
+
+        int index = -1;
+        float distance = Float.MAX_VALUE;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+            DataSet<? extends Entry> set = mData.getDataSetByIndex(i);
+            ArrayList<? extends Entry> entries = set.getYVals();
+
+            int to = set.getEntryUpperBound(xIndex);
+
+            for (int j = set.getEntryLowerBound(xIndex); j < to; j++) {
+
+                float cdistance = Math.abs(entries.get(j).getVal() - yVal);
+
+                if (cdistance < distance) {
+                    index = i;
+                    distance = cdistance;
+                }
+            }
+        }
+
+        return index;
+    }
+
     /**
      * Get all Entry objects at the given index across all DataSets.
      * INFORMATION: This method does calculations at runtime. Do not over-use in
@@ -2058,10 +2415,107 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
      * @return
      */
     public Bitmap getChartBitmap() {
+        return getChartBitmap(null);
+    }
+
+    /**
+     * Returns the bitmap that represents the chart, drawn into the given
+     * bitmap if it is mutable and has the size of the chart, which avoids
+     * allocating a new bitmap for each export. Otherwise, a new bitmap is
+     * created. Must be called on the UI thread.
+     * 
+     * @param reuse the bitmap to draw into, can be null
+     * @return
+     */
+    public Bitmap getChartBitmap(Bitmap reuse) {
+
+        Bitmap returnedBitmap = reuse;
+
         // Define a bitmap with the same size as the view
-        Bitmap returnedBitmap = Bitmap.createBitmap(getWidth(), getHeight(), Bitmap.Config.RGB_565);
+        if (returnedBitmap == null || !returnedBitmap.isMutable()
+                || returnedBitmap.getWidth() != getWidth()
+                || returnedBitmap.getHeight() != getHeight())
+            returnedBitmap = Bitmap.createBitmap(getWidth(), getHeight(), Bitmap.Config.RGB_565);
+        else
+            // clear what was drawn into the reused bitmap before
+            returnedBitmap.eraseColor(Color.WHITE);
+
         // Bind a canvas to it
-        Canvas canvas = new Canvas(returnedBitmap);
+        drawWithBackground(new Canvas(returnedBitmap));
+
+        // return the bitmap
+        return returnedBitmap;
+    }
+
+    /**
+     * Lays out the chart at the given size and draws it into the given
+     * canvas, without the chart being attached to a window and without a
+     * measure pass. This allows rendering charts off-screen, e.g. for
+     * generating thumbnails. Charts can be created and rendered off-screen on
+     * worker threads, as long as each chart object is only used by one
+     * thread. Do not use this for charts that are attached to a window.
+     * 
+     * @param canvas
+     * @param width
+     * @param height
+     */
+    public void drawOffscreen(Canvas canvas, int width, int height) {
+
+        if (!layoutOffscreen(width, height))
+            return;
+
+        drawWithBackground(canvas);
+    }
+
+    /**
+     * Lays out the chart at the given size and returns a bitmap that
+     * represents it, drawn into the given bitmap if it is mutable and has the
+     * given size. See drawOffscreen(...).
+     * 
+     * @param width
+     * @param height
+     * @param reuse the bitmap to draw into, can be null
+     * @return the bitmap, null if the size is invalid
+     */
+    public Bitmap renderOffscreen(int width, int height, Bitmap reuse) {
+
+        if (!layoutOffscreen(width, height))
+            return null;
+
+        return getChartBitmap(reuse);
+    }
+
+    /**
+     * Sets the bounds of the chart to the given size if they differ, which
+     * creates the drawing bitmap and prepares the content rect (see
+     * onSizeChanged(...)). Returns false if the size is invalid.
+     * 
+     * @param width
+     * @param height
+     * @return
+     */
+    private boolean layoutOffscreen(int width, int height) {
+
+        if (width <= 0 || height <= 0) {
+            Log.e(LOG_TAG, "Cannot render the chart off-screen with a size of " + width + "x"
+                    + height + ".");
+            return false;
+        }
+
+        if (getWidth() != width || getHeight() != height)
+            layout(0, 0, width, height);
+
+        return true;
+    }
+
+    /**
+     * Draws the background of the chart (white if it has none) and the chart
+     * into the given canvas.
+     * 
+     * @param canvas
+     */
+    private void drawWithBackground(Canvas canvas) {
+
         // Get the view's background
         Drawable bgDrawable = getBackground();
         if (bgDrawable != null)
@@ -2073,15 +2527,49 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
             canvas.drawColor(Color.WHITE);
         // draw the view on the canvas
         draw(canvas);
-        // return the bitmap
-        return returnedBitmap;
+    }
+
+    /**
+     * Writes the current state of the chart as an SVG vector image into the
+     * given stream, for print-quality exports. The chart is drawn into an
+     * SvgCanvas that writes the elements while they are drawn, so the memory
+     * used does not depend on the size of the image, and the size of the
+     * image depends on the visual complexity of the chart and not on the
+     * number of entries. The stream is not closed. Must be called on the
+     * thread the chart is drawn on.
+     * 
+     * @param out
+     * @return returns true on success, false on error
+     */
+    public boolean saveToSvg(OutputStream out) {
+
+        if (getWidth() <= 0 || getHeight() <= 0) {
+            Log.e(LOG_TAG, "Cannot export a chart that has not been laid out.");
+            return false;
+        }
+
+        SvgCanvas svg = new SvgCanvas(out, getWidth(), getHeight());
+
+        // all drawing commands go to the svg canvas instead of the bitmap
+        Canvas drawCanvas = mDrawCanvas;
+        mDrawCanvas = svg;
+
+        try {
+            drawWithBackground(svg);
+        } finally {
+            mDrawCanvas = drawCanvas;
+        }
+
+        return svg.finish();
     }
 
     /**
      * Saves the current chart state with the given name to the given path on
      * the sdcard leaving the path empty "" will put the saved file directly on
      * the SD card chart is saved as a PNG image, example:
-     * saveToPath("myfilename", "foldername1/foldername2");
+     * saveToPath("myfilename", "foldername1/foldername2"). The image is
+     * compressed on the calling thread, use ChartExporter for exporting in
+     * the background.
      * 
      * @param title
      * @param pathOnSD e.g. "folder1/folder2/folder3"
@@ -2115,7 +2603,9 @@ public abstract class Chart<T extends ChartData<? extends DataSet<? extends Entr
     /**
      * Saves the current state of the chart to the gallery as a JPEG image. The
      * filename and compression can be set. 0 == maximum compression, 100 = low
-     * compression (high quality). NOTE: Needs permission WRITE_EXTERNAL_STORAGE
+     * compression (high quality). The image is compressed on the calling
+     * thread, use ChartExporter for exporting in the background. NOTE: Needs
+     * permission WRITE_EXTERNAL_STORAGE
      * 
      * @param fileName e.g. "my_image"
      * @param quality e.g. 50, min = 0, max = 100
@@ -3,7 +3,6 @@ package com.github.mikephil.charting.charts;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.graphics.DashPathEffect;
 import android.graphics.Paint;
 import android.graphics.Path;
 import android.graphics.PathDashPathEffect;
@@ -13,6 +12,8 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.utils.FillFormatter;
+import com.github.mikephil.charting.utils.Highlight;
+import com.github.mikephil.charting.utils.IntervalDashPathEffect;
 
 import java.util.ArrayList;
 
@@ -39,6 +40,25 @@ public class LineChart extends BarLineChartBase<LineData> {
 
     private FillFormatter mFillFormatter;
 
+    /** buffer for the pixel positions of the visible entries of a line */
+    private float[] mLineBuffer = new float[0];
+
+    /** the reused path of a single-colored line, in pixels */
+    private Path mLinePath = new Path();
+
+    /** the reused path of a filled line, in pixels */
+    private Path mFilledPath = new Path();
+
+    /** the x-positions in pixels of the first and last point of the line path */
+    private float mLineStartX;
+    private float mLineEndX;
+
+    /** buffer for converting the fill position into pixels */
+    private float[] mFillBuffer = new float[2];
+
+    /** buffer for converting the edges of the content rect into values */
+    private float[] mVisibleXBuffer = new float[4];
+
     public LineChart(Context context) {
         super(context);
     }
@@ -69,7 +89,7 @@ public class LineChart extends BarLineChartBase<LineData> {
         mStemPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         mStemPaint.setStyle(Paint.Style.STROKE);
         mStemPaint.setStrokeWidth(1f);
-        mStemPaint.setPathEffect(new DashPathEffect(new float[] { 3, 3 }, 0));
+        mStemPaint.setPathEffect(new IntervalDashPathEffect(new float[] { 3, 3 }, 0));
         mStemPaint.setColor(0xCCFFFFFF);
 
         mHighlightPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -92,6 +112,16 @@ public class LineChart extends BarLineChartBase<LineData> {
             mDeltaX = 1;
     }
 
+    @Override
+    public Highlight getHighlightByTouchPoint(float x, float y) {
+
+        // the closest entry in pixels across all DataSets, falls back to the
+        // closest x-index if no entry is drawn
+        Highlight h = getNearestHighlight(x, y);
+
+        return h != null ? h : super.getHighlightByTouchPoint(x, y);
+    }
+
     @Override
     protected void drawHighlights() {
 
@@ -106,16 +136,22 @@ public class LineChart extends BarLineChartBase<LineData> {
             mHighlightPaint.setColor(set.getHighLightColor());
 
             int xIndex = mIndicesToHightlight[i].getXIndex(); // get the
-                                                              // x-position
+                                                              // x-index
+
+            Entry e = set.getEntryForXIndex(xIndex);
+
+            if (e == null)
+                continue;
 
-            if (xIndex > mDeltaX * mPhaseX)
+            float x = mData.getXPosition(e); // get the x-position
+
+            if (x > mDeltaX * mPhaseX)
                 continue;
 
-            float y = set.getYValForXIndex(xIndex) * mPhaseY; // get the
-                                                              // y-position
+            float y = e.getVal() * mPhaseY; // get the y-position
 
             float[] pts = new float[] {
-                    xIndex, mYChartMax, xIndex, mYChartMin, 0, y, mDeltaX, y
+                    x, mYChartMax, x, mYChartMin, 0, y, mDeltaX, y
             };
 
             mTrans.pointValuesToPixel(pts);
@@ -180,7 +216,7 @@ public class LineChart extends BarLineChartBase<LineData> {
 
                 ArrayList<CPoint> points = new ArrayList<CPoint>();
                 for (Entry e : entries)
-                    points.add(new CPoint(e.getXIndex(), e.getVal()));
+                    points.add(new CPoint(mData.getXPosition(e), e.getVal()));
 
                 if (points.size() > 1) {
                     for (int j = 0; j < points.size() * mPhaseX; j++) {
@@ -223,8 +259,9 @@ public class LineChart extends BarLineChartBase<LineData> {
                     float fillMin = mFillFormatter
                             .getFillLinePosition(dataSet, mData, mYChartMax, mYChartMin);
 
-                    spline.lineTo((entries.size() - 1) * mPhaseX, fillMin);
-                    spline.lineTo(0, fillMin);
+                    spline.lineTo(mData.getXPosition(entries.get((int) ((entries.size() - 1)
+                            * mPhaseX))), fillMin);
+                    spline.lineTo(mData.getXPosition(entries.get(0)), fillMin);
                     spline.close();
 
                     mRenderPaint.setStyle(Paint.Style.FILL);
@@ -241,10 +278,14 @@ public class LineChart extends BarLineChartBase<LineData> {
 
                 mRenderPaint.setStyle(Paint.Style.STROKE);
 
+                // the path of the line, also used for filling
+                Path line = null;
+
                 // more than 1 color
-                if (dataSet.getColors() == null || dataSet.getColors().size() > 1) {
+                if (dataSet.getColorCount() > 1 || dataSet.getColorFormatter() != null) {
 
-                    float[] valuePoints = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY);
+                    float[] valuePoints = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY,
+                        mData.getXOrigin());
 
                     for (int j = 0; j < (valuePoints.length - 2) * mPhaseX; j += 2) {
 
@@ -269,8 +310,7 @@ public class LineChart extends BarLineChartBase<LineData> {
 
                     mRenderPaint.setColor(dataSet.getColor());
 
-                    Path line = generateLinePath(entries);
-                    mTrans.pathValueToPixel(line);
+                    line = generateLinePath(entries);
 
                     mDrawCanvas.drawPath(line, mRenderPaint);
                 }
@@ -291,12 +331,13 @@ public class LineChart extends BarLineChartBase<LineData> {
 
                     // mRenderPaint.setShader(dataSet.getShader());
 
-                    Path filled = generateFilledPath(entries,
+                    if (line == null)
+                        line = generateLinePath(entries);
+
+                    Path filled = generateFilledPath(line,
                             mFillFormatter.getFillLinePosition(dataSet, mData, mYChartMax,
                                     mYChartMin));
 
-                    mTrans.pathValueToPixel(filled);
-
                     mDrawCanvas.drawPath(filled, mRenderPaint);
 
                     // restore alpha
@@ -310,52 +351,155 @@ public class LineChart extends BarLineChartBase<LineData> {
     }
     
     /**
-     * Generates the path that is used for filled drawing.
+     * Generates the path that is used for filled drawing, in pixels, from the
+     * culled and reduced path of the line. The given path needs to be the
+     * last one returned by generateLinePath(...).
      * 
-     * @param entries
+     * @param line
+     * @param fillMin
      * @return
      */
-    private Path generateFilledPath(ArrayList<Entry> entries, float fillMin) {
-
-        Path filled = new Path();
-        filled.moveTo(entries.get(0).getXIndex(), entries.get(0).getVal() * mPhaseY);
+    private Path generateFilledPath(Path line, float fillMin) {
 
-        // create a new path
-        for (int x = 1; x < entries.size() * mPhaseX; x++) {
+        Path filled = mFilledPath;
+        filled.set(line);
 
-            Entry e = entries.get(x);
-            filled.lineTo(e.getXIndex(), e.getVal() * mPhaseY);
-        }
+        mFillBuffer[0] = 0f;
+        mFillBuffer[1] = fillMin;
+        mTrans.pointValuesToPixel(mFillBuffer);
 
         // close up
-        filled.lineTo(entries.get((int) ((entries.size() - 1) * mPhaseX)).getXIndex(), fillMin);
-        filled.lineTo(entries.get(0).getXIndex(), fillMin);
+        filled.lineTo(mLineEndX, mFillBuffer[1]);
+        filled.lineTo(mLineStartX, mFillBuffer[1]);
         filled.close();
 
         return filled;
     }
 
     /**
-     * Generates the path that is used for drawing a single line.
+     * Generates the path of the given line in pixels. Only the entries in the
+     * visible range (and the closest entry outside on each side) are added,
+     * and consecutive entries in the same pixel column are reduced to the
+     * first, lowest, highest and last of them. This looks the same, but keeps
+     * the path small for large DataSets, on the screen and in exports. The
+     * visible range is found with binary search, only its entries are
+     * transformed.
      * 
      * @param entries
      * @return
      */
     private Path generateLinePath(ArrayList<Entry> entries) {
 
-        Path line = new Path();
-        line.moveTo(entries.get(0).getXIndex(), entries.get(0).getVal() * mPhaseY);
+        int count = Math.max(1, Math.min(entries.size(),
+                (int) Math.ceil(entries.size() * mPhaseX)));
+
+        float[] range = mVisibleXBuffer;
+        range[0] = mContentRect.left;
+        range[1] = 0f;
+        range[2] = mContentRect.right;
+        range[3] = 0f;
+
+        mTrans.pixelsToValue(range);
+
+        // the entries are sorted by their x-position, include the closest
+        // entry outside of the visible range on each side
+        int start = Math.max(0,
+                getFirstEntryIndexAt(entries, count, Math.min(range[0], range[2])) - 1);
+        int end = Math.max(start, Math.min(count - 1,
+                getFirstEntryIndexAt(entries, count, Math.max(range[0], range[2]))));
+
+        int size = end - start + 1;
+
+        if (mLineBuffer.length < size * 2)
+            mLineBuffer = new float[size * 2];
+
+        float[] pts = mLineBuffer;
+
+        for (int i = 0; i < size; i++) {
 
-        // create a new path
-        for (int x = 1; x < entries.size() * mPhaseX; x++) {
+            Entry e = entries.get(start + i);
 
-            Entry e = entries.get(x);
-            line.lineTo(e.getXIndex(), e.getVal() * mPhaseY);
+            pts[i * 2] = mData.getXPosition(e);
+            pts[i * 2 + 1] = e.getVal() * mPhaseY;
         }
 
+        mTrans.pointValuesToPixel(pts, size);
+
+        // positions in the buffer
+        int from = 0;
+        int to = size - 1;
+
+        Path line = mLinePath;
+        line.reset();
+        line.moveTo(pts[from * 2], pts[from * 2 + 1]);
+
+        mLineStartX = pts[from * 2];
+        mLineEndX = pts[to * 2];
+
+        int column = (int) Math.floor(pts[from * 2]);
+        int first = from;
+        int min = from;
+        int max = from;
+        int last = from;
+
+        for (int i = from + 1; i <= to; i++) {
+
+            int c = (int) Math.floor(pts[i * 2]);
+
+            if (c == column) {
+
+                if (pts[i * 2 + 1] < pts[min * 2 + 1])
+                    min = i;
+
+                if (pts[i * 2 + 1] > pts[max * 2 + 1])
+                    max = i;
+
+                last = i;
+                continue;
+            }
+
+            addColumnToPath(line, pts, from, first, min, max, last);
+
+            column = c;
+            first = min = max = last = i;
+        }
+
+        addColumnToPath(line, pts, from, first, min, max, last);
+
         return line;
     }
 
+    /**
+     * Adds the reduced points of a pixel column of a line to the given path,
+     * in the order of the entries.
+     * 
+     * @param path
+     * @param pts
+     * @param start the point the path was moved to
+     * @param first
+     * @param min
+     * @param max
+     * @param last
+     */
+    private void addColumnToPath(Path path, float[] pts, int start, int first, int min,
+            int max, int last) {
+
+        int low = Math.min(min, max);
+        int high = Math.max(min, max);
+
+        if (first != start)
+            path.lineTo(pts[first * 2], pts[first * 2 + 1]);
+
+        if (low != first && low != last)
+            path.lineTo(pts[low * 2], pts[low * 2 + 1]);
+
+        if (high != first && high != last && high != low)
+            path.lineTo(pts[high * 2], pts[high * 2 + 1]);
+
+        if (last != first)
+            path.lineTo(pts[last * 2], pts[last * 2 + 1]);
+    }
+
     @Override
     protected void drawValues() {
 
@@ -376,7 +520,8 @@ public class LineChart extends BarLineChartBase<LineData> {
 
                 ArrayList<Entry> entries = dataSet.getYVals();
 
-                float[] positions = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY);
+                float[] positions = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY,
+                        mData.getXOrigin());
 
                 for (int j = 0; j < positions.length * mPhaseX; j += 2) {
 
@@ -423,7 +568,8 @@ public class LineChart extends BarLineChartBase<LineData> {
 
                 ArrayList<Entry> entries = dataSet.getYVals();
 
-                float[] positions = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY);
+                float[] positions = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY,
+                        mData.getXOrigin());
 
                 for (int j = 0; j < positions.length * mPhaseX; j += 2) {
 
@@ -6,6 +6,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
+import android.graphics.Path;
 import android.graphics.PointF;
 import android.graphics.RectF;
 import android.graphics.Typeface;
@@ -18,6 +19,7 @@ import com.github.mikephil.charting.data.PieDataSet;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 
 /**
  * View that represents a pie chart. Draws cake like slices.
@@ -38,6 +40,31 @@ public class PieChart extends PieRadarChartBase<PieData> {
     /** array that holds the absolute angle in degrees of each slice */
     private float[] mAbsoluteAngles;
 
+    /**
+     * the cached paths of the slices, without the rotation of the chart, null
+     * for slices that are not drawn
+     */
+    private Path[] mSlicePaths = new Path[0];
+
+    /** flag that indicates if the cached slice paths are valid */
+    private boolean mSlicePathsValid = false;
+
+    /** the circle box and animation phases the slice paths were built for */
+    private RectF mSlicePathsBox = new RectF();
+    private float mSlicePathsPhaseX, mSlicePathsPhaseY;
+
+    /** the slice space of each DataSet the slice paths were built for */
+    private float[] mSlicePathsSliceSpaces = new float[0];
+
+    /**
+     * bitset that holds which slices (in order of drawing, over all DataSets)
+     * are highlighted
+     */
+    private BitSet mHighlightedSlices = new BitSet();
+
+    /** reused rect for drawing a highlighted slice */
+    private RectF mHighlightedBox = new RectF();
+
     /** if true, the white hole inside the chart will be drawn */
     private boolean mDrawHole = true;
 
@@ -131,7 +158,10 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
         drawHighlights();
 
-        drawData();
+        // while rotating by touch, the slices are drawn from the rotation
+        // layer, the highlighted slices and values at the current angle
+        if (!drawRotationLayer())
+            drawRotatingContent();
 
         drawAdditional();
 
@@ -143,9 +173,22 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
         drawCenterText();
 
+        // markers follow the rotation, also while rotating by touch
+        drawMarkers();
+
         canvas.drawBitmap(mDrawBitmap, 0, 0, mDrawPaint);
     }
 
+    @Override
+    protected void drawRotatingContent() {
+        drawData();
+    }
+
+    @Override
+    protected void getRotationLayerBounds(RectF bounds) {
+        bounds.set(mCircleBox);
+    }
+
     @Override
     protected void prepareContentRect() {
         super.prepareContentRect();
@@ -177,8 +220,13 @@ public class PieChart extends PieRadarChartBase<PieData> {
      */
     private void calcAngles() {
 
-        mDrawAngles = new float[mData.getYValCount()];
-        mAbsoluteAngles = new float[mData.getYValCount()];
+        int count = mData.getYValCount();
+
+        // only reallocate if the number of slices changed
+        if (mDrawAngles == null || mDrawAngles.length != count) {
+            mDrawAngles = new float[count];
+            mAbsoluteAngles = new float[count];
+        }
 
         ArrayList<PieDataSet> dataSets = mData.getDataSets();
 
@@ -203,6 +251,145 @@ public class PieChart extends PieRadarChartBase<PieData> {
             }
         }
 
+        mSlicePathsValid = false;
+    }
+
+    /**
+     * Builds the paths of all slices if the data, the size of the chart or the
+     * animation phases changed since they were last built. The paths do not
+     * contain the rotation of the chart, it is applied as a canvas transform
+     * when drawing so that rotating the chart does not rebuild them.
+     */
+    private void prepareSlicePaths() {
+
+        // always evaluated, it remembers the current slice spaces
+        boolean sliceSpacesChanged = sliceSpacesChanged();
+
+        if (mSlicePathsValid && mSlicePathsBox.equals(mCircleBox)
+                && mSlicePathsPhaseX == mPhaseX && mSlicePathsPhaseY == mPhaseY
+                && !sliceSpacesChanged)
+            return;
+
+        if (mSlicePaths.length != mDrawAngles.length)
+            mSlicePaths = new Path[mDrawAngles.length];
+
+        float cx = mCircleBox.centerX();
+        float cy = mCircleBox.centerY();
+
+        float angle = 0f;
+
+        ArrayList<PieDataSet> dataSets = mData.getDataSets();
+
+        int cnt = 0;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++) {
+
+            PieDataSet dataSet = dataSets.get(i);
+            ArrayList<Entry> entries = dataSet.getYVals();
+
+            for (int j = 0; j < entries.size(); j++) {
+
+                float newangle = mDrawAngles[cnt];
+                float sliceSpace = dataSet.getSliceSpace();
+
+                // only slices with a value greater than zero are drawn
+                if (Math.abs(entries.get(j).getVal()) > 0.000001) {
+
+                    Path path = mSlicePaths[cnt];
+
+                    if (path == null) {
+                        path = new Path();
+                        mSlicePaths[cnt] = path;
+                    } else
+                        path.reset();
+
+                    float sweep = newangle * mPhaseY - sliceSpace / 2f;
+
+                    // arcTo(...) takes the sweep modulo 360, a full slice
+                    // would be an empty arc
+                    if (sweep >= 360f) {
+                        path.addOval(mCircleBox, Path.Direction.CW);
+                    } else {
+                        path.moveTo(cx, cy);
+                        path.arcTo(mCircleBox, angle + sliceSpace / 2f, sweep);
+                        path.close();
+                    }
+
+                } else {
+                    mSlicePaths[cnt] = null;
+                }
+
+                angle += newangle * mPhaseX;
+                cnt++;
+            }
+        }
+
+        mSlicePathsBox.set(mCircleBox);
+        mSlicePathsPhaseX = mPhaseX;
+        mSlicePathsPhaseY = mPhaseY;
+        mSlicePathsValid = true;
+    }
+
+    /**
+     * Returns true if the slice space of any DataSet differs from the one
+     * the slice paths were built for, and remembers the current slice spaces.
+     * 
+     * @return
+     */
+    private boolean sliceSpacesChanged() {
+
+        int count = mData.getDataSetCount();
+        boolean changed = false;
+
+        if (mSlicePathsSliceSpaces.length != count) {
+            mSlicePathsSliceSpaces = new float[count];
+            changed = true;
+        }
+
+        for (int i = 0; i < count; i++) {
+
+            float sliceSpace = mData.getDataSetByIndex(i).getSliceSpace();
+
+            if (mSlicePathsSliceSpaces[i] != sliceSpace) {
+                mSlicePathsSliceSpaces[i] = sliceSpace;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Marks all slices that need to be highlighted in the highlight bitset.
+     */
+    private void prepareHighlightedSlices() {
+
+        mHighlightedSlices.clear();
+
+        if (!valuesToHighlight())
+            return;
+
+        ArrayList<PieDataSet> dataSets = mData.getDataSets();
+
+        for (int i = 0; i < mIndicesToHightlight.length; i++) {
+
+            int dataSetIndex = mIndicesToHightlight[i].getDataSetIndex();
+
+            if (dataSetIndex < 0 || dataSetIndex >= dataSets.size())
+                continue;
+
+            int index = dataSets.get(dataSetIndex).getIndexInEntries(
+                    mIndicesToHightlight[i].getXIndex());
+
+            if (index < 0)
+                continue;
+
+            // the position of the slice over all DataSets
+            for (int j = 0; j < dataSetIndex; j++)
+                index += dataSets.get(j).getEntryCount();
+
+            mHighlightedSlices.set(index);
+        }
     }
 
     @Override
@@ -242,9 +429,9 @@ public class PieChart extends PieRadarChartBase<PieData> {
                 float xShift = shift * (float) Math.cos(shiftangle);
                 float yShift = shift * (float) Math.sin(shiftangle);
 
-                RectF highlighted = new RectF(mCircleBox.left + xShift, mCircleBox.top + yShift,
-                        mCircleBox.right
-                                + xShift, mCircleBox.bottom + yShift);
+                RectF highlighted = mHighlightedBox;
+                highlighted.set(mCircleBox.left + xShift, mCircleBox.top + yShift,
+                        mCircleBox.right + xShift, mCircleBox.bottom + yShift);
 
                 mRenderPaint.setColor(set.getColor(xIndex));
 
@@ -259,7 +446,13 @@ public class PieChart extends PieRadarChartBase<PieData> {
     @Override
     protected void drawData() {
 
-        float angle = mRotationAngle;
+        prepareSlicePaths();
+        prepareHighlightedSlices();
+
+        // the rotation is applied as a transform, the cached paths start at
+        // an angle of zero
+        mDrawCanvas.save();
+        mDrawCanvas.rotate(mRotationAngle, mCircleBox.centerX(), mCircleBox.centerY());
 
         ArrayList<PieDataSet> dataSets = mData.getDataSets();
 
@@ -268,61 +461,25 @@ public class PieChart extends PieRadarChartBase<PieData> {
         for (int i = 0; i < mData.getDataSetCount(); i++) {
 
             PieDataSet dataSet = dataSets.get(i);
-            ArrayList<Entry> entries = dataSet.getYVals();
-
-            for (int j = 0; j < entries.size(); j++) {
-
-                float newangle = mDrawAngles[cnt];
-                float sliceSpace = dataSet.getSliceSpace();
-
-                Entry e = entries.get(j);
+            int entryCount = dataSet.getEntryCount();
 
-                // draw only if the value is greater than zero
-                if ((Math.abs(e.getVal()) > 0.000001)) {
+            for (int j = 0; j < entryCount; j++) {
 
-                    if (!needsHighlight(e.getXIndex(), i)) {
+                Path path = mSlicePaths[cnt];
 
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                        mDrawCanvas.drawArc(mCircleBox, angle + sliceSpace / 2f, newangle * mPhaseY
-                                - sliceSpace / 2f, true, mRenderPaint);
-                    }
+                // draw only if the value is greater than zero and the slice is
+                // not highlighted
+                if (path != null && !mHighlightedSlices.get(cnt)) {
 
-                    // if(sliceSpace > 0f) {
-                    //
-                    // PointF outer = getPosition(c, radius, angle);
-                    // PointF inner = getPosition(c, radius * mHoleRadiusPercent
-                    // / 100f, angle);
-                    // }
+                    mRenderPaint.setColor(dataSet.getColor(j));
+                    mDrawCanvas.drawPath(path, mRenderPaint);
                 }
 
-                angle += newangle * mPhaseX;
                 cnt++;
             }
         }
-    }
 
-    /**
-     * checks if the given index in the given DataSet is set for highlighting or
-     * not
-     * 
-     * @param xIndex
-     * @param dataSetIndex
-     * @return
-     */
-    private boolean needsHighlight(int xIndex, int dataSetIndex) {
-
-        // no highlight
-        if (!valuesToHighlight())
-            return false;
-
-        for (int i = 0; i < mIndicesToHightlight.length; i++)
-
-            // check if the xvalue for the given dataset needs highlight
-            if (mIndicesToHightlight[i].getXIndex() == xIndex
-                    && mIndicesToHightlight[i].getDataSetIndex() == dataSetIndex)
-                return true;
-
-        return false;
+        mDrawCanvas.restore();
     }
 
     /**
@@ -458,12 +615,12 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
                     mDrawCanvas.drawText(val, x, y, mValuePaint);
                     if (j < mData.getXValCount())
-                        mDrawCanvas.drawText(mData.getXVals().get(j), x, y + lineHeight,
+                        mDrawCanvas.drawText(mData.getXVal(j), x, y + lineHeight,
                                 mValuePaint);
 
                 } else if (mDrawXVals && !mDrawYValues) {
                     if (j < mData.getXValCount())
-                        mDrawCanvas.drawText(mData.getXVals().get(j), x, y, mValuePaint);
+                        mDrawCanvas.drawText(mData.getXVal(j), x, y, mValuePaint);
                 } else if (!mDrawXVals && mDrawYValues) {
 
                     mDrawCanvas.drawText(val, x, y, mValuePaint);
@@ -489,17 +646,54 @@ public class PieChart extends PieRadarChartBase<PieData> {
         return value / mData.getYValueSum() * 360f;
     }
 
+    @Override
+    protected void getMarkerPosition(Entry e, int dataSetIndex, float[] pos) {
+
+        int xIndex = e.getXIndex();
+
+        // the marker is placed where the value of the slice is drawn
+        float r = getRadius();
+        float off = r / 2f;
+
+        if (mDrawHole)
+            off = (r - (r / 100f * mHoleRadiusPercent)) / 2f;
+
+        r -= off;
+
+        float angle = xIndex < mAbsoluteAngles.length
+                ? mAbsoluteAngles[xIndex] - mDrawAngles[xIndex] / 2f
+                : 0f;
+
+        double rad = Math.toRadians((mRotationAngle + angle) * mPhaseY);
+
+        pos[0] = (float) (r * Math.cos(rad) + mCircleBox.centerX());
+        pos[1] = (float) (r * Math.sin(rad) + mCircleBox.centerY());
+    }
+
     @Override
     public int getIndexForAngle(float angle) {
 
         // take the current angle of the chart into consideration
         float a = (angle - mRotationAngle + 360) % 360f;
 
-        for (int i = 0; i < mAbsoluteAngles.length; i++) {
-            if (mAbsoluteAngles[i] > a)
-                return i;
+        // binary search for the first slice that ends after the angle, the
+        // absolute angles are ascending
+        int low = 0;
+        int high = mAbsoluteAngles.length;
+
+        while (low < high) {
+
+            int mid = (low + high) >>> 1;
+
+            if (mAbsoluteAngles[mid] > a)
+                high = mid;
+            else
+                low = mid + 1;
         }
 
+        if (low < mAbsoluteAngles.length)
+            return low;
+
         return -1; // return -1 if no index found
     }
 
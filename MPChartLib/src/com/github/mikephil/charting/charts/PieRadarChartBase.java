@@ -3,8 +3,12 @@ package com.github.mikephil.charting.charts;
 
 import android.animation.ObjectAnimator;
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.Matrix;
 import android.graphics.PointF;
+import android.graphics.RectF;
 import android.graphics.Paint.Align;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
@@ -33,6 +37,27 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
     /** the pie- and radarchart touchlistener */
     private OnTouchListener mListener;
 
+    /** true while the chart is rotated by a touch gesture */
+    private boolean mRotationGesture = false;
+
+    /**
+     * bitmap that holds the rotating content of the chart (slices, web, ...)
+     * while the chart is rotated by touch
+     */
+    private Bitmap mRotationLayer;
+
+    /** canvas that draws into the rotation layer */
+    private Canvas mRotationLayerCanvas;
+
+    /** the rotation angle the rotation layer was rendered with */
+    private float mRotationLayerAngle;
+
+    /** flag that indicates if the content of the rotation layer is valid */
+    private boolean mRotationLayerValid = false;
+
+    /** the area of the chart the rotation layer covers */
+    private RectF mRotationLayerBounds = new RectF();
+
     public PieRadarChartBase(Context context) {
         super(context);
     }
@@ -67,15 +92,41 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
         if (mDataNotSet)
             return;
 
+        // everything is prepared, remember the versions of the data
+        consumeDataChanges();
+
         calcMinMax(false);
 
         prepareLegend();
 
         calculateOffsets();
+
+        mRotationLayerValid = false;
     }
 
     @Override
     public void notifyDataSetChanged() {
+
+        if (deferUpdate(DIRTY_DATA))
+            return;
+
+        if (mDataNotSet)
+            return;
+
+        int changes = consumeDataChanges();
+
+        // nothing changed since the last preparation, only possible for
+        // changes picked up by the chart itself
+        if (changes == 0)
+            return;
+
+        // only the colors changed (only possible for changes picked up by
+        // the chart itself), the slices read their colors when drawn
+        if (changes == ChartData.CHANGED_COLORS) {
+            prepareLegend();
+            return;
+        }
+
         prepare();
     }
 
@@ -183,6 +234,146 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends DataSet<?
         mTrans.getOffsetMatrix().set(offset);
     }
 
+    /**
+     * Draws the geometry of the chart that rotates with the chart (e.g. the
+     * slices or the web) into the canvas returned by getCanvas(), without any
+     * texts or highlights. Used for rendering the rotation layer.
+     */
+    protected abstract void drawRotatingContent();
+
+    /**
+     * Sets the given rect to the area the rotating content of the chart is
+     * drawn in. The rotation layer only covers this area and is rotated
+     * around its center.
+     * 
+     * @param bounds
+     */
+    protected abstract void getRotationLayerBounds(RectF bounds);
+
+    /**
+     * Called by the touch listener when a rotation gesture starts. While the
+     * gesture is active, the rotating geometry of the chart is rendered only
+     * once into a layer that is then drawn with a canvas rotation. Texts and
+     * highlights are still drawn each frame at the current rotation angle,
+     * so that texts stay upright.
+     */
+    public void beginRotationGesture() {
+        mRotationGesture = true;
+        mRotationLayerValid = false;
+    }
+
+    /**
+     * Called by the touch listener when a rotation gesture ends. The chart is
+     * fully redrawn with the final rotation, including all texts. The
+     * rotation layer is released, it is only needed during the gesture.
+     */
+    public void endRotationGesture() {
+
+        if (!mRotationGesture)
+            return;
+
+        mRotationGesture = false;
+        releaseRotationLayer();
+        invalidate();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        mRotationGesture = false;
+        releaseRotationLayer();
+    }
+
+    /**
+     * Recycles the bitmap of the rotation layer if there is one.
+     */
+    private void releaseRotationLayer() {
+
+        if (mRotationLayer != null) {
+            mRotationLayer.recycle();
+            mRotationLayer = null;
+            mRotationLayerCanvas = null;
+        }
+
+        mRotationLayerValid = false;
+    }
+
+    /**
+     * Returns true if the chart is currently rotated by a touch gesture.
+     * 
+     * @return
+     */
+    public boolean isRotationGestureActive() {
+        return mRotationGesture;
+    }
+
+    /**
+     * Draws the rotating geometry of the chart from the rotation layer,
+     * rotated by the difference between the current rotation angle and the
+     * angle the layer was rendered with. The layer is only rendered if it is
+     * not valid. Returns false if no rotation gesture is active, in that case
+     * nothing is drawn and the geometry needs to be drawn as usual.
+     * 
+     * @return
+     */
+    protected boolean drawRotationLayer() {
+
+        if (!mRotationGesture)
+            return false;
+
+        RectF bounds = mRotationLayerBounds;
+        getRotationLayerBounds(bounds);
+
+        int left = (int) Math.floor(bounds.left);
+        int top = (int) Math.floor(bounds.top);
+        int width = (int) Math.ceil(bounds.right) - left;
+        int height = (int) Math.ceil(bounds.bottom) - top;
+
+        if (width <= 0 || height <= 0)
+            return false;
+
+        if (mRotationLayer == null || mRotationLayer.getWidth() != width
+                || mRotationLayer.getHeight() != height) {
+
+            if (mRotationLayer != null)
+                mRotationLayer.recycle();
+
+            mRotationLayer = Bitmap.createBitmap(width, height, mDrawBitmap.getConfig());
+            mRotationLayerCanvas = new Canvas(mRotationLayer);
+            mRotationLayerValid = false;
+        }
+
+        if (!mRotationLayerValid) {
+
+            mRotationLayer.eraseColor(Color.TRANSPARENT);
+
+            // render the rotating content into the layer instead of the
+            // drawing bitmap, the layer starts at the top left of its bounds
+            Canvas drawCanvas = mDrawCanvas;
+            mDrawCanvas = mRotationLayerCanvas;
+
+            mDrawCanvas.save();
+            mDrawCanvas.translate(-left, -top);
+
+            drawRotatingContent();
+
+            mDrawCanvas.restore();
+            mDrawCanvas = drawCanvas;
+
+            mRotationLayerAngle = mRotationAngle;
+            mRotationLayerValid = true;
+        }
+
+        mDrawCanvas.save();
+        mDrawCanvas.rotate(mRotationAngle - mRotationLayerAngle, bounds.centerX(),
+                bounds.centerY());
+        mDrawCanvas.drawBitmap(mRotationLayer, left, top, mDrawPaint);
+        mDrawCanvas.restore();
+
+        return true;
+    }
+
     /** the angle where the dragging started */
     private float mStartAngle = 0f;
 
@@ -6,7 +6,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Path;
-import android.graphics.PointF;
+import android.graphics.RectF;
 import android.util.AttributeSet;
 
 import com.github.mikephil.charting.data.Entry;
@@ -60,6 +60,47 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
     /** the object representing the x-axis labels */
     private XLabels mXLabels = new XLabels();
 
+    /** cosine of the angle of each x-index, including the rotation */
+    private float[] mCos = new float[0];
+
+    /** sine of the angle of each x-index, including the rotation */
+    private float[] mSin = new float[0];
+
+    /** the x-value count the sine and cosine tables were calculated for */
+    private int mTrigCount = -1;
+
+    /** the rotation angle the sine and cosine tables were calculated for */
+    private float mTrigRotation = Float.NaN;
+
+    /** the center of the web in pixels, updated each frame */
+    private float mCenterX, mCenterY;
+
+    /** the lines of the web that come from the center */
+    private Path mWebPath = new Path();
+
+    /** the lines of the web in between the lines coming from the center */
+    private Path mInnerWebPath = new Path();
+
+    /** the paths of the limit lines */
+    private ArrayList<Path> mLimitLinePaths = new ArrayList<Path>();
+
+    /** flag that indicates if the cached web and limit line paths are valid */
+    private boolean mGeometryValid = false;
+
+    /** the factor, center and label count the cached paths were built for */
+    private float mGeometryFactor, mGeometryCenterX, mGeometryCenterY;
+    private int mGeometryLabelCount;
+
+    /** the limit lines the cached limit line paths were built for */
+    private ArrayList<LimitLine> mGeometryLimitLines;
+    private int mGeometryLimitLineCount;
+
+    /** reused path for drawing the surface of each DataSet */
+    private Path mSurfacePath = new Path();
+
+    /** reused buffer for drawing the highlight lines */
+    private float[] mHighlightBuffer = new float[8];
+
     public RadarChart(Context context) {
         super(context);
     }
@@ -109,6 +150,8 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
         prepareYLabels();
         prepareXLabels();
+
+        mGeometryValid = false;
     }
 
     @Override
@@ -118,13 +161,15 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (mDataNotSet)
             return;
 
-        drawXLabels();
-
-        drawWeb();
+        prepareTrigonometry();
 
-        drawLimitLines();
+        drawXLabels();
 
-        drawData();
+        // while rotating by touch, the web and data are drawn from the
+        // rotation layer, the labels, values, highlights and markers at the
+        // current angle
+        if (!drawRotationLayer())
+            drawRotatingContent();
 
         drawAdditional();
 
@@ -144,86 +189,235 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
     }
 
     /**
-     * Draws the spider web.
+     * Prepares the sine and cosine of the angle of each x-index. They are only
+     * calculated again if the number of x-values or the rotation changed.
      */
-    private void drawWeb() {
+    private void prepareTrigonometry() {
 
-        if (!mDrawWeb)
-            return;
+        int count = mData.getXValCount();
 
-        float sliceangle = getSliceAngle();
+        if (count != mTrigCount || mRotationAngle != mTrigRotation) {
+
+            // one extra entry so that index i + 1 is valid for the last
+            // x-index
+            if (mCos.length != count + 1) {
+                mCos = new float[count + 1];
+                mSin = new float[count + 1];
+            }
+
+            float sliceangle = getSliceAngle();
+
+            for (int i = 0; i <= count; i++) {
+
+                double angle = Math.toRadians(sliceangle * i + mRotationAngle);
+
+                mCos[i] = (float) Math.cos(angle);
+                mSin[i] = (float) Math.sin(angle);
+            }
+
+            mTrigCount = count;
+            mTrigRotation = mRotationAngle;
+            mGeometryValid = false;
+        }
+
+        mCenterX = mContentRect.centerX();
+        mCenterY = mContentRect.centerY();
+    }
+
+    /**
+     * Prepares the trigonometry (see prepareTrigonometry()) and rebuilds the
+     * cached web and limit line paths if the geometry of the chart changed.
+     */
+    private void prepareGeometry() {
+
+        prepareTrigonometry();
 
-        // calculate the factor that is needed for transforming the value to
-        // pixels
         float factor = getFactor();
+        ArrayList<LimitLine> limitLines = mData.getLimitLines();
+        int limitLineCount = limitLines == null ? 0 : limitLines.size();
 
-        PointF c = getCenterOffsets();
+        if (mGeometryValid && factor == mGeometryFactor && mCenterX == mGeometryCenterX
+                && mCenterY == mGeometryCenterY
+                && mYLabels.mEntryCount == mGeometryLabelCount
+                && limitLines == mGeometryLimitLines
+                && limitLineCount == mGeometryLimitLineCount)
+            return;
 
-        // draw the web lines that come from the center
-        mWebPaint.setStrokeWidth(mWebLineWidth);
-        mWebPaint.setColor(mWebColor);
-        mWebPaint.setAlpha(mWebAlpha);
+        buildWebPaths(factor);
+        buildLimitLinePaths(factor, limitLines);
 
-        for (int i = 0; i < mData.getXValCount(); i++) {
+        mGeometryFactor = factor;
+        mGeometryCenterX = mCenterX;
+        mGeometryCenterY = mCenterY;
+        mGeometryLabelCount = mYLabels.mEntryCount;
+        mGeometryLimitLines = limitLines;
+        mGeometryLimitLineCount = limitLineCount;
+        mGeometryValid = true;
+    }
 
-            PointF p = getPosition(c, mYChartMax * factor, sliceangle * i + mRotationAngle);
+    /**
+     * Builds the paths of the spider web.
+     * 
+     * @param factor
+     */
+    private void buildWebPaths(float factor) {
+
+        int count = mData.getXValCount();
+
+        // the web lines that come from the center
+        mWebPath.reset();
+
+        float r = mYChartMax * factor;
+
+        for (int i = 0; i < count; i++) {
 
-            mDrawCanvas.drawLine(c.x, c.y, p.x, p.y, mWebPaint);
+            mWebPath.moveTo(mCenterX, mCenterY);
+            mWebPath.lineTo(mCenterX + r * mCos[i], mCenterY + r * mSin[i]);
         }
 
-        // draw the inner-web
-        mWebPaint.setStrokeWidth(mInnerWebLineWidth);
-        mWebPaint.setColor(mWebColorInner);
-        mWebPaint.setAlpha(mWebAlpha);
+        // the inner-web
+        mInnerWebPath.reset();
 
         int labelCount = mYLabels.mEntryCount;
 
         for (int j = 0; j < labelCount; j++) {
 
-            for (int i = 0; i < mData.getXValCount(); i++) {
+            r = ((mYChartMax / labelCount) * (j + 1)) * factor;
 
-                float r = ((mYChartMax / labelCount) * (j + 1)) * factor;
+            for (int i = 0; i < count; i++) {
 
-                PointF p1 = getPosition(c, r, sliceangle * i + mRotationAngle);
-                PointF p2 = getPosition(c, r, sliceangle * (i + 1) + mRotationAngle);
+                mInnerWebPath.moveTo(mCenterX + r * mCos[i], mCenterY + r * mSin[i]);
+                mInnerWebPath.lineTo(mCenterX + r * mCos[i + 1], mCenterY + r * mSin[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Builds the paths of the limit lines.
+     * 
+     * @param factor
+     * @param limitLines
+     */
+    private void buildLimitLinePaths(float factor, ArrayList<LimitLine> limitLines) {
+
+        mLimitLinePaths.clear();
+
+        if (limitLines == null)
+            return;
 
-                mDrawCanvas.drawLine(p1.x, p1.y, p2.x, p2.y, mWebPaint);
+        int count = mData.getXValCount();
+
+        for (int i = 0; i < limitLines.size(); i++) {
+
+            float r = limitLines.get(i).getLimit() * factor;
+
+            Path limitPath = new Path();
+
+            for (int j = 0; j < count; j++) {
+
+                float x = mCenterX + r * mCos[j];
+                float y = mCenterY + r * mSin[j];
+
+                if (j == 0)
+                    limitPath.moveTo(x, y);
+                else
+                    limitPath.lineTo(x, y);
             }
+
+            limitPath.close();
+
+            mLimitLinePaths.add(limitPath);
         }
     }
 
+    @Override
+    protected void getRotationLayerBounds(RectF bounds) {
+
+        // the web and the data are inside the radius, lines can reach out by
+        // half of their width
+        float lineWidth = mWebLineWidth;
+
+        for (int i = 0; i < mData.getDataSetCount(); i++)
+            lineWidth = Math.max(lineWidth, mData.getDataSetByIndex(i).getLineWidth());
+
+        ArrayList<LimitLine> limitLines = mData.getLimitLines();
+
+        if (limitLines != null) {
+            for (int i = 0; i < limitLines.size(); i++)
+                lineWidth = Math.max(lineWidth, limitLines.get(i).getLineWidth());
+        }
+
+        float r = getRadius() + lineWidth / 2f + 1f;
+
+        bounds.set(mContentRect.centerX() - r, mContentRect.centerY() - r,
+                mContentRect.centerX() + r, mContentRect.centerY() + r);
+    }
+
+    @Override
+    protected void drawRotatingContent() {
+
+        prepareGeometry();
+
+        drawWeb();
+
+        drawLimitLines();
+
+        drawData();
+    }
+
+    /**
+     * Draws the spider web.
+     */
+    private void drawWeb() {
+
+        if (!mDrawWeb)
+            return;
+
+        // draw the web lines that come from the center
+        mWebPaint.setStrokeWidth(mWebLineWidth);
+        mWebPaint.setColor(mWebColor);
+        mWebPaint.setAlpha(mWebAlpha);
+
+        mDrawCanvas.drawPath(mWebPath, mWebPaint);
+
+        // draw the inner-web
+        mWebPaint.setStrokeWidth(mInnerWebLineWidth);
+        mWebPaint.setColor(mWebColorInner);
+        mWebPaint.setAlpha(mWebAlpha);
+
+        mDrawCanvas.drawPath(mInnerWebPath, mWebPaint);
+    }
+
     @Override
     protected void drawData() {
 
         ArrayList<RadarDataSet> dataSets = mData.getDataSets();
 
-        float sliceangle = getSliceAngle();
-
         // calculate the factor that is needed for transforming the value to
         // pixels
         float factor = getFactor();
 
-        PointF c = getCenterOffsets();
-
         for (int i = 0; i < mData.getDataSetCount(); i++) {
 
             RadarDataSet dataSet = dataSets.get(i);
             ArrayList<Entry> entries = dataSet.getYVals();
 
-            Path surface = new Path();
+            Path surface = mSurfacePath;
+            surface.reset();
 
             for (int j = 0; j < entries.size(); j++) {
 
                 mRenderPaint.setColor(dataSet.getColor(j));
 
-                Entry e = entries.get(j);
+                float r = entries.get(j).getVal() * factor;
 
-                PointF p = getPosition(c, e.getVal() * factor, sliceangle * j + mRotationAngle);
+                float x = mCenterX + r * mCos[j];
+                float y = mCenterY + r * mSin[j];
 
                 if (j == 0)
-                    surface.moveTo(p.x, p.y);
+                    surface.moveTo(x, y);
                 else
-                    surface.lineTo(p.x, p.y);
+                    surface.lineTo(x, y);
             }
 
             surface.close();
@@ -255,14 +449,6 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         if (limitLines == null)
             return;
 
-        float sliceangle = getSliceAngle();
-
-        // calculate the factor that is needed for transforming the value to
-        // pixels
-        float factor = getFactor();
-
-        PointF c = getCenterOffsets();
-
         for (int i = 0; i < limitLines.size(); i++) {
 
             LimitLine l = limitLines.get(i);
@@ -271,23 +457,7 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
             mLimitLinePaint.setPathEffect(l.getDashPathEffect());
             mLimitLinePaint.setStrokeWidth(l.getLineWidth());
 
-            float r = l.getLimit() * factor;
-
-            Path limitPath = new Path();
-
-            for (int j = 0; j < mData.getXValCount(); j++) {
-
-                PointF p = getPosition(c, r, sliceangle * j + mRotationAngle);
-
-                if (j == 0)
-                    limitPath.moveTo(p.x, p.y);
-                else
-                    limitPath.lineTo(p.x, p.y);
-            }
-
-            limitPath.close();
-
-            mDrawCanvas.drawPath(limitPath, mLimitLinePaint);
+            mDrawCanvas.drawPath(mLimitLinePaths.get(i), mLimitLinePaint);
         }
     }
 
@@ -341,7 +511,6 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         mYLabelPaint.setTextSize(mYLabels.getTextSize());
         mYLabelPaint.setColor(mYLabels.getTextColor());
 
-        PointF c = getCenterOffsets();
         float factor = getFactor();
 
         int labelCount = mYLabels.mEntryCount;
@@ -353,7 +522,9 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
             float r = ((mYChartMax / labelCount) * j) * factor;
 
-            PointF p = getPosition(c, r, mRotationAngle);
+            // the y-labels are drawn along the line of the first x-index
+            float x = mCenterX + r * mCos[0];
+            float y = mCenterY + r * mSin[0];
 
             float val = r / factor;
 
@@ -361,9 +532,9 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
                     mYLabels.isSeparateThousandsEnabled());
 
             if (mYLabels.isDrawUnitsInYLabelEnabled())
-                mDrawCanvas.drawText(label + mUnit, p.x + 10, p.y - 5, mYLabelPaint);
+                mDrawCanvas.drawText(label + mUnit, x + 10, y - 5, mYLabelPaint);
             else {
-                mDrawCanvas.drawText(label, p.x + 10, p.y - 5, mYLabelPaint);
+                mDrawCanvas.drawText(label, x + 10, y - 5, mYLabelPaint);
             }
         }
     }
@@ -397,23 +568,18 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         mXLabelPaint.setTextSize(mXLabels.getTextSize());
         mXLabelPaint.setColor(mXLabels.getTextColor());
 
-        float sliceangle = getSliceAngle();
-
         // calculate the factor that is needed for transforming the value to
         // pixels
         float factor = getFactor();
 
-        PointF c = getCenterOffsets();
+        float r = mYChartMax * factor + mXLabels.mLabelWidth / 2f;
 
         for (int i = 0; i < mData.getXValCount(); i++) {
 
-            String text = mData.getXVals().get(i);
-
-            float angle = (sliceangle * i + mRotationAngle) % 360f;
-
-            PointF p = getPosition(c, mYChartMax * factor + mXLabels.mLabelWidth / 2f, angle);
+            String text = mData.getXVal(i);
 
-            mDrawCanvas.drawText(text, p.x, p.y + mXLabels.mLabelHeight / 2f, mXLabelPaint);
+            mDrawCanvas.drawText(text, mCenterX + r * mCos[i],
+                    mCenterY + r * mSin[i] + mXLabels.mLabelHeight / 2f, mXLabelPaint);
         }
     }
 
@@ -423,14 +589,10 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         // if values are drawn
         if (mDrawYValues) {
 
-            float sliceangle = getSliceAngle();
-
             // calculate the factor that is needed for transforming the value to
             // pixels
             float factor = getFactor();
 
-            PointF c = getCenterOffsets();
-
             float yoffset = Utils.convertDpToPixel(5f);
 
             for (int i = 0; i < mData.getDataSetCount(); i++) {
@@ -442,14 +604,16 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
                     Entry e = entries.get(j);
 
-                    PointF p = getPosition(c, e.getVal() * factor, sliceangle * j + mRotationAngle);
+                    float r = e.getVal() * factor;
+                    float x = mCenterX + r * mCos[j];
+                    float y = mCenterY + r * mSin[j];
 
                     if (mDrawUnitInChart)
                         mDrawCanvas.drawText(mValueFormatter.getFormattedValue(e.getVal()) + mUnit,
-                                p.x, p.y - yoffset, mValuePaint);
+                                x, y - yoffset, mValuePaint);
                     else
                         mDrawCanvas.drawText(mValueFormatter.getFormattedValue(e.getVal()),
-                                p.x, p.y - yoffset, mValuePaint);
+                                x, y - yoffset, mValuePaint);
                 }
             }
         }
@@ -461,11 +625,8 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         // if there are values to highlight and highlighnting is enabled, do it
         if (mHighlightEnabled && valuesToHighlight()) {
 
-            float sliceangle = getSliceAngle();
             float factor = getFactor();
 
-            PointF c = getCenterOffsets();
-
             for (int i = 0; i < mIndicesToHightlight.length; i++) {
 
                 RadarDataSet set = mData
@@ -480,15 +641,24 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
                 // get the index to highlight
                 int xIndex = mIndicesToHightlight[i].getXIndex();
 
-                Entry e = set.getEntryForXIndex(xIndex);
-                int j = set.getEntryPosition(e);
-                float y = e.getVal();
+                int j = set.getIndexInEntries(xIndex);
+
+                if (j < 0)
+                    continue;
 
-                PointF p = getPosition(c, y * factor, sliceangle * j + mRotationAngle);
+                float r = set.getYVals().get(j).getVal() * factor;
+                float x = mCenterX + r * mCos[j];
+                float y = mCenterY + r * mSin[j];
 
-                float[] pts = new float[] {
-                        p.x, 0, p.x, getHeight(), 0, p.y, getWidth(), p.y
-                };
+                float[] pts = mHighlightBuffer;
+                pts[0] = x;
+                pts[1] = 0;
+                pts[2] = x;
+                pts[3] = getHeight();
+                pts[4] = 0;
+                pts[5] = y;
+                pts[6] = getWidth();
+                pts[7] = y;
 
                 mDrawCanvas.drawLines(pts, mHighlightPaint);
             }
@@ -514,6 +684,16 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         return 360f / (float) mData.getXValCount();
     }
 
+    @Override
+    protected void getMarkerPosition(Entry e, int dataSetIndex, float[] pos) {
+
+        double angle = Math.toRadians(getSliceAngle() * e.getXIndex() + mRotationAngle);
+        float val = e.getVal() * getFactor();
+
+        pos[0] = (float) (mContentRect.centerX() + val * Math.cos(angle));
+        pos[1] = (float) (mContentRect.centerY() + val * Math.sin(angle));
+    }
+
     @Override
     public int getIndexForAngle(float angle) {
 
@@ -8,6 +8,7 @@ import android.util.AttributeSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.Highlight;
 
 import java.util.ArrayList;
 
@@ -59,6 +60,16 @@ public class ScatterChart extends BarLineChartBase<ScatterData> {
             mDeltaX = 1;
     }
 
+    @Override
+    public Highlight getHighlightByTouchPoint(float x, float y) {
+
+        // the closest entry in pixels across all DataSets, falls back to the
+        // closest x-index if no entry is drawn
+        Highlight h = getNearestHighlight(x, y);
+
+        return h != null ? h : super.getHighlightByTouchPoint(x, y);
+    }
+
     @Override
     protected void drawData() {
 
@@ -71,7 +82,8 @@ public class ScatterChart extends BarLineChartBase<ScatterData> {
 
             float shapeHalf = dataSet.getScatterShapeSize() / 2f;
 
-            float[] valuePoints = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY);
+            float[] valuePoints = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY,
+                    mData.getXOrigin());
 
             ScatterShape shape = dataSet.getScatterShape();
 
@@ -150,7 +162,8 @@ public class ScatterChart extends BarLineChartBase<ScatterData> {
                 ScatterDataSet dataSet = dataSets.get(i);
                 ArrayList<Entry> entries = dataSet.getYVals();
 
-                float[] positions = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY);
+                float[] positions = mTrans.generateTransformedValuesLineScatter(entries, mPhaseY,
+                        mData.getXOrigin());
 
                 float shapeSize = dataSet.getScatterShapeSize();
 
@@ -195,16 +208,22 @@ public class ScatterChart extends BarLineChartBase<ScatterData> {
             mHighlightPaint.setColor(set.getHighLightColor());
 
             int xIndex = mIndicesToHightlight[i].getXIndex(); // get the
-                                                              // x-position
+                                                              // x-index
+
+            Entry e = set.getEntryForXIndex(xIndex);
+
+            if (e == null)
+                continue;
+
+            float x = mData.getXPosition(e); // get the x-position
 
-            if (xIndex > mDeltaX * mPhaseX)
+            if (x > mDeltaX * mPhaseX)
                 continue;
 
-            float y = set.getYValForXIndex(xIndex) * mPhaseY; // get the
-                                                              // y-position
+            float y = e.getVal() * mPhaseY; // get the y-position
 
             float[] pts = new float[] {
-                    xIndex, mYChartMax, xIndex, mYChartMin, 0, y, mDeltaX, y
+                    x, mYChartMax, x, mYChartMin, 0, y, mDeltaX, y
             };
 
             mTrans.pointValuesToPixel(pts);
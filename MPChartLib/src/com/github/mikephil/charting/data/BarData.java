@@ -21,6 +21,10 @@ public class BarData extends BarLineScatterCandleData<BarDataSet> {
         super(xVals);
     }
 
+    public BarData(XValueProvider xVals) {
+        super(xVals);
+    }
+
     public BarData(ArrayList<String> xVals, ArrayList<BarDataSet> dataSets) {
         super(xVals, dataSets);
     }
@@ -29,6 +33,10 @@ public class BarData extends BarLineScatterCandleData<BarDataSet> {
         super(xVals, dataSets);
     }
 
+    public BarData(XValueProvider xVals, ArrayList<BarDataSet> dataSets) {
+        super(xVals, dataSets);
+    }
+
     public BarData(ArrayList<String> xVals, BarDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
@@ -36,6 +44,10 @@ public class BarData extends BarLineScatterCandleData<BarDataSet> {
     public BarData(String[] xVals, BarDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
+
+    public BarData(XValueProvider xVals, BarDataSet dataSet) {
+        super(xVals, toArrayList(dataSet));
+    }
     
     private static ArrayList<BarDataSet> toArrayList(BarDataSet dataSet) {
         ArrayList<BarDataSet> sets = new ArrayList<BarDataSet>();
@@ -68,4 +80,14 @@ public class BarData extends BarLineScatterCandleData<BarDataSet> {
     public void setGroupSpace(float percent) {
         mGroupSpace = percent / 100f;
     }
+
+    @Override
+    public BarData copy() {
+
+        ArrayList<BarDataSet> sets = copyDataSets();
+        BarData copied = new BarData(copyXVals(sets), sets);
+        copyLimitLinesTo(copied);
+        copied.mGroupSpace = mGroupSpace;
+        return copied;
+    }
 }
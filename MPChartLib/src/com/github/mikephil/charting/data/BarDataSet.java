@@ -12,9 +12,11 @@ public class BarDataSet extends BarLineScatterCandleRadarDataSet<BarEntry> {
 
     /**
      * the maximum number of bars that are stacked upon each other, this value
-     * is calculated from the Entries that are added to the DataSet
+     * is calculated from the Entries that are added to the DataSet (in
+     * calcMinMax(), which the DataSet constructor calls, so it has no
+     * initializer that would reset it afterwards)
      */
-    private int mStackSize = 1;
+    private int mStackSize;
 
     /** the color used for drawing the bar shadows */
     private int mBarShadowColor = Color.rgb(215, 215, 215);
@@ -23,9 +25,10 @@ public class BarDataSet extends BarLineScatterCandleRadarDataSet<BarEntry> {
     private int mHighLightAlpha = 120;
 
     /**
-     * the overall entry count, including counting each stack-value individually
+     * the overall entry count, including counting each stack-value
+     * individually, calculated like the stack size
      */
-    private int mEntryCountStacks = 0;
+    private int mEntryCountStacks;
 
     /**
      * array of labels used to describe the different values of the stacked bars
@@ -38,9 +41,6 @@ public class BarDataSet extends BarLineScatterCandleRadarDataSet<BarEntry> {
         super(yVals, label);
 
         mHighLightColor = Color.rgb(0, 0, 0);
-
-        calcStackSize(yVals);
-        calcEntryCountIncludingStacks(yVals);
     }
 
     @Override
@@ -53,7 +53,7 @@ public class BarDataSet extends BarLineScatterCandleRadarDataSet<BarEntry> {
         }
 
         BarDataSet copied = new BarDataSet(yVals, getLabel());
-        copied.mColors = mColors;
+        copySettingsTo(copied);
         copied.mStackSize = mStackSize;
         copied.mBarSpace = mBarSpace;
         copied.mBarShadowColor = mBarShadowColor;
@@ -64,40 +64,82 @@ public class BarDataSet extends BarLineScatterCandleRadarDataSet<BarEntry> {
         return copied;
     }
 
-    /**
-     * Calculates the total number of entries this DataSet represents, including
-     * stacks. All values belonging to a stack are calculated separately.
-     */
-    private void calcEntryCountIncludingStacks(ArrayList<BarEntry> yVals) {
+    @Override
+    public BarEntry createEntry(float val, int xIndex) {
+        return new BarEntry(val, xIndex);
+    }
 
-        mEntryCountStacks = 0;
+    @Override
+    public void addEntry(Entry e) {
+        super.addEntry(e);
+
+        if (e != null)
+            onCalcMinMaxEntry((BarEntry) e);
+    }
+
+    @Override
+    public void addEntries(float[] values, int[] xIndices, int offset, int count) {
+        int size = mYVals.size();
+
+        super.addEntries(values, xIndices, offset, count);
+
+        // the added entries are not stacked
+        mEntryCountStacks += mYVals.size() - size;
+    }
 
-        for (int i = 0; i < yVals.size(); i++) {
+    @Override
+    public void replaceRange(int start, float[] values, int offset, int count) {
 
-            float[] vals = yVals.get(i).getVals();
+        // the replaced entries hold a single value afterwards, their stacks
+        // are dropped before the minimum and maximum are calculated again
+        if (count > 0 && start >= 0 && start + count <= mYVals.size()) {
 
-            if (vals == null)
-                mEntryCountStacks++;
-            else
-                mEntryCountStacks += vals.length;
+            for (int i = start; i < start + count; i++)
+                mYVals.get(i).setVals(null);
         }
+
+        super.replaceRange(start, values, offset, count);
     }
 
     /**
-     * calculates the maximum stacksize that occurs in the Entries array of this
-     * DataSet
+     * The maximum stacksize that occurs in the Entries array of this DataSet
+     * and the total number of entries this DataSet represents, including
+     * stacks, are calculated in the same pass as the minimum and maximum. All
+     * values belonging to a stack are counted separately.
      */
-    private void calcStackSize(ArrayList<BarEntry> yVals) {
+    @Override
+    protected void onCalcMinMaxStart() {
+        mStackSize = 1;
+        mEntryCountStacks = 0;
+    }
 
-        for (int i = 0; i < yVals.size(); i++) {
+    @Override
+    protected void onCalcMinMaxEntry(BarEntry e) {
 
-            float[] vals = yVals.get(i).getVals();
+        float[] vals = e.getVals();
 
-            if (vals != null && vals.length > mStackSize)
+        if (vals == null)
+            mEntryCountStacks++;
+        else {
+            mEntryCountStacks += vals.length;
+
+            if (vals.length > mStackSize)
                 mStackSize = vals.length;
         }
     }
 
+    /**
+     * Sets the stack size and the entry count including stacks that were
+     * calculated before, used when restoring a ChartDataSnapshot.
+     * 
+     * @param stackSize
+     * @param entryCountStacks
+     */
+    void restoreStacks(int stackSize, int entryCountStacks) {
+        mStackSize = stackSize;
+        mEntryCountStacks = entryCountStacks;
+    }
+
     /**
      * Returns the maximum number of bars that can be stacked upon another in
      * this DataSet.
@@ -64,6 +64,10 @@ public class BarEntry extends Entry {
 
         BarEntry copied = new BarEntry(getVal(), getXIndex(), getData());
         copied.mVals = mVals;
+
+        if (hasX())
+            copied.setX(getX());
+
         return copied;
     }
 
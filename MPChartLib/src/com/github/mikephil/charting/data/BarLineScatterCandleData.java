@@ -19,6 +19,10 @@ public abstract class BarLineScatterCandleData<T extends BarLineScatterCandleRad
         super(xVals);
     }
 
+    public BarLineScatterCandleData(XValueProvider xVals) {
+        super(xVals);
+    }
+
     public BarLineScatterCandleData(ArrayList<String> xVals, ArrayList<T> sets) {
         super(xVals, sets);
     }
@@ -26,4 +30,8 @@ public abstract class BarLineScatterCandleData<T extends BarLineScatterCandleRad
     public BarLineScatterCandleData(String[] xVals, ArrayList<T> sets) {
         super(xVals, sets);
     }
+
+    public BarLineScatterCandleData(XValueProvider xVals, ArrayList<T> sets) {
+        super(xVals, sets);
+    }
 }
@@ -24,6 +24,10 @@ public abstract class BarLineScatterCandleRadarData<T extends BarLineScatterCand
         super(xVals);
     }
 
+    public BarLineScatterCandleRadarData(XValueProvider xVals) {
+        super(xVals);
+    }
+
     public BarLineScatterCandleRadarData(ArrayList<String> xVals, ArrayList<T> sets) {
         super(xVals, sets);
     }
@@ -32,6 +36,10 @@ public abstract class BarLineScatterCandleRadarData<T extends BarLineScatterCand
         super(xVals, sets);
     }
 
+    public BarLineScatterCandleRadarData(XValueProvider xVals, ArrayList<T> sets) {
+        super(xVals, sets);
+    }
+
     /**
      * Adds a new LimitLine to the data.
      * 
@@ -85,6 +93,17 @@ public abstract class BarLineScatterCandleRadarData<T extends BarLineScatterCand
             return mLimitLines.get(index);
     }
 
+    /**
+     * Copies the LimitLines of this data object to the given copy of it.
+     * 
+     * @param copy
+     */
+    protected void copyLimitLinesTo(BarLineScatterCandleRadarData<T> copy) {
+
+        if (mLimitLines != null)
+            copy.addLimitLines(new ArrayList<LimitLine>(mLimitLines));
+    }
+
     /**
      * Updates the min and max y-value according to the set limits.
      */
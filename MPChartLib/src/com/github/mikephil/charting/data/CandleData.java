@@ -11,6 +11,10 @@ public class CandleData extends BarLineScatterCandleData<CandleDataSet> {
     public CandleData(String[] xVals) {
         super(xVals);
     }
+
+    public CandleData(XValueProvider xVals) {
+        super(xVals);
+    }
     
     public CandleData(ArrayList<String> xVals, ArrayList<CandleDataSet> dataSets) {
         super(xVals, dataSets);
@@ -19,6 +23,10 @@ public class CandleData extends BarLineScatterCandleData<CandleDataSet> {
     public CandleData(String[] xVals, ArrayList<CandleDataSet> dataSets) {
         super(xVals, dataSets);
     }
+
+    public CandleData(XValueProvider xVals, ArrayList<CandleDataSet> dataSets) {
+        super(xVals, dataSets);
+    }
     
     public CandleData(ArrayList<String> xVals, CandleDataSet dataSet) {
         super(xVals, toArrayList(dataSet));        
@@ -27,10 +35,23 @@ public class CandleData extends BarLineScatterCandleData<CandleDataSet> {
     public CandleData(String[] xVals, CandleDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
+
+    public CandleData(XValueProvider xVals, CandleDataSet dataSet) {
+        super(xVals, toArrayList(dataSet));
+    }
     
     private static ArrayList<CandleDataSet> toArrayList(CandleDataSet dataSet) {
         ArrayList<CandleDataSet> sets = new ArrayList<CandleDataSet>();
         sets.add(dataSet);
         return sets;
     }
+
+    @Override
+    public CandleData copy() {
+
+        ArrayList<CandleDataSet> sets = copyDataSets();
+        CandleData copied = new CandleData(copyXVals(sets), sets);
+        copyLimitLinesTo(copied);
+        return copied;
+    }
 }
@@ -22,6 +22,15 @@ public class CandleDataSet extends BarLineScatterCandleRadarDataSet<CandleEntry>
         super(yVals, label);
     }
 
+    /**
+     * Creates a candle for a single value, open, close, high and low are all
+     * the given value.
+     */
+    @Override
+    public CandleEntry createEntry(float val, int xIndex) {
+        return new CandleEntry(xIndex, val, val, val, val);
+    }
+
     @Override
     public DataSet<CandleEntry> copy() {
 
@@ -32,7 +41,7 @@ public class CandleDataSet extends BarLineScatterCandleRadarDataSet<CandleEntry>
         }
 
         CandleDataSet copied = new CandleDataSet(yVals, getLabel());
-        copied.mColors = mColors;
+        copySettingsTo(copied);
         copied.mShadowWidth = mShadowWidth;
         copied.mBodySpace = mBodySpace;
         copied.mHighLightColor = mHighLightColor;
@@ -41,28 +50,13 @@ public class CandleDataSet extends BarLineScatterCandleRadarDataSet<CandleEntry>
     }
     
     @Override
-    protected void calcMinMax() {
-//        super.calcMinMax();
-        
-        if (mYVals.size() == 0) {
-            return;
-        }
-        
-        ArrayList<CandleEntry> entries = (ArrayList<CandleEntry>) mYVals;
-
-        mYMin = entries.get(0).getLow();
-        mYMax = entries.get(0).getHigh();
-
-        for (int i = 0; i < entries.size(); i++) {
-
-            CandleEntry e = entries.get(i);
-
-            if (e.getLow() < mYMin)
-                mYMin = e.getLow();
+    protected float getEntryYMin(CandleEntry e) {
+        return e.getLow();
+    }
 
-            if (e.getHigh() > mYMax)
-                mYMax = e.getHigh();
-        }
+    @Override
+    protected float getEntryYMax(CandleEntry e) {
+        return e.getHigh();
     }
 
     /**
@@ -58,6 +58,25 @@ public class CandleEntry extends Entry {
         this.mClose = close;
     }
 
+    /**
+     * Constructor for a candle that is positioned by its own x-value (e.g. a
+     * timestamp) instead of an index in the x-values array.
+     * 
+     * @param x The x-value of the candle.
+     * @param shadowH The (shadow) high value.
+     * @param shadowL The (shadow) low value.
+     * @param open
+     * @param close
+     */
+    public CandleEntry(double x, float shadowH, float shadowL, float open, float close) {
+        super((shadowH + shadowL) / 2f, x);
+
+        this.mShadowHigh = shadowH;
+        this.mShadowLow = shadowL;
+        this.mOpen = open;
+        this.mClose = close;
+    }
+
     /**
      * Returns the overall range (difference) between shadow-high and
      * shadow-low.
@@ -91,6 +110,9 @@ public class CandleEntry extends Entry {
         CandleEntry c = new CandleEntry(getXIndex(), mShadowHigh, mShadowLow, mOpen,
                 mClose, getData());
 
+        if (hasX())
+            c.setX(getX());
+
         return c;
     }
 
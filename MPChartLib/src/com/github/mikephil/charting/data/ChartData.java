@@ -6,6 +6,12 @@ import android.util.Log;
 import com.github.mikephil.charting.utils.Highlight;
 
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Class that holds all relevant data that represents the chart. That involves
@@ -21,6 +27,18 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
     /** the minimum y-value in the y-value array */
     protected float mYMin = 0.0f;
 
+    /** the minimum x-value, if the entries have their own x-values */
+    protected double mXMin = 0.0;
+
+    /** the maximum x-value, if the entries have their own x-values */
+    protected double mXMax = 0.0;
+
+    /**
+     * true if the entries are positioned by their own x-values (e.g.
+     * timestamps) instead of their x-index
+     */
+    protected boolean mXContinuous = false;
+
     /** the total sum of all y-values */
     private float mYValueSum = 0f;
 
@@ -33,8 +51,44 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      */
     private float mXValAverageLength = 0;
 
-    /** holds all x-values the chart represents */
-    protected ArrayList<String> mXVals;
+    /**
+     * the maximum number of x-values that are looked at when estimating the
+     * average x-value length
+     */
+    private static final int XVAL_LENGTH_SAMPLES = 100;
+
+    /** incremented each time DataSets are added or removed */
+    private int mMembershipVersion = 0;
+
+    /** incremented each time notifyDataChanged() is called */
+    private int mDataVersion = 0;
+
+    /** flag for changes of the values of the DataSets */
+    public static final int CHANGED_VALUES = 1;
+
+    /** flag for changes of the x-values (labels) */
+    public static final int CHANGED_LABELS = 2;
+
+    /** flag for changes of the colors of the DataSets */
+    public static final int CHANGED_COLORS = 4;
+
+    /** flag for DataSets that were added or removed */
+    public static final int CHANGED_MEMBERSHIP = 8;
+
+    /** flag for changes of the number of entries */
+    public static final int CHANGED_COUNT = 16;
+
+    /**
+     * the minimum total number of entries for recalculating the DataSets in
+     * parallel
+     */
+    private static final int PARALLEL_RECALC_THRESHOLD = 50000;
+
+    /** executor for recalculating large numbers of entries in parallel */
+    private static ExecutorService sRecalcExecutor;
+
+    /** provides all x-values the chart represents */
+    protected XValueProvider mXVals;
 
     /** array that holds all DataSets the ChartData object represents */
     protected ArrayList<T> mDataSets;
@@ -46,7 +100,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      * @param xVals
      */
     public ChartData(ArrayList<String> xVals) {
-        this.mXVals = xVals;
+        this.mXVals = new ListXValueProvider(xVals);
 
         init();
     }
@@ -58,7 +112,19 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      * @param xVals
      */
     public ChartData(String[] xVals) {
-        this.mXVals = arrayToArrayList(xVals);
+        this.mXVals = new ListXValueProvider(arrayToArrayList(xVals));
+
+        init();
+    }
+
+    /**
+     * Constructor for only x-values. This constructor can be used for setting
+     * up an empty chart without data.
+     * 
+     * @param xVals provider that creates the x-values on demand
+     */
+    public ChartData(XValueProvider xVals) {
+        this.mXVals = xVals;
 
         init();
     }
@@ -72,7 +138,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      * @param sets the dataset array
      */
     public ChartData(ArrayList<String> xVals, ArrayList<T> sets) {
-        this.mXVals = xVals;
+        this.mXVals = new ListXValueProvider(xVals);
         this.mDataSets = sets;
 
         init();
@@ -87,7 +153,22 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      * @param sets the dataset array
      */
     public ChartData(String[] xVals, ArrayList<T> sets) {
-        this.mXVals = arrayToArrayList(xVals);
+        this.mXVals = new ListXValueProvider(arrayToArrayList(xVals));
+        this.mDataSets = sets;
+
+        init();
+    }
+
+    /**
+     * constructor that takes a provider that creates the x-values on demand
+     * 
+     * @param xVals The provider of the values describing the x-axis. Must
+     *            provide at least as many values as the highest xIndex in the
+     *            Entry objects across all DataSets.
+     * @param sets the dataset array
+     */
+    public ChartData(XValueProvider xVals, ArrayList<T> sets) {
+        this.mXVals = xVals;
         this.mDataSets = sets;
 
         init();
@@ -117,30 +198,36 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
 
         isLegal(mDataSets);
 
-        calcMinMax(mDataSets);
-        calcYValueSum(mDataSets);
-        calcYValueCount(mDataSets);
+        calcAggregates();
 
         calcXValAverageLength();
     }
 
     /**
-     * calculates the average length (in characters) across all x-value strings
+     * calculates the average length (in characters) across the x-value
+     * strings, for large numbers of x-values only evenly distributed samples
+     * are looked at
      */
     private void calcXValAverageLength() {
 
-        if (mXVals.size() == 0) {
+        int count = mXVals.getXValCount();
+
+        if (count == 0) {
             mXValAverageLength = 1;
             return;
         }
 
+        int step = Math.max(1, count / XVAL_LENGTH_SAMPLES);
+
         float sum = 1f;
+        int samples = 0;
 
-        for (int i = 0; i < mXVals.size(); i++) {
-            sum += mXVals.get(i).length();
+        for (int i = 0; i < count; i += step) {
+            sum += mXVals.getXVal(i).length();
+            samples++;
         }
 
-        mXValAverageLength = sum / (float) mXVals.size();
+        mXValAverageLength = sum / (float) samples;
     }
 
     /**
@@ -157,7 +244,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
         for (int i = 0; i < dataSets.size(); i++) {
             if (dataSets.get(i)
                     .getYVals()
-                    .size() > mXVals.size()) {
+                    .size() > mXVals.getXValCount()) {
                 throw new IllegalArgumentException(
                         "One or more of the DataSet Entry arrays are longer than the x-values array of this ChartData object.");
             }
@@ -170,6 +257,65 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      */
     public void notifyDataChanged() {
         init();
+        mDataVersion++;
+    }
+
+    /**
+     * Returns the version of the values of this data object. It changes each
+     * time the entries of one of the DataSets change, and each time
+     * notifyDataChanged() is called.
+     * 
+     * @return
+     */
+    public int getValuesVersion() {
+
+        int version = mDataVersion;
+
+        if (mDataSets != null) {
+            for (int i = 0; i < mDataSets.size(); i++)
+                version += mDataSets.get(i).getVersion();
+        }
+
+        return version;
+    }
+
+    /**
+     * Returns the version of the colors of this data object. It changes each
+     * time the colors of one of the DataSets change, and each time
+     * notifyDataChanged() is called.
+     * 
+     * @return
+     */
+    public int getColorsVersion() {
+
+        int version = mDataVersion;
+
+        if (mDataSets != null) {
+            for (int i = 0; i < mDataSets.size(); i++)
+                version += mDataSets.get(i).getColorsVersion();
+        }
+
+        return version;
+    }
+
+    /**
+     * Returns the version of the DataSet membership of this data object. It
+     * changes each time a DataSet is added or removed.
+     * 
+     * @return
+     */
+    public int getMembershipVersion() {
+        return mMembershipVersion;
+    }
+
+    /**
+     * Returns the overall version of this data object, it changes each time
+     * values, colors or DataSets change.
+     * 
+     * @return
+     */
+    public int getVersion() {
+        return getValuesVersion() + getColorsVersion() + mMembershipVersion;
     }
 
     /**
@@ -194,6 +340,38 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
                     mYMax = dataSets.get(i).getYMax();
             }
         }
+
+        calcXMinMax(dataSets);
+    }
+
+    /**
+     * calc minimum and maximum x value over all datasets whose entries have
+     * their own x-values
+     */
+    private void calcXMinMax(ArrayList<T> dataSets) {
+
+        mXContinuous = false;
+        mXMin = 0.0;
+        mXMax = 0.0;
+
+        if (dataSets == null)
+            return;
+
+        for (int i = 0; i < dataSets.size(); i++) {
+
+            T set = dataSets.get(i);
+
+            if (!set.isXContinuous())
+                continue;
+
+            if (!mXContinuous || set.getXMin() < mXMin)
+                mXMin = set.getXMin();
+
+            if (!mXContinuous || set.getXMax() > mXMax)
+                mXMax = set.getXMax();
+
+            mXContinuous = true;
+        }
     }
 
     /**
@@ -264,6 +442,57 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
         return mYMax;
     }
 
+    /**
+     * Returns true if the entries are positioned by their own x-values (e.g.
+     * timestamps) instead of their x-index.
+     * 
+     * @return
+     */
+    public boolean isXContinuous() {
+        return mXContinuous;
+    }
+
+    /**
+     * Returns the smallest x-value of all entries with own x-values.
+     * 
+     * @return
+     */
+    public double getXMin() {
+        return mXMin;
+    }
+
+    /**
+     * Returns the greatest x-value of all entries with own x-values.
+     * 
+     * @return
+     */
+    public double getXMax() {
+        return mXMax;
+    }
+
+    /**
+     * Returns the x-value that is drawn at the left edge of the chart. This is
+     * the smallest x-value if the entries have their own x-values, 0 if not.
+     * 
+     * @return
+     */
+    public double getXOrigin() {
+        return mXContinuous ? mXMin : 0.0;
+    }
+
+    /**
+     * Returns the x-position of the given Entry that is used for drawing. This
+     * is the x-index, or the distance of the x-value to the x-origin if the
+     * entries have their own x-values (which keeps large values like
+     * timestamps precise when converted to float).
+     * 
+     * @param e
+     * @return
+     */
+    public float getXPosition(Entry e) {
+        return (float) (e.getX() - getXOrigin());
+    }
+
     /**
      * returns the average length (in characters) across all values in the
      * x-vals array
@@ -310,11 +539,42 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
     // }
 
     /**
-     * returns the x-values the chart represents
+     * returns the x-values the chart represents. If the x-values are created
+     * on demand by an XValueProvider, a new list containing all x-values is
+     * created, use getXVal(...) instead.
      * 
      * @return
      */
     public ArrayList<String> getXVals() {
+
+        if (mXVals instanceof ListXValueProvider)
+            return ((ListXValueProvider) mXVals).getXVals();
+
+        ArrayList<String> xVals = new ArrayList<String>();
+
+        for (int i = 0; i < mXVals.getXValCount(); i++) {
+            xVals.add(mXVals.getXVal(i));
+        }
+
+        return xVals;
+    }
+
+    /**
+     * Returns the x-value at the given x-index.
+     * 
+     * @param index
+     * @return
+     */
+    public String getXVal(int index) {
+        return mXVals.getXVal(index);
+    }
+
+    /**
+     * Returns the provider of the x-values the chart represents.
+     * 
+     * @return
+     */
+    public XValueProvider getXValueProvider() {
         return mXVals;
     }
 
@@ -372,7 +632,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      * @return
      */
     public int getXValCount() {
-        return mXVals.size();
+        return mXVals.getXValCount();
     }
 
     /**
@@ -444,6 +704,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
         if (mDataSets == null)
             mDataSets = new ArrayList<T>();
         mDataSets.add(d);
+        mMembershipVersion++;
 
         mYValCount += d.getEntryCount();
         mYValueSum += d.getYValueSum();
@@ -452,6 +713,8 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
             mYMax = d.getYMax();
         if (mYMin > d.getYMin())
             mYMin = d.getYMin();
+
+        calcXMinMax(mDataSets);
     }
 
     /**
@@ -471,6 +734,8 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
         // if a DataSet was removed
         if (removed) {
 
+            mMembershipVersion++;
+
             mYValCount -= d.getEntryCount();
             mYValueSum -= d.getYValueSum();
 
@@ -526,12 +791,261 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
 
                 // add the entry to the dataset
                 set.addEntry(e);
+
+                if (e.hasX()) {
+
+                    if (!mXContinuous || e.getX() < mXMin)
+                        mXMin = e.getX();
+                    if (!mXContinuous || e.getX() > mXMax)
+                        mXMax = e.getX();
+
+                    mXContinuous = true;
+                }
             }
         } else {
             Log.e("addEntry", "Cannot add Entry because dataSetIndex too high.");
         }
     }
 
+    /**
+     * Adds count values starting at offset of the given arrays as new entries
+     * to the end of the DataSet at the specified index. The entries array
+     * grows only once and the aggregates are updated once for all values. If
+     * xIndices is null, the entries get the x-indices following the x-index
+     * of the last entry of the DataSet.
+     * 
+     * @param values
+     * @param xIndices can be null
+     * @param offset
+     * @param count
+     * @param dataSetIndex
+     */
+    public void addEntries(float[] values, int[] xIndices, int offset, int count,
+            int dataSetIndex) {
+
+        if (mDataSets == null || dataSetIndex < 0 || dataSetIndex >= mDataSets.size()) {
+            Log.e("addEntries", "Cannot add Entries because dataSetIndex too high.");
+            return;
+        }
+
+        mDataSets.get(dataSetIndex).addEntries(values, xIndices, offset, count);
+
+        calcAggregates();
+    }
+
+    /**
+     * Replaces the values of count entries starting at the given position in
+     * the entries array of the DataSet at the specified index with count
+     * values starting at offset of the given array.
+     * 
+     * @param start position of the first entry to replace
+     * @param values
+     * @param offset
+     * @param count
+     * @param dataSetIndex
+     */
+    public void replaceRange(int start, float[] values, int offset, int count, int dataSetIndex) {
+
+        if (mDataSets == null || dataSetIndex < 0 || dataSetIndex >= mDataSets.size()) {
+            Log.e("replaceRange", "Cannot replace Entries because dataSetIndex too high.");
+            return;
+        }
+
+        mDataSets.get(dataSetIndex).replaceRange(start, values, offset, count);
+
+        calcAggregates();
+    }
+
+    /**
+     * Removes the first n entries of the DataSet at the specified index.
+     * Returns the number of entries that were removed.
+     * 
+     * @param n
+     * @param dataSetIndex
+     * @return
+     */
+    public int truncateFront(int n, int dataSetIndex) {
+
+        if (mDataSets == null || dataSetIndex < 0 || dataSetIndex >= mDataSets.size()) {
+            Log.e("truncateFront", "Cannot remove Entries because dataSetIndex too high.");
+            return 0;
+        }
+
+        int removed = mDataSets.get(dataSetIndex).truncateFront(n);
+
+        if (removed > 0)
+            calcAggregates();
+
+        return removed;
+    }
+
+    /**
+     * Recalculates the minimum, maximum, value-sum and value-count from the
+     * values of the DataSets in a single pass, without looking at the single
+     * entries.
+     */
+    private void calcAggregates() {
+
+        mYMin = 0f;
+        mYMax = 0f;
+        mYValueSum = 0f;
+        mYValCount = 0;
+
+        if (mDataSets != null && mDataSets.size() > 0) {
+
+            mYMin = mDataSets.get(0).getYMin();
+            mYMax = mDataSets.get(0).getYMax();
+
+            for (int i = 0; i < mDataSets.size(); i++) {
+
+                T set = mDataSets.get(i);
+
+                if (set.getYMin() < mYMin)
+                    mYMin = set.getYMin();
+
+                if (set.getYMax() > mYMax)
+                    mYMax = set.getYMax();
+
+                mYValueSum += Math.abs(set.getYValueSum());
+                mYValCount += set.getEntryCount();
+            }
+        }
+
+        calcXMinMax(mDataSets);
+    }
+
+    /**
+     * Recalculates the minimum, maximum and value-sum of all DataSets from
+     * their entries (like calling notifyDataSetChanged() on each of them) and
+     * then the values of this data object. Use this after modifying entries
+     * directly. If the DataSets contain many entries, they are recalculated in
+     * parallel on background threads, this method returns when all of them
+     * are done.
+     */
+    public void recalcDataSets() {
+
+        if (mDataSets == null)
+            return;
+
+        int entries = 0;
+
+        for (int i = 0; i < mDataSets.size(); i++)
+            entries += mDataSets.get(i).getEntryCount();
+
+        if (mDataSets.size() > 1 && entries >= PARALLEL_RECALC_THRESHOLD
+                && Runtime.getRuntime().availableProcessors() > 1) {
+            recalcDataSetsParallel();
+        } else {
+
+            for (int i = 0; i < mDataSets.size(); i++)
+                mDataSets.get(i).notifyDataSetChanged();
+        }
+
+        calcAggregates();
+        mDataVersion++;
+    }
+
+    /**
+     * Recalculates each DataSet on the recalculation executor and waits for
+     * all of them.
+     */
+    private void recalcDataSetsParallel() {
+
+        ExecutorService executor = getRecalcExecutor();
+
+        ArrayList<Future<Void>> futures = new ArrayList<Future<Void>>(mDataSets.size());
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+
+            final T set = mDataSets.get(i);
+
+            futures.add(executor.submit(new Callable<Void>() {
+
+                @Override
+                public Void call() {
+                    set.notifyDataSetChanged();
+                    return null;
+                }
+            }));
+        }
+
+        boolean interrupted = false;
+
+        // the DataSets must not be used before all are recalculated, so keep
+        // waiting if interrupted
+        for (int i = 0; i < futures.size(); i++) {
+
+            while (true) {
+                try {
+                    futures.get(i).get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Log.e("recalcDataSets", "Recalculating DataSet " + i + " failed.",
+                            e.getCause());
+                    break;
+                }
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Returns the executor used for recalculating DataSets in parallel. Uses
+     * daemon threads, one less than the number of available processors since
+     * the calling thread waits.
+     * 
+     * @return
+     */
+    private static synchronized ExecutorService getRecalcExecutor() {
+
+        if (sRecalcExecutor == null) {
+
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+            sRecalcExecutor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "ChartData-recalc");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+
+        return sRecalcExecutor;
+    }
+
+    /**
+     * Adds all values that were queued in the ingest queues of the DataSets as
+     * entries, updating the minimum and maximum values on the way. Must be
+     * called on the thread that draws the chart. Returns the number of added
+     * entries.
+     * 
+     * @return
+     */
+    public int drainIngestQueues() {
+
+        if (mDataSets == null)
+            return 0;
+
+        int count = 0;
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+
+            EntryQueue queue = mDataSets.get(i).getIngestQueue();
+
+            if (queue != null)
+                count += queue.drainTo(this, i);
+        }
+
+        return count;
+    }
+
     /**
      * Removes the given Entry object from the DataSet at the specified index.
      * 
@@ -589,20 +1103,34 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
      */
     public T getDataSetForEntry(Entry e) {
 
-        if (e == null)
+        int index = getDataSetIndexForEntry(e);
+
+        if (index < 0)
             return null;
 
-        for (int i = 0; i < mDataSets.size(); i++) {
+        return mDataSets.get(index);
+    }
 
-            T set = mDataSets.get(i);
+    /**
+     * Returns the index of the DataSet that contains the provided Entry, or -1,
+     * if no DataSet contains this Entry. Each DataSet is searched with binary
+     * search on the x-index of the Entry.
+     * 
+     * @param e
+     * @return
+     */
+    public int getDataSetIndexForEntry(Entry e) {
 
-            for (int j = 0; j < set.getEntryCount(); j++) {
-                if (e.equalTo(set.getEntryForXIndex(e.getXIndex())))
-                    return set;
-            }
+        if (e == null || mDataSets == null)
+            return -1;
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+
+            if (mDataSets.get(i).getEntryPosition(e) >= 0)
+                return i;
         }
 
-        return null;
+        return -1;
     }
 
     /**
@@ -619,7 +1147,7 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
         int clrcnt = 0;
 
         for (int i = 0; i < mDataSets.size(); i++) {
-            clrcnt += mDataSets.get(i).getColors().size();
+            clrcnt += mDataSets.get(i).getColorCount();
         }
 
         int[] colors = new int[clrcnt];
@@ -627,17 +1155,81 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
 
         for (int i = 0; i < mDataSets.size(); i++) {
 
-            ArrayList<Integer> clrs = mDataSets.get(i).getColors();
+            int[] clrs = mDataSets.get(i).getColorArray();
 
-            for (Integer clr : clrs) {
-                colors[cnt] = clr;
-                cnt++;
-            }
+            System.arraycopy(clrs, 0, colors, cnt, clrs.length);
+            cnt += clrs.length;
         }
 
         return colors;
     }
 
+    /**
+     * Returns a deep copy of this data object: the DataSets, their entries and
+     * a list of x-values are copied, so that the copy is not affected by any
+     * later modifications of this object. Used for publishing snapshots of
+     * data that is modified on a background thread. Subclasses need to
+     * override this method, the default implementation throws an
+     * UnsupportedOperationException.
+     * 
+     * @return
+     */
+    public ChartData<T> copy() {
+        throw new UnsupportedOperationException(getClass().getName()
+                + " does not support copy().");
+    }
+
+    /**
+     * Returns a copy of the x-values for copying this data object. An
+     * EntryXValueProvider is bound to the copy of its DataSet in the given
+     * copied DataSets, so that the copy does not read the entries of this
+     * data object. Providers that are not a CopyableXValueProvider are copied
+     * by reading all their x-values into a list.
+     * 
+     * @param copiedSets the copies of the DataSets of this data object, in
+     *            the same order
+     * @return
+     */
+    protected XValueProvider copyXVals(ArrayList<? extends DataSet<? extends Entry>> copiedSets) {
+
+        if (mXVals instanceof EntryXValueProvider) {
+
+            EntryXValueProvider provider = (EntryXValueProvider) mXVals;
+            int index = mDataSets.indexOf(provider.getDataSet());
+
+            if (index >= 0 && index < copiedSets.size())
+                return new EntryXValueProvider(copiedSets.get(index), provider.getFormatter());
+        }
+
+        if (mXVals instanceof CopyableXValueProvider)
+            return ((CopyableXValueProvider) mXVals).copy();
+
+        int count = mXVals.getXValCount();
+        ArrayList<String> xVals = new ArrayList<String>(count);
+
+        for (int i = 0; i < count; i++)
+            xVals.add(mXVals.getXVal(i));
+
+        return new ListXValueProvider(xVals);
+    }
+
+    /**
+     * Returns a deep copy of all DataSets for copying this data object.
+     * 
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    protected ArrayList<T> copyDataSets() {
+
+        ArrayList<T> sets = new ArrayList<T>(mDataSets.size());
+
+        for (int i = 0; i < mDataSets.size(); i++) {
+            sets.add((T) mDataSets.get(i).copy());
+        }
+
+        return sets;
+    }
+
     /**
      * Generates an x-values array filled with numbers in range specified by the
      * parameters. Can be used for convenience.
@@ -654,4 +1246,22 @@ public abstract class ChartData<T extends DataSet<? extends Entry>> {
 
         return xvals;
     }
+
+    /**
+     * Generates an XValueProvider representing the numbers in range specified
+     * by the parameters. Unlike generateXVals(...), the x-values are only
+     * created when they are needed.
+     * 
+     * @return
+     */
+    public static XValueProvider generateXValueProvider(final int from, int to) {
+
+        return new GeneratedXValueProvider(Math.max(0, to - from)) {
+
+            @Override
+            protected String generateXVal(int index) {
+                return String.valueOf(from + index);
+            }
+        };
+    }
 }
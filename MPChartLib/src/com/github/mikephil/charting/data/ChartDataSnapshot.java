@@ -0,0 +1,829 @@
+
+package com.github.mikephil.charting.data;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Compact snapshot of a ChartData object that can be used to save and restore
+ * the data of a chart across configuration changes. The entries of each
+ * DataSet are stored as primitive columns together with the colors, the
+ * labels and the precomputed aggregates of the DataSet, so that restoring the
+ * data does not recalculate anything. The snapshot can be put into a Bundle
+ * (it is Parcelable) or, for data that is too large for a Bundle, be written
+ * to a file with writeTo(...) and read back with readFrom(...). Styling
+ * properties of the DataSets other than the colors are not part of the
+ * snapshot. PagedLineDataSets are stored as LineDataSets of the entries that
+ * are currently loaded.
+ */
+public class ChartDataSnapshot implements Parcelable {
+
+    public static final int TYPE_LINE = 0;
+    public static final int TYPE_BAR = 1;
+    public static final int TYPE_SCATTER = 2;
+    public static final int TYPE_CANDLE = 3;
+    public static final int TYPE_PIE = 4;
+    public static final int TYPE_RADAR = 5;
+
+    /** identifies the binary snapshot format, "MPCS" */
+    private static final int MAGIC = 0x4d504353;
+
+    /** the version of the binary snapshot format */
+    private static final int VERSION = 1;
+
+    /** the size of the buffer used to write and read the columns */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /** the type of the ChartData, one of the TYPE_... constants */
+    private int mType;
+
+    /** the x-values, null if they are not backed by a list */
+    private String[] mXVals;
+
+    /** the number of x-values */
+    private int mXValCount;
+
+    /** the state of each DataSet */
+    private SetState[] mSets;
+
+    /**
+     * the viewport of the chart (scale-x, scale-y, translation-x and
+     * translation-y relative to the content size), null if not set
+     */
+    private float[] mViewport;
+
+    /**
+     * Creates a snapshot of the given ChartData. The entries are copied into
+     * primitive columns, the ChartData is not referenced by the snapshot.
+     * 
+     * @param data
+     */
+    public ChartDataSnapshot(ChartData<?> data) {
+
+        if (data instanceof LineData)
+            mType = TYPE_LINE;
+        else if (data instanceof BarData)
+            mType = TYPE_BAR;
+        else if (data instanceof ScatterData)
+            mType = TYPE_SCATTER;
+        else if (data instanceof CandleData)
+            mType = TYPE_CANDLE;
+        else if (data instanceof PieData)
+            mType = TYPE_PIE;
+        else if (data instanceof RadarData)
+            mType = TYPE_RADAR;
+        else
+            throw new IllegalArgumentException("Unsupported data type "
+                    + data.getClass().getName());
+
+        XValueProvider xVals = data.getXValueProvider();
+
+        mXValCount = xVals.getXValCount();
+
+        if (xVals instanceof ListXValueProvider)
+            mXVals = ((ListXValueProvider) xVals).getXVals().toArray(new String[mXValCount]);
+
+        mSets = new SetState[data.getDataSetCount()];
+
+        for (int i = 0; i < mSets.length; i++)
+            mSets[i] = new SetState(data.getDataSetByIndex(i));
+    }
+
+    private ChartDataSnapshot() {
+        // used when reading a snapshot
+    }
+
+    /**
+     * Returns the type of the snapshotted ChartData, one of the TYPE_...
+     * constants.
+     * 
+     * @return
+     */
+    public int getType() {
+        return mType;
+    }
+
+    /**
+     * Returns the total number of entries of all DataSets of the snapshot.
+     * 
+     * @return
+     */
+    public int getEntryCount() {
+
+        int count = 0;
+
+        for (SetState set : mSets)
+            count += set.xIndices.length;
+
+        return count;
+    }
+
+    /**
+     * Sets the viewport of the chart to restore together with the data.
+     * 
+     * @param scaleX the scale on the x-axis
+     * @param scaleY the scale on the y-axis
+     * @param transX the translation on the x-axis relative to the width of
+     *            the content
+     * @param transY the translation on the y-axis relative to the height of
+     *            the content
+     */
+    public void setViewport(float scaleX, float scaleY, float transX, float transY) {
+        mViewport = new float[] {
+                scaleX, scaleY, transX, transY
+        };
+    }
+
+    /**
+     * Returns the viewport of the chart (scale-x, scale-y, translation-x and
+     * translation-y relative to the content size), or null if no viewport was
+     * set.
+     * 
+     * @return
+     */
+    public float[] getViewport() {
+        return mViewport;
+    }
+
+    /**
+     * Restores the snapshotted ChartData. If the x-values were not backed by
+     * a list, they are generated from their index, use
+     * restore(XValueProvider) to provide them instead.
+     * 
+     * @return
+     */
+    public ChartData<?> restore() {
+
+        if (mXVals != null) {
+
+            ArrayList<String> xVals = new ArrayList<String>(mXVals.length);
+
+            for (String xVal : mXVals)
+                xVals.add(xVal);
+
+            return restore(new ListXValueProvider(xVals));
+        }
+
+        return restore(ChartData.generateXValueProvider(0, mXValCount));
+    }
+
+    /**
+     * Restores the snapshotted ChartData with the given x-values. The
+     * entries are recreated from the stored columns and the aggregates of the
+     * DataSets are restored as they were, nothing is recalculated.
+     * 
+     * @param xVals
+     * @return
+     */
+    public ChartData<?> restore(XValueProvider xVals) {
+
+        switch (mType) {
+            case TYPE_BAR: {
+                ArrayList<BarDataSet> sets = new ArrayList<BarDataSet>(mSets.length);
+
+                for (SetState state : mSets) {
+                    BarDataSet set = new BarDataSet(new ArrayList<BarEntry>(0), state.label);
+                    state.restoreTo(set, state.createBarEntries());
+                    set.restoreStacks(state.stackSize, state.entryCountStacks);
+                    sets.add(set);
+                }
+
+                return new BarData(xVals, sets);
+            }
+            case TYPE_CANDLE: {
+                ArrayList<CandleDataSet> sets = new ArrayList<CandleDataSet>(mSets.length);
+
+                for (SetState state : mSets) {
+                    CandleDataSet set = new CandleDataSet(new ArrayList<CandleEntry>(0),
+                            state.label);
+                    state.restoreTo(set, state.createCandleEntries());
+                    sets.add(set);
+                }
+
+                return new CandleData(xVals, sets);
+            }
+            case TYPE_SCATTER: {
+                ArrayList<ScatterDataSet> sets = new ArrayList<ScatterDataSet>(mSets.length);
+
+                for (SetState state : mSets) {
+                    ScatterDataSet set = new ScatterDataSet(new ArrayList<Entry>(0), state.label);
+                    state.restoreTo(set, state.createEntries());
+                    sets.add(set);
+                }
+
+                return new ScatterData(xVals, sets);
+            }
+            case TYPE_PIE: {
+                if (mSets.length == 0)
+                    return new PieData(xVals);
+
+                SetState state = mSets[0];
+                PieDataSet set = new PieDataSet(new ArrayList<Entry>(0), state.label);
+                state.restoreTo(set, state.createEntries());
+
+                return new PieData(xVals, set);
+            }
+            case TYPE_RADAR: {
+                ArrayList<RadarDataSet> sets = new ArrayList<RadarDataSet>(mSets.length);
+
+                for (SetState state : mSets) {
+                    RadarDataSet set = new RadarDataSet(new ArrayList<Entry>(0), state.label);
+                    state.restoreTo(set, state.createEntries());
+                    sets.add(set);
+                }
+
+                return new RadarData(xVals, sets);
+            }
+            default: {
+                ArrayList<LineDataSet> sets = new ArrayList<LineDataSet>(mSets.length);
+
+                for (SetState state : mSets) {
+                    LineDataSet set = new LineDataSet(new ArrayList<Entry>(0), state.label);
+                    state.restoreTo(set, state.createEntries());
+                    sets.add(set);
+                }
+
+                return new LineData(xVals, sets);
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot in a compact binary format to the given stream,
+     * used for data that is too large to be put into a Bundle. The stream is
+     * not closed.
+     * 
+     * @param out
+     * @throws IOException
+     */
+    public void writeTo(OutputStream out) throws IOException {
+
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out, CHUNK_SIZE));
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(mType);
+        dos.writeInt(mXValCount);
+        dos.writeBoolean(mXVals != null);
+
+        if (mXVals != null) {
+            for (String xVal : mXVals)
+                dos.writeUTF(xVal);
+        }
+
+        dos.writeBoolean(mViewport != null);
+
+        if (mViewport != null)
+            writeFloats(dos, buffer, mViewport);
+
+        dos.writeInt(mSets.length);
+
+        for (SetState set : mSets) {
+
+            writeString(dos, set.label);
+            dos.writeFloat(set.yMin);
+            dos.writeFloat(set.yMax);
+            dos.writeFloat(set.yValueSum);
+            dos.writeDouble(set.xMin);
+            dos.writeDouble(set.xMax);
+            dos.writeInt(set.stackSize);
+            dos.writeInt(set.entryCountStacks);
+
+            writeInts(dos, buffer, set.colors);
+            writeInts(dos, buffer, set.xIndices);
+            writeFloats(dos, buffer, set.values);
+            writeDoubles(dos, buffer, set.xs);
+            writeInts(dos, buffer, set.stackSizes);
+            writeFloats(dos, buffer, set.stackValues);
+            writeFloats(dos, buffer, set.candles);
+        }
+
+        dos.flush();
+    }
+
+    /**
+     * Reads a snapshot that was written with writeTo(...) from the given
+     * stream. The stream is not closed. Throws an IOException if the stream
+     * does not contain a snapshot.
+     * 
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public static ChartDataSnapshot readFrom(InputStream in) throws IOException {
+
+        DataInputStream dis = new DataInputStream(new BufferedInputStream(in, CHUNK_SIZE));
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+
+        if (dis.readInt() != MAGIC)
+            throw new IOException("Stream does not contain a chart data snapshot.");
+
+        int version = dis.readInt();
+
+        if (version > VERSION)
+            throw new IOException("Chart data snapshot version " + version
+                    + " is not supported.");
+
+        ChartDataSnapshot s = new ChartDataSnapshot();
+
+        s.mType = dis.readInt();
+        s.mXValCount = dis.readInt();
+
+        if (dis.readBoolean()) {
+            s.mXVals = new String[s.mXValCount];
+
+            for (int i = 0; i < s.mXValCount; i++)
+                s.mXVals[i] = dis.readUTF();
+        }
+
+        if (dis.readBoolean())
+            s.mViewport = readFloats(dis, buffer);
+
+        s.mSets = new SetState[dis.readInt()];
+
+        for (int i = 0; i < s.mSets.length; i++) {
+
+            SetState set = new SetState();
+
+            set.label = readString(dis);
+            set.yMin = dis.readFloat();
+            set.yMax = dis.readFloat();
+            set.yValueSum = dis.readFloat();
+            set.xMin = dis.readDouble();
+            set.xMax = dis.readDouble();
+            set.stackSize = dis.readInt();
+            set.entryCountStacks = dis.readInt();
+
+            set.colors = readInts(dis, buffer);
+            set.xIndices = readInts(dis, buffer);
+            set.values = readFloats(dis, buffer);
+            set.xs = readDoubles(dis, buffer);
+            set.stackSizes = readInts(dis, buffer);
+            set.stackValues = readFloats(dis, buffer);
+            set.candles = readFloats(dis, buffer);
+
+            s.mSets[i] = set;
+        }
+
+        return s;
+    }
+
+    /**
+     * Writes whether the given string is null followed by the string, used
+     * for the labels of the DataSets, which may be null.
+     */
+    private static void writeString(DataOutputStream dos, String s) throws IOException {
+
+        dos.writeBoolean(s != null);
+
+        if (s != null)
+            dos.writeUTF(s);
+    }
+
+    /**
+     * Reads a string written by writeString(...), returns null if a null
+     * string was written.
+     */
+    private static String readString(DataInputStream dis) throws IOException {
+        return dis.readBoolean() ? dis.readUTF() : null;
+    }
+
+    /**
+     * Writes the length of the given array (-1 for null) followed by its
+     * values, using the buffer to write the values in chunks.
+     */
+    private static void writeInts(DataOutputStream dos, ByteBuffer buffer, int[] vals)
+            throws IOException {
+
+        dos.writeInt(vals == null ? -1 : vals.length);
+
+        if (vals == null)
+            return;
+
+        int chunk = buffer.capacity() / 4;
+
+        for (int i = 0; i < vals.length; i += chunk) {
+            int count = Math.min(chunk, vals.length - i);
+
+            buffer.clear();
+            buffer.asIntBuffer().put(vals, i, count);
+            dos.write(buffer.array(), 0, count * 4);
+        }
+    }
+
+    private static void writeFloats(DataOutputStream dos, ByteBuffer buffer, float[] vals)
+            throws IOException {
+
+        dos.writeInt(vals == null ? -1 : vals.length);
+
+        if (vals == null)
+            return;
+
+        int chunk = buffer.capacity() / 4;
+
+        for (int i = 0; i < vals.length; i += chunk) {
+            int count = Math.min(chunk, vals.length - i);
+
+            buffer.clear();
+            buffer.asFloatBuffer().put(vals, i, count);
+            dos.write(buffer.array(), 0, count * 4);
+        }
+    }
+
+    private static void writeDoubles(DataOutputStream dos, ByteBuffer buffer, double[] vals)
+            throws IOException {
+
+        dos.writeInt(vals == null ? -1 : vals.length);
+
+        if (vals == null)
+            return;
+
+        int chunk = buffer.capacity() / 8;
+
+        for (int i = 0; i < vals.length; i += chunk) {
+            int count = Math.min(chunk, vals.length - i);
+
+            buffer.clear();
+            buffer.asDoubleBuffer().put(vals, i, count);
+            dos.write(buffer.array(), 0, count * 8);
+        }
+    }
+
+    /**
+     * Reads an array written by writeInts(...), returns null if a null array
+     * was written.
+     */
+    private static int[] readInts(DataInputStream dis, ByteBuffer buffer) throws IOException {
+
+        int length = dis.readInt();
+
+        if (length < 0)
+            return null;
+
+        int[] vals = new int[length];
+        int chunk = buffer.capacity() / 4;
+
+        for (int i = 0; i < length; i += chunk) {
+            int count = Math.min(chunk, length - i);
+
+            dis.readFully(buffer.array(), 0, count * 4);
+            buffer.clear();
+            buffer.asIntBuffer().get(vals, i, count);
+        }
+
+        return vals;
+    }
+
+    private static float[] readFloats(DataInputStream dis, ByteBuffer buffer) throws IOException {
+
+        int length = dis.readInt();
+
+        if (length < 0)
+            return null;
+
+        float[] vals = new float[length];
+        int chunk = buffer.capacity() / 4;
+
+        for (int i = 0; i < length; i += chunk) {
+            int count = Math.min(chunk, length - i);
+
+            dis.readFully(buffer.array(), 0, count * 4);
+            buffer.clear();
+            buffer.asFloatBuffer().get(vals, i, count);
+        }
+
+        return vals;
+    }
+
+    private static double[] readDoubles(DataInputStream dis, ByteBuffer buffer)
+            throws IOException {
+
+        int length = dis.readInt();
+
+        if (length < 0)
+            return null;
+
+        double[] vals = new double[length];
+        int chunk = buffer.capacity() / 8;
+
+        for (int i = 0; i < length; i += chunk) {
+            int count = Math.min(chunk, length - i);
+
+            dis.readFully(buffer.array(), 0, count * 8);
+            buffer.clear();
+            buffer.asDoubleBuffer().get(vals, i, count);
+        }
+
+        return vals;
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+
+        dest.writeInt(mType);
+        dest.writeInt(mXValCount);
+        dest.writeStringArray(mXVals);
+        dest.writeFloatArray(mViewport);
+        dest.writeInt(mSets.length);
+
+        for (SetState set : mSets) {
+
+            dest.writeString(set.label);
+            dest.writeFloat(set.yMin);
+            dest.writeFloat(set.yMax);
+            dest.writeFloat(set.yValueSum);
+            dest.writeDouble(set.xMin);
+            dest.writeDouble(set.xMax);
+            dest.writeInt(set.stackSize);
+            dest.writeInt(set.entryCountStacks);
+
+            dest.writeIntArray(set.colors);
+            dest.writeIntArray(set.xIndices);
+            dest.writeFloatArray(set.values);
+            dest.writeDoubleArray(set.xs);
+            dest.writeIntArray(set.stackSizes);
+            dest.writeFloatArray(set.stackValues);
+            dest.writeFloatArray(set.candles);
+        }
+    }
+
+    public static final Parcelable.Creator<ChartDataSnapshot> CREATOR =
+            new Parcelable.Creator<ChartDataSnapshot>() {
+
+                @Override
+                public ChartDataSnapshot createFromParcel(Parcel in) {
+
+                    ChartDataSnapshot s = new ChartDataSnapshot();
+
+                    s.mType = in.readInt();
+                    s.mXValCount = in.readInt();
+                    s.mXVals = in.createStringArray();
+                    s.mViewport = in.createFloatArray();
+                    s.mSets = new SetState[in.readInt()];
+
+                    for (int i = 0; i < s.mSets.length; i++) {
+
+                        SetState set = new SetState();
+
+                        set.label = in.readString();
+                        set.yMin = in.readFloat();
+                        set.yMax = in.readFloat();
+                        set.yValueSum = in.readFloat();
+                        set.xMin = in.readDouble();
+                        set.xMax = in.readDouble();
+                        set.stackSize = in.readInt();
+                        set.entryCountStacks = in.readInt();
+
+                        set.colors = in.createIntArray();
+                        set.xIndices = in.createIntArray();
+                        set.values = in.createFloatArray();
+                        set.xs = in.createDoubleArray();
+                        set.stackSizes = in.createIntArray();
+                        set.stackValues = in.createFloatArray();
+                        set.candles = in.createFloatArray();
+
+                        s.mSets[i] = set;
+                    }
+
+                    return s;
+                }
+
+                @Override
+                public ChartDataSnapshot[] newArray(int size) {
+                    return new ChartDataSnapshot[size];
+                }
+            };
+
+    /**
+     * The columns and aggregates of a single DataSet.
+     */
+    private static class SetState {
+
+        String label;
+
+        int[] colors;
+
+        int[] xIndices;
+
+        float[] values;
+
+        /** the own x-values of the entries (NaN if not set), null if none */
+        double[] xs;
+
+        /** the number of stacked values of each bar entry, null if none */
+        int[] stackSizes;
+
+        /** the stacked values of all bar entries, one after another */
+        float[] stackValues;
+
+        /** high, low, open and close of each candle entry, null if none */
+        float[] candles;
+
+        float yMin;
+        float yMax;
+        float yValueSum;
+        double xMin;
+        double xMax;
+
+        int stackSize;
+        int entryCountStacks;
+
+        SetState() {
+            // used when reading a snapshot
+        }
+
+        SetState(DataSet<? extends Entry> set) {
+
+            ArrayList<? extends Entry> entries = set.getYVals();
+
+            int count = entries.size();
+
+            label = set.getLabel();
+            colors = set.getColorArray().clone();
+            xIndices = new int[count];
+            values = new float[count];
+
+            yMin = set.getYMin();
+            yMax = set.getYMax();
+            yValueSum = set.getYValueSum();
+            xMin = set.getXMin();
+            xMax = set.getXMax();
+
+            boolean paged = set instanceof PagedLineDataSet;
+
+            if (paged) {
+                // only the loaded window is stored, its aggregates differ
+                // from the ones of the whole source
+                yMin = Float.MAX_VALUE;
+                yMax = -Float.MAX_VALUE;
+                yValueSum = 0f;
+                xMin = 0.0;
+                xMax = 0.0;
+            }
+
+            int stackedCount = 0;
+
+            for (int i = 0; i < count; i++) {
+
+                Entry e = entries.get(i);
+
+                xIndices[i] = e.getXIndex();
+                values[i] = e.getVal();
+
+                if (e.hasX()) {
+
+                    if (xs == null) {
+                        xs = new double[count];
+                        Arrays.fill(xs, Double.NaN);
+                    }
+
+                    xs[i] = e.getX();
+                }
+
+                if (paged) {
+                    yMin = Math.min(yMin, values[i]);
+                    yMax = Math.max(yMax, values[i]);
+                    // the value-sum of the DataSets is a sum of magnitudes
+                    yValueSum += Math.abs(values[i]);
+                }
+
+                if (e instanceof BarEntry && ((BarEntry) e).getVals() != null)
+                    stackedCount += ((BarEntry) e).getVals().length;
+            }
+
+            if (paged && count == 0) {
+                yMin = 0f;
+                yMax = 0f;
+            }
+
+            if (set instanceof BarDataSet) {
+
+                BarDataSet bars = (BarDataSet) set;
+
+                stackSize = bars.getStackSize();
+                entryCountStacks = bars.getEntryCountStacks();
+
+                if (stackedCount > 0) {
+
+                    stackSizes = new int[count];
+                    stackValues = new float[stackedCount];
+
+                    int pos = 0;
+
+                    for (int i = 0; i < count; i++) {
+
+                        float[] vals = ((BarEntry) entries.get(i)).getVals();
+
+                        if (vals != null) {
+                            stackSizes[i] = vals.length;
+                            System.arraycopy(vals, 0, stackValues, pos, vals.length);
+                            pos += vals.length;
+                        }
+                    }
+                }
+
+            } else if (set instanceof CandleDataSet) {
+
+                candles = new float[count * 4];
+
+                for (int i = 0; i < count; i++) {
+
+                    CandleEntry e = (CandleEntry) entries.get(i);
+
+                    candles[i * 4] = e.getHigh();
+                    candles[i * 4 + 1] = e.getLow();
+                    candles[i * 4 + 2] = e.getOpen();
+                    candles[i * 4 + 3] = e.getClose();
+                }
+            }
+        }
+
+        /**
+         * Sets the entries, colors and aggregates of the given DataSet.
+         */
+        <T extends Entry> void restoreTo(DataSet<T> set, ArrayList<T> entries) {
+            set.setColors(colors);
+            set.restoreState(entries, yMin, yMax, yValueSum, xMin, xMax);
+        }
+
+        ArrayList<Entry> createEntries() {
+
+            ArrayList<Entry> entries = new ArrayList<Entry>(xIndices.length);
+
+            for (int i = 0; i < xIndices.length; i++) {
+
+                Entry e = new Entry(values[i], xIndices[i]);
+
+                if (xs != null && !Double.isNaN(xs[i]))
+                    e.setX(xs[i]);
+
+                entries.add(e);
+            }
+
+            return entries;
+        }
+
+        ArrayList<BarEntry> createBarEntries() {
+
+            ArrayList<BarEntry> entries = new ArrayList<BarEntry>(xIndices.length);
+
+            int pos = 0;
+
+            for (int i = 0; i < xIndices.length; i++) {
+
+                BarEntry e = new BarEntry(values[i], xIndices[i]);
+
+                if (stackSizes != null && stackSizes[i] > 0) {
+
+                    float[] vals = new float[stackSizes[i]];
+                    System.arraycopy(stackValues, pos, vals, 0, vals.length);
+                    pos += vals.length;
+
+                    e.setVals(vals);
+                }
+
+                if (xs != null && !Double.isNaN(xs[i]))
+                    e.setX(xs[i]);
+
+                entries.add(e);
+            }
+
+            return entries;
+        }
+
+        ArrayList<CandleEntry> createCandleEntries() {
+
+            ArrayList<CandleEntry> entries = new ArrayList<CandleEntry>(xIndices.length);
+
+            for (int i = 0; i < xIndices.length; i++) {
+
+                CandleEntry e = new CandleEntry(xIndices[i], candles[i * 4],
+                        candles[i * 4 + 1], candles[i * 4 + 2], candles[i * 4 + 3]);
+
+                if (xs != null && !Double.isNaN(xs[i]))
+                    e.setX(xs[i]);
+
+                entries.add(e);
+            }
+
+            return entries;
+        }
+    }
+}
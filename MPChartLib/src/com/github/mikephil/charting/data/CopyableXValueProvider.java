@@ -0,0 +1,20 @@
+
+package com.github.mikephil.charting.data;
+
+/**
+ * XValueProvider that can create a copy of itself. Providers that do not
+ * implement this interface are copied by reading all their x-values when a
+ * ChartData object is copied (see ChartData.copy()).
+ */
+public interface CopyableXValueProvider extends XValueProvider {
+
+    /**
+     * Returns a copy of this provider that is not affected by later
+     * modifications of this provider and can be used on another thread than
+     * this provider. Used for publishing snapshots of data that is modified
+     * on a background thread.
+     * 
+     * @return
+     */
+    public XValueProvider copy();
+}
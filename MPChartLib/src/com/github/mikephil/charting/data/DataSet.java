@@ -3,10 +3,13 @@ package com.github.mikephil.charting.data;
 
 import android.content.Context;
 import android.graphics.Color;
+import android.util.Log;
 
+import com.github.mikephil.charting.utils.ColorFormatter;
 import com.github.mikephil.charting.utils.ColorTemplate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * The DataSet class represents one group or type of entries (Entry) in the
@@ -18,8 +21,20 @@ import java.util.ArrayList;
  */
 public abstract class DataSet<T extends Entry> {
 
-    /** arraylist representing all colors that are used for this DataSet */
-    protected ArrayList<Integer> mColors = null;
+    /** array representing all colors that are used for this DataSet */
+    protected int[] mColors = null;
+
+    /** formatter that provides a color for each entry, null if not used */
+    private ColorFormatter mColorFormatter = null;
+
+    /**
+     * the colors of the entries resolved by the color formatter, null if no
+     * color formatter is set
+     */
+    private int[] mEntryColors = null;
+
+    /** the version of the entries the entry colors were resolved for */
+    private int mEntryColorsVersion = -1;
 
     /** the entries that this dataset represents / holds together */
     protected ArrayList<T> mYVals = null;
@@ -33,9 +48,33 @@ public abstract class DataSet<T extends Entry> {
     /** the total sum of all y-values */
     private float mYValueSum = 0f;
 
+    /** the minimum x-value, only used if the entries have their own x-values */
+    protected double mXMin = 0.0;
+
+    /** the maximum x-value, only used if the entries have their own x-values */
+    protected double mXMax = 0.0;
+
     /** label that describes the DataSet or the data the DataSet represents */
     private String mLabel = "DataSet";
 
+    /** incremented each time the entries of the DataSet change */
+    private int mVersion = 0;
+
+    /** incremented each time the colors of the DataSet change */
+    private int mColorsVersion = 0;
+
+    /**
+     * list of the colors that is returned by getColors(), kept in sync with
+     * the colors array, null until getColors() is called
+     */
+    private ColorList mColorList = null;
+
+    /** the change count of the color list the colors array is in sync with */
+    private int mColorListChangeCount = 0;
+
+    /** queue of values pushed by a producer thread, null if not used */
+    private volatile EntryQueue mIngestQueue = null;
+
     /**
      * Creates a new DataSet object with the given values it represents. Also, a
      * label that describes the DataSet can be specified. The label can also be
@@ -56,15 +95,15 @@ public abstract class DataSet<T extends Entry> {
         // return;
         // }
 
-        mColors = new ArrayList<Integer>();
-
         // default colors
-        // mColors.add(Color.rgb(192, 255, 140));
-        // mColors.add(Color.rgb(255, 247, 140));
-        mColors.add(Color.rgb(140, 234, 255));
+        // Color.rgb(192, 255, 140)
+        // Color.rgb(255, 247, 140)
+        mColors = new int[] {
+                Color.rgb(140, 234, 255)
+        };
 
         calcMinMax();
-        calcYValueSum();
+        calcXMinMax();
     }
 
     /**
@@ -72,42 +111,257 @@ public abstract class DataSet<T extends Entry> {
      */
     public void notifyDataSetChanged() {
         calcMinMax();
-        calcYValueSum();
+        calcXMinMax();
+        mVersion++;
     }
 
     /**
-     * calc minimum and maximum y value
+     * Returns the version of the entries of this DataSet. The version changes
+     * each time entries are added, removed or replaced.
+     * 
+     * @return
      */
-    protected void calcMinMax() {
-        if (mYVals.size() == 0) {
+    public int getVersion() {
+        return mVersion;
+    }
+
+    /**
+     * Returns the version of the colors of this DataSet. The version changes
+     * each time colors are set, added or reset.
+     * 
+     * @return
+     */
+    public int getColorsVersion() {
+        syncColors();
+        return mColorsVersion;
+    }
+
+    /**
+     * Called by the chart before it is drawn with the range of x-indices that
+     * is currently visible. DataSets that do not hold all of their entries in
+     * memory (e.g. PagedLineDataSet) load the entries of the visible range.
+     * Does nothing by default.
+     *
+     * @param fromXIndex the lowest visible x-index
+     * @param toXIndex the highest visible x-index
+     */
+    public void prepareVisibleRange(int fromXIndex, int toXIndex) {
+        // all entries are in memory
+    }
+
+    /**
+     * Forces the colors of the entries provided by the color formatter to be
+     * resolved again, needed if the entries array changed without a change
+     * of the version.
+     */
+    protected void invalidateEntryColors() {
+        mEntryColorsVersion = -1;
+    }
+
+    /**
+     * Replaces the entries of this DataSet and sets the aggregates that were
+     * calculated for them before, used when restoring a ChartDataSnapshot.
+     * Nothing is recalculated.
+     * 
+     * @param yVals
+     * @param yMin
+     * @param yMax
+     * @param yValueSum
+     * @param xMin
+     * @param xMax
+     */
+    void restoreState(ArrayList<T> yVals, float yMin, float yMax, float yValueSum,
+            double xMin, double xMax) {
+
+        mYVals = yVals;
+        mYMin = yMin;
+        mYMax = yMax;
+        mYValueSum = yValueSum;
+        mXMin = xMin;
+        mXMax = xMax;
+        mVersion++;
+    }
+
+    /**
+     * If the entries have their own x-values, calculates the minimum and
+     * maximum x-value and sets the x-index of each entry to its position in
+     * the entries array. The entries need to be sorted by their x-value.
+     */
+    private void calcXMinMax() {
+
+        if (!isXContinuous())
             return;
+
+        for (int i = 0; i < mYVals.size(); i++) {
+            mYVals.get(i).setXIndex(i);
         }
 
-        mYMin = mYVals.get(0).getVal();
-        mYMax = mYVals.get(0).getVal();
+        mXMin = mYVals.get(0).getX();
+        mXMax = mYVals.get(mYVals.size() - 1).getX();
+    }
 
-        for (int i = 0; i < mYVals.size(); i++) {
+    /**
+     * Returns true if the entries of this DataSet are positioned by their own
+     * x-values (e.g. timestamps) instead of their x-index.
+     * 
+     * @return
+     */
+    public boolean isXContinuous() {
+        return mYVals.size() > 0 && mYVals.get(0).hasX();
+    }
+
+    /**
+     * Returns the smallest x-value of the entries. Only valid if the entries
+     * have their own x-values.
+     * 
+     * @return
+     */
+    public double getXMin() {
+        return mXMin;
+    }
+
+    /**
+     * Returns the greatest x-value of the entries. Only valid if the entries
+     * have their own x-values.
+     * 
+     * @return
+     */
+    public double getXMax() {
+        return mXMax;
+    }
+
+    /**
+     * Returns the position in the entries array of the Entry whose x-value is
+     * closest to the given x-value, using binary search. Returns -1 if the
+     * DataSet contains no entries. The entries need to be sorted by their
+     * x-value.
+     * 
+     * @param x
+     * @return
+     */
+    public int getEntryIndexForX(double x) {
 
-            Entry e = mYVals.get(i);
+        int size = mYVals.size();
+
+        if (size == 0)
+            return -1;
+
+        int low = 0;
+        int high = size - 1;
 
-            if (e.getVal() < mYMin)
-                mYMin = e.getVal();
+        // find the first entry with an x-value >= x
+        while (low < high) {
+            int m = (low + high) >>> 1;
 
-            if (e.getVal() > mYMax)
-                mYMax = e.getVal();
+            if (mYVals.get(m).getX() < x)
+                low = m + 1;
+            else
+                high = m;
         }
+
+        // the entry before might be closer
+        if (low > 0 && x - mYVals.get(low - 1).getX() <= mYVals.get(low).getX() - x)
+            return low - 1;
+
+        return low;
+    }
+
+    /**
+     * Returns the Entry whose x-value is closest to the given x-value, using
+     * binary search. Returns null if the DataSet contains no entries.
+     * 
+     * @param x
+     * @return
+     */
+    public T getEntryForX(double x) {
+
+        int index = getEntryIndexForX(x);
+
+        if (index < 0)
+            return null;
+
+        return mYVals.get(index);
     }
 
     /**
-     * calculates the sum of all y-values
+     * calc minimum and maximum y value and the sum of all y-values, in a
+     * single pass over the entries
      */
-    private void calcYValueSum() {
+    protected void calcMinMax() {
 
         mYValueSum = 0;
 
-        for (int i = 0; i < mYVals.size(); i++) {
-            mYValueSum += Math.abs(mYVals.get(i).getVal());
+        onCalcMinMaxStart();
+
+        int size = mYVals.size();
+
+        if (size == 0) {
+            return;
+        }
+
+        float min = getEntryYMin(mYVals.get(0));
+        float max = getEntryYMax(mYVals.get(0));
+        float sum = 0f;
+
+        for (int i = 0; i < size; i++) {
+
+            T e = mYVals.get(i);
+
+            float low = getEntryYMin(e);
+            float high = getEntryYMax(e);
+
+            if (low < min)
+                min = low;
+
+            if (high > max)
+                max = high;
+
+            sum += Math.abs(e.getVal());
+
+            onCalcMinMaxEntry(e);
         }
+
+        mYMin = min;
+        mYMax = max;
+        mYValueSum = sum;
+    }
+
+    /**
+     * Called by calcMinMax() before its pass over the entries. Subclasses
+     * that calculate their own statistics of the entries reset them here and
+     * calculate them in onCalcMinMaxEntry(...), in the same pass.
+     */
+    protected void onCalcMinMaxStart() {
+    }
+
+    /**
+     * Called by calcMinMax() for each entry, in the order of the entries.
+     * 
+     * @param e
+     */
+    protected void onCalcMinMaxEntry(T e) {
+    }
+
+    /**
+     * Returns the lowest y-value the given entry covers, used for calculating
+     * the minimum of the DataSet.
+     * 
+     * @param e
+     * @return
+     */
+    protected float getEntryYMin(T e) {
+        return e.getVal();
+    }
+
+    /**
+     * Returns the highest y-value the given entry covers, used for calculating
+     * the maximum of the DataSet.
+     * 
+     * @param e
+     * @return
+     */
+    protected float getEntryYMax(T e) {
+        return e.getVal();
     }
 
     /**
@@ -140,63 +394,103 @@ public abstract class DataSet<T extends Entry> {
 
     /**
      * Returns the first Entry object found at the given xIndex with binary
-     * search. Returns null if no Entry object at that index. INFORMATION: This
-     * method does calculations at runtime. Do not over-use in performance
-     * critical situations.
+     * search. Returns null if no Entry object at that index.
      * 
      * @param xIndex
      * @return
      */
     public T getEntryForXIndex(int x) {
 
-        int low = 0;
-        int high = mYVals.size() - 1;
+        int index = getIndexInEntries(x);
 
-        while (low <= high) {
-            int m = (high + low) / 2;
+        if (index < 0)
+            return null;
 
-            if (x == mYVals.get(m).getXIndex()) {
-                return mYVals.get(m);
-            }
+        return mYVals.get(index);
+    }
+
+    /**
+     * Returns all Entry objects at the given xIndex. The entries are found
+     * with binary search, the returned list is newly allocated.
+     * 
+     * @param xIndex
+     * @return
+     */
+    public ArrayList<T> getEntriesForXIndex(int x) {
+
+        int from = getEntryLowerBound(x);
+        int to = getEntryUpperBound(x);
+
+        ArrayList<T> entries = new ArrayList<T>(to - from);
+
+        for (int i = from; i < to; i++) {
+            entries.add(mYVals.get(i));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the position in the entries array of the first Entry whose
+     * x-index is greater than or equal to the given x-index (binary search).
+     * Returns the number of entries if there is no such Entry. Together with
+     * getEntryUpperBound(...), this gives the range of all entries at an
+     * x-index. The entries need to be sorted by their x-index.
+     * 
+     * @param xIndex
+     * @return
+     */
+    public int getEntryLowerBound(int xIndex) {
 
-            if (x > mYVals.get(m).getXIndex())
+        int low = 0;
+        int high = mYVals.size();
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mYVals.get(m).getXIndex() < xIndex)
                 low = m + 1;
             else
-                high = m - 1;
+                high = m;
         }
 
-        return null;
+        return low;
     }
 
     /**
-     * Returns all Entry objects at the given xIndex. INFORMATION: This method
-     * does calculations at runtime. Do not over-use in performance critical
-     * situations.
+     * Returns the position in the entries array of the first Entry whose
+     * x-index is greater than the given x-index (binary search). Returns the
+     * number of entries if there is no such Entry. The entries need to be
+     * sorted by their x-index.
      * 
      * @param xIndex
      * @return
      */
-    public ArrayList<T> getEntriesForXIndex(int x) {
-
-        ArrayList<T> entries = new ArrayList<T>();
+    public int getEntryUpperBound(int xIndex) {
 
         int low = 0;
         int high = mYVals.size();
 
-        while (low <= high) {
-            int m = (high + low) / 2;
-
-            if (x == mYVals.get(m).getXIndex()) {
-                entries.add(mYVals.get(m));
-            }
+        while (low < high) {
+            int m = (low + high) >>> 1;
 
-            if (x > mYVals.get(m).getXIndex())
+            if (mYVals.get(m).getXIndex() <= xIndex)
                 low = m + 1;
             else
-                high = m - 1;
+                high = m;
         }
 
-        return entries;
+        return low;
+    }
+
+    /**
+     * Returns the number of entries at the given x-index (binary search).
+     * 
+     * @param xIndex
+     * @return
+     */
+    public int getEntryCountForXIndex(int xIndex) {
+        return getEntryUpperBound(xIndex) - getEntryLowerBound(xIndex);
     }
 
     /**
@@ -246,19 +540,18 @@ public abstract class DataSet<T extends Entry> {
 
     /**
      * The xIndex of an Entry object is provided. This method returns the actual
-     * index in the Entry array of the DataSet. IMPORTANT: This method does
-     * calculations at runtime, do not over-use in performance critical
-     * situations.
+     * index in the Entry array of the DataSet (of the first Entry at that
+     * x-index), or -1 if there is no Entry at the x-index. Uses binary search.
      * 
      * @param xIndex
      * @return
      */
     public int getIndexInEntries(int xIndex) {
 
-        for (int i = 0; i < mYVals.size(); i++) {
-            if (xIndex == mYVals.get(i).getXIndex())
-                return i;
-        }
+        int index = getEntryLowerBound(xIndex);
+
+        if (index < mYVals.size() && mYVals.get(index).getXIndex() == xIndex)
+            return index;
 
         return -1;
     }
@@ -270,6 +563,17 @@ public abstract class DataSet<T extends Entry> {
      */
     public abstract DataSet<T> copy();
 
+    /**
+     * Copies the color settings of this DataSet to the given copy of it.
+     * Subclasses copy their own settings in addition.
+     * 
+     * @param copied
+     */
+    protected void copySettingsTo(DataSet<?> copied) {
+        copied.mColors = getColorArray();
+        copied.mColorFormatter = mColorFormatter;
+    }
+
     @Override
     public String toString() {
         StringBuffer buffer = new StringBuffer();
@@ -292,6 +596,40 @@ public abstract class DataSet<T extends Entry> {
         return buffer.toString();
     }
 
+    /**
+     * Creates the queue that a producer thread can push values into without
+     * allocations and locking. The queued values are added to this DataSet by
+     * the chart right before it is drawn, call postInvalidate() on the chart
+     * after pushing. Should be called on the UI thread before the producer is
+     * started, the queue is then handed to the producer.
+     * 
+     * @param capacity the number of values the queue can hold, rounded up to
+     *            the next power of two
+     * @return
+     */
+    public EntryQueue createIngestQueue(int capacity) {
+        mIngestQueue = new EntryQueue(capacity);
+        return mIngestQueue;
+    }
+
+    /**
+     * Returns the queue values can be pushed into from a producer thread, null
+     * if none was created.
+     * 
+     * @return
+     */
+    public EntryQueue getIngestQueue() {
+        return mIngestQueue;
+    }
+
+    /**
+     * Removes the ingest queue of this DataSet, values that are still queued
+     * are discarded.
+     */
+    public void removeIngestQueue() {
+        mIngestQueue = null;
+    }
+
     /**
      * Returns the label string that describes the DataSet.
      * 
@@ -329,8 +667,150 @@ public abstract class DataSet<T extends Entry> {
 
         mYValueSum += val;
 
+        // entries with own x-values are indexed by their position
+        if (e.hasX()) {
+
+            if (mYVals.size() == 0)
+                mXMin = e.getX();
+
+            mXMax = e.getX();
+            e.setXIndex(mYVals.size());
+        }
+
         // add the entry
         mYVals.add((T) e);
+        mVersion++;
+    }
+
+    /**
+     * Creates an Entry of the type this DataSet holds for the given value and
+     * x-index. Used for adding raw values to the DataSet.
+     * 
+     * @param val
+     * @param xIndex
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public T createEntry(float val, int xIndex) {
+        return (T) new Entry(val, xIndex);
+    }
+
+    /**
+     * Adds count values starting at offset of the given arrays as new entries
+     * to the end of the DataSet. The entries array grows only once and the
+     * minimum, maximum and value-sum are updated in the same pass. If
+     * xIndices is null, the entries get the x-indices following the x-index
+     * of the last entry. The added entries are positioned by their x-index,
+     * so nothing is added to a DataSet whose entries have their own x-values.
+     * 
+     * @param values
+     * @param xIndices can be null
+     * @param offset
+     * @param count
+     */
+    public void addEntries(float[] values, int[] xIndices, int offset, int count) {
+
+        if (count <= 0)
+            return;
+
+        if (isXContinuous()) {
+            Log.e("addEntries", "Cannot add Entries by x-index to the DataSet " + mLabel
+                    + ", its entries have their own x-values.");
+            return;
+        }
+
+        int size = mYVals.size();
+
+        mYVals.ensureCapacity(size + count);
+
+        if (size == 0) {
+            mYMin = values[offset];
+            mYMax = values[offset];
+        }
+
+        int xIndex = size == 0 ? 0 : mYVals.get(size - 1).getXIndex() + 1;
+
+        for (int i = offset; i < offset + count; i++) {
+
+            float val = values[i];
+
+            if (val < mYMin)
+                mYMin = val;
+            if (val > mYMax)
+                mYMax = val;
+
+            mYValueSum += Math.abs(val);
+
+            if (xIndices != null)
+                xIndex = xIndices[i];
+
+            mYVals.add(createEntry(val, xIndex));
+
+            xIndex++;
+        }
+
+        mVersion++;
+    }
+
+    /**
+     * Replaces the values of count entries starting at the given position in
+     * the entries array with count values starting at offset of the given
+     * array. The x-indices of the entries stay the same.
+     * 
+     * @param start position of the first entry to replace
+     * @param values
+     * @param offset
+     * @param count
+     */
+    public void replaceRange(int start, float[] values, int offset, int count) {
+
+        if (count <= 0)
+            return;
+
+        if (start < 0 || start + count > mYVals.size())
+            throw new IndexOutOfBoundsException("Cannot replace entries " + start + " to "
+                    + (start + count - 1) + ", the DataSet has " + mYVals.size() + " entries.");
+
+        for (int i = 0; i < count; i++) {
+
+            Entry e = mYVals.get(start + i);
+
+            mYValueSum += Math.abs(values[offset + i]) - Math.abs(e.getVal());
+            e.setVal(values[offset + i]);
+        }
+
+        // replaced values could have been the minimum or maximum
+        calcMinMax();
+
+        mVersion++;
+    }
+
+    /**
+     * Removes the first n entries of the DataSet in one step. Returns the
+     * number of entries that were removed.
+     * 
+     * @param n
+     * @return
+     */
+    public int truncateFront(int n) {
+
+        n = Math.min(n, mYVals.size());
+
+        if (n <= 0)
+            return 0;
+
+        for (int i = 0; i < n; i++) {
+            mYValueSum -= Math.abs(mYVals.get(i).getVal());
+        }
+
+        mYVals.subList(0, n).clear();
+
+        calcMinMax();
+        calcXMinMax();
+
+        mVersion++;
+
+        return n;
     }
 
     /**
@@ -355,6 +835,9 @@ public abstract class DataSet<T extends Entry> {
             mYValueSum -= val;
 
             calcMinMax();
+            calcXMinMax();
+
+            mVersion++;
         }
 
         return removed;
@@ -384,7 +867,15 @@ public abstract class DataSet<T extends Entry> {
      * @param colors
      */
     public void setColors(ArrayList<Integer> colors) {
-        this.mColors = colors;
+
+        int[] clrs = new int[colors.size()];
+
+        for (int i = 0; i < clrs.length; i++) {
+            clrs[i] = colors.get(i);
+        }
+
+        this.mColors = clrs;
+        onColorsSet();
     }
 
     /**
@@ -397,7 +888,8 @@ public abstract class DataSet<T extends Entry> {
      * @param colors
      */
     public void setColors(int[] colors) {
-        this.mColors = ColorTemplate.createColors(colors);
+        this.mColors = colors.clone();
+        onColorsSet();
     }
 
     /**
@@ -412,13 +904,14 @@ public abstract class DataSet<T extends Entry> {
      */
     public void setColors(int[] colors, Context c) {
 
-        ArrayList<Integer> clrs = new ArrayList<Integer>();
+        int[] clrs = new int[colors.length];
 
-        for (int color : colors) {
-            clrs.add(c.getResources().getColor(color));
+        for (int i = 0; i < colors.length; i++) {
+            clrs[i] = c.getResources().getColor(colors[i]);
         }
 
         mColors = clrs;
+        onColorsSet();
     }
 
     /**
@@ -427,9 +920,19 @@ public abstract class DataSet<T extends Entry> {
      * @param color
      */
     public void addColor(int color) {
-        if (mColors == null)
-            mColors = new ArrayList<Integer>();
-        mColors.add(color);
+
+        syncColors();
+
+        if (mColors == null) {
+            mColors = new int[] {
+                    color
+            };
+        } else {
+            mColors = Arrays.copyOf(mColors, mColors.length + 1);
+            mColors[mColors.length - 1] = color;
+        }
+
+        onColorsSet();
     }
 
     /**
@@ -439,28 +942,153 @@ public abstract class DataSet<T extends Entry> {
      * @param color
      */
     public void setColor(int color) {
-        resetColors();
-        mColors.add(color);
+        mColors = new int[] {
+                color
+        };
+        onColorsSet();
     }
 
     /**
-     * returns all the colors that are set for this DataSet
+     * returns all the colors that are set for this DataSet. The same list is
+     * returned on each call, changes to it are applied to the colors of the
+     * DataSet and it reflects colors set later on. Use getColorArray() in
+     * performance critical code.
      * 
      * @return
      */
     public ArrayList<Integer> getColors() {
+
+        if (mColorList == null) {
+
+            mColorList = new ColorList(mColors.length);
+
+            for (int i = 0; i < mColors.length; i++) {
+                mColorList.add(mColors[i]);
+            }
+
+            mColorListChangeCount = mColorList.getChangeCount();
+        }
+
+        return mColorList;
+    }
+
+    /**
+     * Returns the array of all colors that are set for this DataSet. The
+     * array must not be modified.
+     * 
+     * @return
+     */
+    public int[] getColorArray() {
+        syncColors();
         return mColors;
     }
 
+    /**
+     * Returns the number of colors that are set for this DataSet.
+     * 
+     * @return
+     */
+    public int getColorCount() {
+        syncColors();
+        return mColors.length;
+    }
+
+    /**
+     * Called after the colors array was set or changed, updates the color
+     * list returned by getColors() if there is one.
+     */
+    private void onColorsSet() {
+
+        mColorsVersion++;
+
+        if (mColorList == null)
+            return;
+
+        mColorList.clear();
+
+        for (int i = 0; i < mColors.length; i++) {
+            mColorList.add(mColors[i]);
+        }
+
+        mColorListChangeCount = mColorList.getChangeCount();
+    }
+
+    /**
+     * Updates the colors array if the color list returned by getColors() was
+     * changed since.
+     */
+    private void syncColors() {
+
+        if (mColorList == null || mColorList.getChangeCount() == mColorListChangeCount)
+            return;
+
+        int[] clrs = new int[mColorList.size()];
+
+        for (int i = 0; i < clrs.length; i++) {
+            clrs[i] = mColorList.get(i);
+        }
+
+        mColors = clrs;
+        mColorListChangeCount = mColorList.getChangeCount();
+        mColorsVersion++;
+    }
+
+    /**
+     * List of the colors returned by getColors() that counts its changes, so
+     * that the colors array can be updated when the list was changed.
+     */
+    private static class ColorList extends ArrayList<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        /** number of calls of set(...), which do not change the modCount */
+        private int mSetCount = 0;
+
+        ColorList(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public Integer set(int index, Integer color) {
+            mSetCount++;
+            return super.set(index, color);
+        }
+
+        /**
+         * returns a number that changes with each change of the list
+         */
+        int getChangeCount() {
+            return modCount + mSetCount;
+        }
+    }
+
     /**
      * Returns the color at the given index of the DataSet's color array.
-     * Performs a IndexOutOfBounds check by modulus.
+     * Performs a IndexOutOfBounds check by modulus. If a ColorFormatter is
+     * set, the color the formatter provided for the entry at the given index
+     * is returned.
      * 
      * @param index
      * @return
      */
     public int getColor(int index) {
-        return mColors.get(index % mColors.size());
+
+        syncColors();
+
+        if (mColorFormatter != null) {
+
+            if (mEntryColorsVersion != mVersion)
+                resolveEntryColors();
+
+            if (index < mEntryColors.length)
+                return mEntryColors[index];
+        }
+
+        // single color, no modulus needed
+        if (mColors.length == 1)
+            return mColors[0];
+
+        return mColors[index % mColors.length];
     }
     
     /**
@@ -470,14 +1098,57 @@ public abstract class DataSet<T extends Entry> {
      * @return
      */
     public int getColor() {
-        return mColors.get(0);
+        syncColors();
+        return mColors[0];
     }
 
     /**
      * Resets all colors of this DataSet and recreates the colors array.
      */
     public void resetColors() {
-        mColors = new ArrayList<Integer>();
+        mColors = new int[0];
+        onColorsSet();
+    }
+
+    /**
+     * Sets a ColorFormatter that provides the color of each entry depending
+     * on its value (e.g. for thresholds or gradients). The colors are
+     * resolved once each time the entries change, not each time the chart is
+     * drawn. Set null to use the colors array again.
+     * 
+     * @param formatter
+     */
+    public void setColorFormatter(ColorFormatter formatter) {
+        mColorFormatter = formatter;
+        mEntryColorsVersion = -1;
+        mColorsVersion++;
+    }
+
+    /**
+     * Returns the ColorFormatter of this DataSet, null if none is set.
+     * 
+     * @return
+     */
+    public ColorFormatter getColorFormatter() {
+        return mColorFormatter;
+    }
+
+    /**
+     * Resolves the color of each entry with the color formatter and stores
+     * them in the entry colors array.
+     */
+    private void resolveEntryColors() {
+
+        int size = mYVals.size();
+
+        if (mEntryColors == null || mEntryColors.length != size)
+            mEntryColors = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            mEntryColors[i] = mColorFormatter.getColor(mYVals.get(i), i);
+        }
+
+        mEntryColorsVersion = mVersion;
     }
 
     /**
@@ -489,7 +1160,13 @@ public abstract class DataSet<T extends Entry> {
      */
     public int getEntryPosition(Entry e) {
 
-        for (int i = 0; i < mYVals.size(); i++) {
+        if (e == null)
+            return -1;
+
+        int to = getEntryUpperBound(e.getXIndex());
+
+        // only the entries at the x-index of the entry need to be compared
+        for (int i = getEntryLowerBound(e.getXIndex()); i < to; i++) {
             if (e.equalTo(mYVals.get(i)))
                 return i;
         }
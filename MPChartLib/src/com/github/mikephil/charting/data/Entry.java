@@ -18,6 +18,12 @@ public class Entry {
     /** optional spot for additional data this Entry represents */
     private Object mData = null;
 
+    /**
+     * the x-value (e.g. a timestamp) of this Entry, NaN if the Entry is
+     * positioned by its x-index
+     */
+    private double mX = Double.NaN;
+
     /**
      * A Entry represents one single entry in the chart.
      * 
@@ -46,6 +52,20 @@ public class Entry {
         this.mData = data;
     }
 
+    /**
+     * A Entry that is positioned by its own x-value (e.g. a timestamp) instead
+     * of an index in the x-values array. The x-index of such an Entry is its
+     * position inside the DataSet it is added to.
+     * 
+     * @param val the y value (the actual value of the entry)
+     * @param x the x-value of the entry, the entries of a DataSet must be
+     *            sorted by this value
+     */
+    public Entry(float val, double x) {
+        mVal = val;
+        mX = x;
+    }
+
     /**
      * returns the x-index the value of this object is mapped to
      * 
@@ -64,6 +84,35 @@ public class Entry {
         this.mXIndex = x;
     }
 
+    /**
+     * Returns the x-value of this Entry. If the Entry has no own x-value, the
+     * x-index is returned.
+     * 
+     * @return
+     */
+    public double getX() {
+        return hasX() ? mX : mXIndex;
+    }
+
+    /**
+     * Sets the x-value (e.g. a timestamp) of this Entry.
+     * 
+     * @param x
+     */
+    public void setX(double x) {
+        this.mX = x;
+    }
+
+    /**
+     * Returns true if this Entry has its own x-value, false if it is
+     * positioned by its x-index.
+     * 
+     * @return
+     */
+    public boolean hasX() {
+        return !Double.isNaN(mX);
+    }
+
     /**
      * Returns the total value the entry represents.
      * 
@@ -129,6 +178,7 @@ public class Entry {
      */
     public Entry copy() {
         Entry e = new Entry(mVal, mXIndex, mData);
+        e.mX = mX;
         return e;
     }
 
@@ -148,6 +198,8 @@ public class Entry {
             return false;
         if (e.mXIndex != this.mXIndex)
             return false;
+        if (e.hasX() != this.hasX() || (hasX() && e.mX != this.mX))
+            return false;
 
         if (Math.abs(e.mVal - this.mVal) > 0.00001f)
             return false;
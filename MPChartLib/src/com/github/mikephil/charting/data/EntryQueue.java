@@ -0,0 +1,184 @@
+
+package com.github.mikephil.charting.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer / single-consumer ring queue of values that are
+ * waiting to be added to a DataSet. One producer thread (e.g. a sensor
+ * callback) pushes values into the queue without any allocation, the chart
+ * drains all queued values in one batch on the UI thread right before it is
+ * drawn. If the queue is full, new values are dropped. Create the queue for a
+ * DataSet with DataSet.createIngestQueue(...).
+ */
+public class EntryQueue {
+
+    /** the largest capacity, larger ones cannot be rounded to a power of two */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** mask for turning a position into an index of the ring buffers */
+    private final int mMask;
+
+    /** the x-indices of the queued values */
+    private final int[] mXIndices;
+
+    /** the x-values of the queued values, NaN if positioned by x-index */
+    private final double[] mXVals;
+
+    /** the queued y-values */
+    private final float[] mYVals;
+
+    /** position of the next value to write, only advanced by the producer */
+    private final AtomicLong mHead = new AtomicLong();
+
+    /** position of the next value to read, only advanced by the consumer */
+    private final AtomicLong mTail = new AtomicLong();
+
+    /** the number of values that were dropped because the queue was full */
+    private volatile long mDroppedCount = 0;
+
+    /**
+     * Constructor with the number of values the queue can hold. The capacity
+     * is rounded up to the next power of two and must be between 1 and 2^30.
+     * 
+     * @param capacity
+     */
+    public EntryQueue(int capacity) {
+
+        if (capacity < 1 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("The capacity of the queue must be between 1 and "
+                    + MAX_CAPACITY + ", but is " + capacity + ".");
+
+        int size = Integer.highestOneBit(capacity);
+
+        if (size < capacity)
+            size <<= 1;
+
+        mMask = size - 1;
+        mXIndices = new int[size];
+        mXVals = new double[size];
+        mYVals = new float[size];
+    }
+
+    /**
+     * Queues a value positioned at the given x-index. Must only be called by
+     * the producer thread. Returns false if the queue is full and the value
+     * was dropped.
+     * 
+     * @param xIndex
+     * @param val
+     * @return
+     */
+    public boolean offer(int xIndex, float val) {
+        return offer(xIndex, Double.NaN, val);
+    }
+
+    /**
+     * Queues a value positioned at the given x-value (e.g. a timestamp). Must
+     * only be called by the producer thread. Returns false if the queue is
+     * full and the value was dropped.
+     * 
+     * @param x
+     * @param val
+     * @return
+     */
+    public boolean offerX(double x, float val) {
+        return offer(0, x, val);
+    }
+
+    private boolean offer(int xIndex, double x, float val) {
+
+        long head = mHead.get();
+
+        if (head - mTail.get() > mMask) {
+            mDroppedCount++;
+            return false;
+        }
+
+        int index = (int) head & mMask;
+
+        mXIndices[index] = xIndex;
+        mXVals[index] = x;
+        mYVals[index] = val;
+
+        // publishes the written value to the consumer
+        mHead.lazySet(head + 1);
+        return true;
+    }
+
+    /**
+     * Adds all queued values as entries to the DataSet at the given index of
+     * the given ChartData object, which also updates its minimum and maximum.
+     * Must only be called by the consumer thread. Returns the number of added
+     * entries.
+     * 
+     * @param data
+     * @param dataSetIndex
+     * @return
+     */
+    public int drainTo(ChartData<?> data, int dataSetIndex) {
+
+        long tail = mTail.get();
+        long head = mHead.get();
+
+        if (head == tail)
+            return 0;
+
+        DataSet<? extends Entry> set = data.getDataSetByIndex(dataSetIndex);
+
+        for (long i = tail; i < head; i++) {
+
+            int index = (int) i & mMask;
+
+            double x = mXVals[index];
+
+            Entry e = set.createEntry(mYVals[index], mXIndices[index]);
+
+            if (!Double.isNaN(x))
+                e.setX(x);
+
+            data.addEntry(e, dataSetIndex);
+        }
+
+        // frees the read slots for the producer
+        mTail.lazySet(head);
+
+        return (int) (head - tail);
+    }
+
+    /**
+     * Removes all queued values without adding them. Must only be called by
+     * the consumer thread.
+     */
+    public void clear() {
+        mTail.lazySet(mHead.get());
+    }
+
+    /**
+     * Returns the number of values that are currently queued.
+     * 
+     * @return
+     */
+    public int size() {
+        return (int) (mHead.get() - mTail.get());
+    }
+
+    /**
+     * Returns the maximum number of values the queue can hold.
+     * 
+     * @return
+     */
+    public int getCapacity() {
+        return mMask + 1;
+    }
+
+    /**
+     * Returns the number of values that were dropped because the queue was
+     * full.
+     * 
+     * @return
+     */
+    public long getDroppedCount() {
+        return mDroppedCount;
+    }
+}
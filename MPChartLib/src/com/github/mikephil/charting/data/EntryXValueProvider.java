@@ -0,0 +1,67 @@
+
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.XValueFormatter;
+
+/**
+ * XValueProvider for entries that are positioned by their own x-value (e.g. a
+ * timestamp). The x-value at each x-index is the formatted x-value of the
+ * Entry at that position in the given DataSet.
+ */
+public class EntryXValueProvider implements CopyableXValueProvider {
+
+    /** the DataSet whose entries provide the x-values */
+    private DataSet<? extends Entry> mDataSet;
+
+    /** the formatter used to turn the x-values into labels */
+    private XValueFormatter mFormatter;
+
+    /**
+     * Constructor.
+     * 
+     * @param set the DataSet whose entries provide the x-values, usually the
+     *            one with the most entries
+     * @param formatter the formatter used to turn the x-values into labels
+     */
+    public EntryXValueProvider(DataSet<? extends Entry> set, XValueFormatter formatter) {
+        mDataSet = set;
+        mFormatter = formatter;
+    }
+
+    @Override
+    public int getXValCount() {
+        return mDataSet.getEntryCount();
+    }
+
+    @Override
+    public String getXVal(int index) {
+        return mFormatter.getFormattedXValue(mDataSet.getYVals().get(index).getX());
+    }
+
+    /**
+     * Returns a copy that is backed by a copy of the DataSet. ChartData
+     * copies rebind the provider to their own copy of the DataSet instead.
+     */
+    @Override
+    public XValueProvider copy() {
+        return new EntryXValueProvider(mDataSet.copy(), mFormatter);
+    }
+
+    /**
+     * Returns the DataSet whose entries provide the x-values.
+     * 
+     * @return
+     */
+    public DataSet<? extends Entry> getDataSet() {
+        return mDataSet;
+    }
+
+    /**
+     * Returns the formatter used to turn the x-values into labels.
+     * 
+     * @return
+     */
+    public XValueFormatter getFormatter() {
+        return mFormatter;
+    }
+}
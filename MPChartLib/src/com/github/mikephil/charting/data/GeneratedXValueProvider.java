@@ -0,0 +1,121 @@
+
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+
+/**
+ * Baseclass for XValueProviders that generate their x-values from the x-index
+ * when they are needed. Generated values are kept in a small cache that is
+ * indexed by x-index modulo the cache size, so that the labels visible on the
+ * screen do not need to be generated again each time the chart is drawn and a
+ * lookup does not allocate.
+ */
+public abstract class GeneratedXValueProvider implements CopyableXValueProvider {
+
+    /** the default number of x-values kept in the cache */
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    /** the number of x-values this provider represents */
+    private int mCount;
+
+    /** the x-indices of the cached x-values, -1 for empty slots */
+    private int[] mCachedIndices;
+
+    /** the cached x-values, slot is x-index modulo the cache size */
+    private String[] mCachedXVals;
+
+    /**
+     * Constructor with the number of x-values the provider represents.
+     * 
+     * @param count
+     */
+    public GeneratedXValueProvider(int count) {
+        this(count, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor with the number of x-values the provider represents and the
+     * maximum number of generated x-values to cache.
+     * 
+     * @param count
+     * @param cacheSize
+     */
+    public GeneratedXValueProvider(int count, int cacheSize) {
+        mCount = count;
+
+        int size = Math.max(1, cacheSize);
+        mCachedIndices = new int[size];
+        mCachedXVals = new String[size];
+        Arrays.fill(mCachedIndices, -1);
+    }
+
+    /**
+     * Generates the x-value for the given x-index.
+     * 
+     * @param index
+     * @return
+     */
+    protected abstract String generateXVal(int index);
+
+    @Override
+    public int getXValCount() {
+        return mCount;
+    }
+
+    /**
+     * Sets the number of x-values this provider represents. Use this to append
+     * x-values when entries are added dynamically.
+     * 
+     * @param count
+     */
+    public void setXValCount(int count) {
+        mCount = count;
+    }
+
+    @Override
+    public String getXVal(int index) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Invalid x-index " + index + ", count is "
+                    + mCount);
+
+        int slot = index % mCachedIndices.length;
+
+        if (mCachedIndices[slot] != index) {
+            mCachedXVals[slot] = generateXVal(index);
+            mCachedIndices[slot] = index;
+        }
+
+        return mCachedXVals[slot];
+    }
+
+    /**
+     * Returns a copy with the current number of x-values and its own cache,
+     * which generates its values with generateXVal(...) of this provider.
+     * Subclasses whose generateXVal(...) is not safe to be called from
+     * several threads (e.g. because it reuses objects) need to override this
+     * and return an independent provider.
+     */
+    @Override
+    public XValueProvider copy() {
+
+        final GeneratedXValueProvider source = this;
+
+        return new GeneratedXValueProvider(mCount, mCachedIndices.length) {
+
+            @Override
+            protected String generateXVal(int index) {
+                return source.generateXVal(index);
+            }
+        };
+    }
+
+    /**
+     * Clears the cache of generated x-values. Needs to be called if the
+     * generated values change, e.g. because the formatting was modified.
+     */
+    public void clearCache() {
+        Arrays.fill(mCachedIndices, -1);
+        Arrays.fill(mCachedXVals, null);
+    }
+}
@@ -13,6 +13,10 @@ public class LineData extends BarLineScatterCandleData<LineDataSet> {
         super(xVals);
     }
 
+    public LineData(XValueProvider xVals) {
+        super(xVals);
+    }
+
     public LineData(ArrayList<String> xVals, ArrayList<LineDataSet> dataSets) {
         super(xVals, dataSets);
     }
@@ -20,6 +24,10 @@ public class LineData extends BarLineScatterCandleData<LineDataSet> {
     public LineData(String[] xVals, ArrayList<LineDataSet> dataSets) {
         super(xVals, dataSets);
     }
+
+    public LineData(XValueProvider xVals, ArrayList<LineDataSet> dataSets) {
+        super(xVals, dataSets);
+    }
     
     public LineData(ArrayList<String> xVals, LineDataSet dataSet) {
         super(xVals, toArrayList(dataSet));        
@@ -28,10 +36,23 @@ public class LineData extends BarLineScatterCandleData<LineDataSet> {
     public LineData(String[] xVals, LineDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
+
+    public LineData(XValueProvider xVals, LineDataSet dataSet) {
+        super(xVals, toArrayList(dataSet));
+    }
     
     private static ArrayList<LineDataSet> toArrayList(LineDataSet dataSet) {
         ArrayList<LineDataSet> sets = new ArrayList<LineDataSet>();
         sets.add(dataSet);
         return sets;
     }
+
+    @Override
+    public LineData copy() {
+
+        ArrayList<LineDataSet> sets = copyDataSets();
+        LineData copied = new LineData(copyXVals(sets), sets);
+        copyLimitLinesTo(copied);
+        return copied;
+    }
 }
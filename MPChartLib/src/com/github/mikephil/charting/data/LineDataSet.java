@@ -6,6 +6,7 @@ import android.graphics.Color;
 import android.graphics.DashPathEffect;
 
 import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.IntervalDashPathEffect;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
@@ -54,15 +55,24 @@ public class LineDataSet extends LineRadarDataSet<Entry> {
         }
 
         LineDataSet copied = new LineDataSet(yVals, getLabel());
-        copied.mColors = mColors;
+        copySettingsTo(copied);
+
+        return copied;
+    }
+
+    /**
+     * Copies the styling settings of this DataSet to the given DataSet.
+     * 
+     * @param copied
+     */
+    protected void copySettingsTo(LineDataSet copied) {
+        super.copySettingsTo(copied);
         copied.mCircleSize = mCircleSize;
         copied.mCircleColors = mCircleColors;
         copied.mDashPathEffect = mDashPathEffect;
         copied.mDrawCircles = mDrawCircles;
         copied.mDrawCubic = mDrawCubic;
         copied.mHighLightColor = mHighLightColor;
-
-        return copied;
     }
 
     /**
@@ -115,7 +125,7 @@ public class LineDataSet extends LineRadarDataSet<Entry> {
      * @param phase offset, in degrees (normally, use 0)
      */
     public void enableDashedLine(float lineLength, float spaceLength, float phase) {
-        mDashPathEffect = new DashPathEffect(new float[] {
+        mDashPathEffect = new IntervalDashPathEffect(new float[] {
                 lineLength, spaceLength
         }, phase);
     }
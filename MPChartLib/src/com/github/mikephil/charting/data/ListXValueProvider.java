@@ -0,0 +1,42 @@
+
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+
+/**
+ * XValueProvider that is backed by a list of strings, one for each x-index.
+ * Changes to the list are reflected by the provider.
+ */
+public class ListXValueProvider implements CopyableXValueProvider {
+
+    /** the list holding all x-values */
+    private ArrayList<String> mXVals;
+
+    public ListXValueProvider(ArrayList<String> xVals) {
+        mXVals = xVals;
+    }
+
+    @Override
+    public int getXValCount() {
+        return mXVals.size();
+    }
+
+    @Override
+    public String getXVal(int index) {
+        return mXVals.get(index);
+    }
+
+    @Override
+    public XValueProvider copy() {
+        return new ListXValueProvider(new ArrayList<String>(mXVals));
+    }
+
+    /**
+     * Returns the list backing this provider.
+     * 
+     * @return
+     */
+    public ArrayList<String> getXVals() {
+        return mXVals;
+    }
+}
@@ -0,0 +1,31 @@
+
+package com.github.mikephil.charting.data;
+
+/**
+ * Interface for sources of entries that are too large to be held in memory
+ * (e.g. a binary entry file), used by the PagedLineDataSet. The entries of
+ * the source need to be sorted by their x-index. Copies of a PagedLineDataSet
+ * (e.g. published snapshots) share the source, so reading needs to be
+ * thread-safe.
+ */
+public interface PageSource {
+
+    /**
+     * Returns the total number of entries of the source.
+     * 
+     * @return
+     */
+    public int getEntryCount();
+
+    /**
+     * Reads count entries starting at the given position into the given
+     * arrays. Returns the number of entries that were read.
+     * 
+     * @param start the position of the first entry to read
+     * @param count the number of entries to read
+     * @param values the array the values are read into
+     * @param xIndices the array the x-indices are read into
+     * @return
+     */
+    public int read(int start, int count, float[] values, int[] xIndices);
+}
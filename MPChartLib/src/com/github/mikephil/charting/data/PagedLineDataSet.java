@@ -0,0 +1,527 @@
+
+package com.github.mikephil.charting.data;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+
+/**
+ * LineDataSet for recordings that are too large to be held in memory. The
+ * entries are read in pages from a PageSource (e.g. a BinaryFilePageSource).
+ * When the DataSet is created, the source is scanned once and the minimum
+ * and maximum of each page are kept for scaling the axis. Before the chart
+ * is drawn, only the pages covering the visible range plus a prefetch margin
+ * are read into a cache of a fixed number of pages, and the entries array of
+ * the DataSet contains only the entries of these pages. If more pages are
+ * visible than fit into the cache, the entries array contains the minimum
+ * and maximum of the visible pages instead. This way, the memory used does
+ * not depend on the size of the recording. The entries cannot be modified.
+ * Use a GeneratedXValueProvider for the x-values of the ChartData.
+ */
+public class PagedLineDataSet extends LineDataSet {
+
+    private static final String LOG_TAG = "MPChart-PagedLineDataSet";
+
+    /** the default number of entries of a page */
+    public static final int DEFAULT_PAGE_SIZE = 4096;
+
+    /** the default maximum number of pages held in memory */
+    public static final int DEFAULT_MAX_CACHED_PAGES = 16;
+
+    /** the source the entries are read from */
+    private PageSource mSource;
+
+    /** the number of entries of a page */
+    private int mPageSize;
+
+    /** the total number of entries */
+    private int mTotalCount;
+
+    /** the number of pages */
+    private int mPageCount;
+
+    /** the x-index of the first entry of each page */
+    private int[] mPageFirstXIndex;
+
+    /** the minimum and maximum value of each page */
+    private float[] mPageMin;
+    private float[] mPageMax;
+
+    /** the x-index of the minimum and maximum value of each page */
+    private int[] mPageMinXIndex;
+    private int[] mPageMaxXIndex;
+
+    /** the sum of the absolute values of all entries */
+    private float mTotalSum;
+
+    /** the cached pages */
+    private Page[] mCache;
+
+    /** incremented each time a page is used, for finding the least recently used */
+    private long mCacheClock;
+
+    /** the number of pages loaded before and after the visible pages */
+    private int mPrefetchPages = 1;
+
+    /** the entry objects that are reused for the entries array */
+    private ArrayList<Entry> mEntryPool;
+
+    /** the range of pages currently in the entries array, -1 if none */
+    private int mWindowFirstPage = -1;
+    private int mWindowLastPage = -1;
+
+    /** true if the entries array contains the minima and maxima of pages */
+    private boolean mWindowSummarized;
+
+    /**
+     * Constructor with the source of the entries, using the default page size
+     * and cache size.
+     * 
+     * @param source
+     * @param label
+     */
+    public PagedLineDataSet(PageSource source, String label) {
+        this(source, label, DEFAULT_PAGE_SIZE, DEFAULT_MAX_CACHED_PAGES);
+    }
+
+    /**
+     * Constructor with the source of the entries, the number of entries of a
+     * page and the maximum number of pages held in memory.
+     * 
+     * @param source
+     * @param label
+     * @param pageSize
+     * @param maxCachedPages
+     */
+    public PagedLineDataSet(PageSource source, String label, int pageSize, int maxCachedPages) {
+        super(new ArrayList<Entry>(), label);
+
+        mSource = source;
+        mPageSize = Math.max(1, pageSize);
+        mCache = new Page[Math.max(1, maxCachedPages)];
+        mEntryPool = new ArrayList<Entry>();
+
+        summarizePages();
+        calcMinMax();
+    }
+
+    /**
+     * Constructor for copies, shares the page summaries of the given DataSet
+     * (they are not modified after they were created) instead of scanning
+     * the source again, and uses its own cache.
+     * 
+     * @param source
+     */
+    private PagedLineDataSet(PagedLineDataSet source) {
+        super(new ArrayList<Entry>(), source.getLabel());
+
+        mSource = source.mSource;
+        mPageSize = source.mPageSize;
+        mCache = new Page[source.mCache.length];
+        mEntryPool = new ArrayList<Entry>();
+        mPrefetchPages = source.mPrefetchPages;
+
+        mTotalCount = source.mTotalCount;
+        mPageCount = source.mPageCount;
+        mPageFirstXIndex = source.mPageFirstXIndex;
+        mPageMin = source.mPageMin;
+        mPageMax = source.mPageMax;
+        mPageMinXIndex = source.mPageMinXIndex;
+        mPageMaxXIndex = source.mPageMaxXIndex;
+        mTotalSum = source.mTotalSum;
+
+        calcMinMax();
+    }
+
+    /**
+     * Reads the whole source once, page by page, and keeps the first x-index,
+     * minimum and maximum of each page.
+     */
+    private void summarizePages() {
+
+        mTotalCount = mSource.getEntryCount();
+        mPageCount = (mTotalCount + mPageSize - 1) / mPageSize;
+
+        mPageFirstXIndex = new int[mPageCount];
+        mPageMin = new float[mPageCount];
+        mPageMax = new float[mPageCount];
+        mPageMinXIndex = new int[mPageCount];
+        mPageMaxXIndex = new int[mPageCount];
+
+        float[] values = new float[mPageSize];
+        int[] xIndices = new int[mPageSize];
+
+        double sum = 0.0;
+
+        for (int p = 0; p < mPageCount; p++) {
+
+            int count = mSource.read(p * mPageSize, mPageSize, values, xIndices);
+
+            if (count == 0) {
+                Log.e(LOG_TAG, "Page " + p + " of the source could not be read.");
+                mPageCount = p;
+                mTotalCount = Math.min(mTotalCount, p * mPageSize);
+                break;
+            }
+
+            int min = 0;
+            int max = 0;
+
+            for (int i = 0; i < count; i++) {
+
+                if (values[i] < values[min])
+                    min = i;
+
+                if (values[i] > values[max])
+                    max = i;
+
+                sum += Math.abs(values[i]);
+            }
+
+            mPageFirstXIndex[p] = xIndices[0];
+            mPageMin[p] = values[min];
+            mPageMax[p] = values[max];
+            mPageMinXIndex[p] = xIndices[min];
+            mPageMaxXIndex[p] = xIndices[max];
+        }
+
+        mTotalSum = (float) sum;
+    }
+
+    /**
+     * Calculates the minimum and maximum from the page summaries.
+     */
+    @Override
+    protected void calcMinMax() {
+
+        // called by the super constructor before the pages are summarized
+        if (mPageMin == null) {
+            super.calcMinMax();
+            return;
+        }
+
+        if (mPageCount == 0)
+            return;
+
+        mYMin = mPageMin[0];
+        mYMax = mPageMax[0];
+
+        for (int p = 1; p < mPageCount; p++) {
+
+            if (mPageMin[p] < mYMin)
+                mYMin = mPageMin[p];
+
+            if (mPageMax[p] > mYMax)
+                mYMax = mPageMax[p];
+        }
+    }
+
+    @Override
+    public void prepareVisibleRange(int fromXIndex, int toXIndex) {
+
+        if (mPageCount == 0)
+            return;
+
+        int first = getPageForXIndex(fromXIndex);
+        int last = getPageForXIndex(toXIndex);
+
+        boolean summarize = last - first + 1 > mCache.length;
+
+        // the visible pages are still in the entries array
+        if (summarize == mWindowSummarized && mWindowFirstPage != -1) {
+
+            if (summarize && first == mWindowFirstPage && last == mWindowLastPage)
+                return;
+
+            if (!summarize && first >= mWindowFirstPage && last <= mWindowLastPage)
+                return;
+        }
+
+        if (summarize) {
+            fillSummarizedWindow(first, last);
+        } else {
+
+            // extend the range by the prefetch margin, as far as the cache
+            // allows
+            int margin = Math.min(mPrefetchPages, (mCache.length - (last - first + 1)) / 2);
+
+            fillWindow(Math.max(0, first - margin), Math.min(mPageCount - 1, last + margin));
+        }
+
+        invalidateEntryColors();
+    }
+
+    /**
+     * Fills the entries array with all entries of the given range of pages.
+     * 
+     * @param first
+     * @param last
+     */
+    private void fillWindow(int first, int last) {
+
+        mYVals.clear();
+
+        int used = 0;
+
+        for (int p = first; p <= last; p++) {
+
+            Page page = getPage(p);
+
+            for (int i = 0; i < page.count; i++)
+                mYVals.add(obtainEntry(used++, page.values[i], page.xIndices[i]));
+        }
+
+        mWindowFirstPage = first;
+        mWindowLastPage = last;
+        mWindowSummarized = false;
+    }
+
+    /**
+     * Fills the entries array with the minimum and maximum of the given
+     * range of pages, in the order of their x-indices. If there are more
+     * pages than entries fit into a page, several pages are combined.
+     * 
+     * @param first
+     * @param last
+     */
+    private void fillSummarizedWindow(int first, int last) {
+
+        mYVals.clear();
+
+        int pages = last - first + 1;
+        int group = (pages + mPageSize - 1) / mPageSize;
+
+        int used = 0;
+
+        for (int p = first; p <= last; p += group) {
+
+            int end = Math.min(last, p + group - 1);
+
+            int min = p;
+            int max = p;
+
+            for (int q = p + 1; q <= end; q++) {
+
+                if (mPageMin[q] < mPageMin[min])
+                    min = q;
+
+                if (mPageMax[q] > mPageMax[max])
+                    max = q;
+            }
+
+            Entry low = obtainEntry(used++, mPageMin[min], mPageMinXIndex[min]);
+            Entry high = obtainEntry(used++, mPageMax[max], mPageMaxXIndex[max]);
+
+            if (low.getXIndex() <= high.getXIndex()) {
+                mYVals.add(low);
+                mYVals.add(high);
+            } else {
+                mYVals.add(high);
+                mYVals.add(low);
+            }
+        }
+
+        mWindowFirstPage = first;
+        mWindowLastPage = last;
+        mWindowSummarized = true;
+    }
+
+    /**
+     * Returns the entry object at the given position of the pool, set to the
+     * given value and x-index.
+     * 
+     * @param position
+     * @param val
+     * @param xIndex
+     * @return
+     */
+    private Entry obtainEntry(int position, float val, int xIndex) {
+
+        if (position == mEntryPool.size()) {
+            Entry e = new Entry(val, xIndex);
+            mEntryPool.add(e);
+            return e;
+        }
+
+        Entry e = mEntryPool.get(position);
+        e.setVal(val);
+        e.setXIndex(xIndex);
+        return e;
+    }
+
+    /**
+     * Returns the given page, reading it from the source into the least
+     * recently used slot of the cache if it is not cached.
+     * 
+     * @param index
+     * @return
+     */
+    private Page getPage(int index) {
+
+        int slot = 0;
+
+        for (int i = 0; i < mCache.length; i++) {
+
+            Page page = mCache[i];
+
+            if (page == null) {
+                slot = i;
+                break;
+            }
+
+            if (page.index == index) {
+                page.lastUsed = ++mCacheClock;
+                return page;
+            }
+
+            if (page.lastUsed < mCache[slot].lastUsed)
+                slot = i;
+        }
+
+        Page page = mCache[slot];
+
+        if (page == null) {
+            page = new Page(mPageSize);
+            mCache[slot] = page;
+        }
+
+        page.index = index;
+        page.count = mSource.read(index * mPageSize, mPageSize, page.values, page.xIndices);
+        page.lastUsed = ++mCacheClock;
+
+        return page;
+    }
+
+    /**
+     * Returns the page that contains the given x-index (binary search over
+     * the first x-index of the pages).
+     * 
+     * @param xIndex
+     * @return
+     */
+    private int getPageForXIndex(int xIndex) {
+
+        int low = 0;
+        int high = mPageCount - 1;
+
+        // find the last page whose first x-index is <= xIndex
+        while (low < high) {
+            int m = (low + high + 1) >>> 1;
+
+            if (mPageFirstXIndex[m] <= xIndex)
+                low = m;
+            else
+                high = m - 1;
+        }
+
+        return low;
+    }
+
+    /**
+     * Sets the number of pages that are loaded before and after the visible
+     * pages, so that scrolling does not read from the source each frame.
+     * Default: 1
+     * 
+     * @param pages
+     */
+    public void setPrefetchPages(int pages) {
+        mPrefetchPages = Math.max(0, pages);
+    }
+
+    /**
+     * Returns the number of pages that are loaded before and after the
+     * visible pages.
+     * 
+     * @return
+     */
+    public int getPrefetchPages() {
+        return mPrefetchPages;
+    }
+
+    /**
+     * Returns the PageSource the entries are read from.
+     * 
+     * @return
+     */
+    public PageSource getSource() {
+        return mSource;
+    }
+
+    /**
+     * Returns the total number of entries of the source, not only the number
+     * of entries in memory.
+     */
+    @Override
+    public int getEntryCount() {
+
+        // called by the super constructor before the pages are summarized
+        if (mPageMin == null)
+            return super.getEntryCount();
+
+        return mTotalCount;
+    }
+
+    @Override
+    public float getYValueSum() {
+        return mTotalSum;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        PagedLineDataSet copied = new PagedLineDataSet(this);
+        copySettingsTo(copied);
+
+        return copied;
+    }
+
+    @Override
+    public void addEntry(Entry e) {
+        Log.e(LOG_TAG, "The entries of a PagedLineDataSet cannot be modified.");
+    }
+
+    @Override
+    public void addEntries(float[] values, int[] xIndices, int offset, int count) {
+        Log.e(LOG_TAG, "The entries of a PagedLineDataSet cannot be modified.");
+    }
+
+    @Override
+    public void replaceRange(int start, float[] values, int offset, int count) {
+        Log.e(LOG_TAG, "The entries of a PagedLineDataSet cannot be modified.");
+    }
+
+    @Override
+    public int truncateFront(int n) {
+        Log.e(LOG_TAG, "The entries of a PagedLineDataSet cannot be modified.");
+        return 0;
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        Log.e(LOG_TAG, "The entries of a PagedLineDataSet cannot be modified.");
+        return false;
+    }
+
+    @Override
+    public boolean removeEntry(int xIndex) {
+        Log.e(LOG_TAG, "The entries of a PagedLineDataSet cannot be modified.");
+        return false;
+    }
+
+    /**
+     * A page of entries read from the source.
+     */
+    private static class Page {
+
+        int index = -1;
+        int count;
+        long lastUsed;
+        float[] values;
+        int[] xIndices;
+
+        Page(int size) {
+            values = new float[size];
+            xIndices = new int[size];
+        }
+    }
+}
@@ -20,6 +20,10 @@ public class PieData extends ChartData<PieDataSet> {
         super(xVals);
     }
 
+    public PieData(XValueProvider xVals) {
+        super(xVals);
+    }
+
     public PieData(ArrayList<String> xVals, PieDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
@@ -27,6 +31,10 @@ public class PieData extends ChartData<PieDataSet> {
     public PieData(String[] xVals, PieDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
+
+    public PieData(XValueProvider xVals, PieDataSet dataSet) {
+        super(xVals, toArrayList(dataSet));
+    }
     
     private static ArrayList<PieDataSet> toArrayList(PieDataSet dataSet) {
         ArrayList<PieDataSet> sets = new ArrayList<PieDataSet>();
@@ -42,4 +50,14 @@ public class PieData extends ChartData<PieDataSet> {
     public PieDataSet getDataSet() {
         return (PieDataSet) mDataSets.get(0);
     }
+
+    @Override
+    public PieData copy() {
+
+        ArrayList<PieDataSet> sets = new ArrayList<PieDataSet>(1);
+        sets.add((PieDataSet) getDataSet().copy());
+
+        PieData copied = new PieData(copyXVals(sets), sets.get(0));
+        return copied;
+    }
 }
@@ -29,7 +29,7 @@ public class PieDataSet extends DataSet<Entry> {
         }
 
         PieDataSet copied = new PieDataSet(yVals, getLabel());
-        copied.mColors = mColors;
+        copySettingsTo(copied);
         copied.mSliceSpace = mSliceSpace;
         copied.mShift = mShift;
         return copied;
@@ -17,6 +17,10 @@ public class RadarData extends BarLineScatterCandleRadarData<RadarDataSet> {
     public RadarData(String[] xVals) {
         super(xVals);
     }
+
+    public RadarData(XValueProvider xVals) {
+        super(xVals);
+    }
     
     public RadarData(ArrayList<String> xVals, ArrayList<RadarDataSet> dataSets) {
         super(xVals, dataSets);
@@ -26,6 +30,10 @@ public class RadarData extends BarLineScatterCandleRadarData<RadarDataSet> {
         super(xVals, dataSets);
     }
 
+    public RadarData(XValueProvider xVals, ArrayList<RadarDataSet> dataSets) {
+        super(xVals, dataSets);
+    }
+
     public RadarData(ArrayList<String> xVals, RadarDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
@@ -33,10 +41,23 @@ public class RadarData extends BarLineScatterCandleRadarData<RadarDataSet> {
     public RadarData(String[] xVals, RadarDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
+
+    public RadarData(XValueProvider xVals, RadarDataSet dataSet) {
+        super(xVals, toArrayList(dataSet));
+    }
     
     private static ArrayList<RadarDataSet> toArrayList(RadarDataSet dataSet) {
         ArrayList<RadarDataSet> sets = new ArrayList<RadarDataSet>();
         sets.add(dataSet);
         return sets;
     }
+
+    @Override
+    public RadarData copy() {
+
+        ArrayList<RadarDataSet> sets = copyDataSets();
+        RadarData copied = new RadarData(copyXVals(sets), sets);
+        copyLimitLinesTo(copied);
+        return copied;
+    }
 }
@@ -19,7 +19,7 @@ public class RadarDataSet extends LineRadarDataSet<Entry> {
         }
 
         RadarDataSet copied = new RadarDataSet(yVals, getLabel());
-        copied.mColors = mColors;
+        copySettingsTo(copied);
         copied.mHighLightColor = mHighLightColor;
 
         return copied;
@@ -13,6 +13,10 @@ public class ScatterData extends BarLineScatterCandleData<ScatterDataSet> {
         super(xVals);
     }
 
+    public ScatterData(XValueProvider xVals) {
+        super(xVals);
+    }
+
     public ScatterData(ArrayList<String> xVals, ArrayList<ScatterDataSet> dataSets) {
         super(xVals, dataSets);
     }
@@ -21,6 +25,10 @@ public class ScatterData extends BarLineScatterCandleData<ScatterDataSet> {
         super(xVals, dataSets);
     }
 
+    public ScatterData(XValueProvider xVals, ArrayList<ScatterDataSet> dataSets) {
+        super(xVals, dataSets);
+    }
+
     public ScatterData(ArrayList<String> xVals, ScatterDataSet dataSet) {
         super(xVals, toArrayList(dataSet));
     }
@@ -29,6 +37,10 @@ public class ScatterData extends BarLineScatterCandleData<ScatterDataSet> {
         super(xVals, toArrayList(dataSet));
     }
 
+    public ScatterData(XValueProvider xVals, ScatterDataSet dataSet) {
+        super(xVals, toArrayList(dataSet));
+    }
+
     private static ArrayList<ScatterDataSet> toArrayList(ScatterDataSet dataSet) {
         ArrayList<ScatterDataSet> sets = new ArrayList<ScatterDataSet>();
         sets.add(dataSet);
@@ -53,4 +65,13 @@ public class ScatterData extends BarLineScatterCandleData<ScatterDataSet> {
 
         return max;
     }
+
+    @Override
+    public ScatterData copy() {
+
+        ArrayList<ScatterDataSet> sets = copyDataSets();
+        ScatterData copied = new ScatterData(copyXVals(sets), sets);
+        copyLimitLinesTo(copied);
+        return copied;
+    }
 }
@@ -41,7 +41,7 @@ public class ScatterDataSet extends BarLineScatterCandleRadarDataSet<Entry> {
         }
 
         ScatterDataSet copied = new ScatterDataSet(yVals, getLabel());
-        copied.mColors = mColors;
+        copySettingsTo(copied);
         copied.mShapeSize = mShapeSize;
         copied.mScatterShape = mScatterShape;
         copied.mCustomScatterPath = mCustomScatterPath;
@@ -0,0 +1,89 @@
+
+package com.github.mikephil.charting.data;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * XValueProvider for evenly spaced points in time. The x-value of each
+ * x-index is created on demand from the timestamp of the first x-index plus a
+ * fixed step, formatted with the given DateFormat.
+ */
+public class TimestampXValueProvider extends GeneratedXValueProvider {
+
+    /** the timestamp (in milliseconds) of the first x-index */
+    private long mStart;
+
+    /** the time (in milliseconds) between two x-indices */
+    private long mStep;
+
+    /** the format used to turn the timestamps into labels */
+    private DateFormat mFormat;
+
+    /** reused for formatting to avoid allocations */
+    private Date mDate = new Date();
+
+    /**
+     * Constructor.
+     * 
+     * @param start the timestamp (in milliseconds) of the first x-index
+     * @param step the time (in milliseconds) between two x-indices
+     * @param count the number of x-values
+     * @param pattern the SimpleDateFormat pattern, e.g. "HH:mm:ss"
+     */
+    public TimestampXValueProvider(long start, long step, int count, String pattern) {
+        this(start, step, count, new SimpleDateFormat(pattern));
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param start the timestamp (in milliseconds) of the first x-index
+     * @param step the time (in milliseconds) between two x-indices
+     * @param count the number of x-values
+     * @param format the format used to create the labels
+     */
+    public TimestampXValueProvider(long start, long step, int count, DateFormat format) {
+        super(count);
+        mStart = start;
+        mStep = step;
+        mFormat = format;
+    }
+
+    @Override
+    protected String generateXVal(int index) {
+        mDate.setTime(getTimestamp(index));
+        return mFormat.format(mDate);
+    }
+
+    /**
+     * Returns an independent copy with its own format, the formatting reuses
+     * objects and is not thread-safe.
+     */
+    @Override
+    public XValueProvider copy() {
+        return new TimestampXValueProvider(mStart, mStep, getXValCount(),
+                (DateFormat) mFormat.clone());
+    }
+
+    /**
+     * Returns the timestamp (in milliseconds) of the given x-index.
+     * 
+     * @param index
+     * @return
+     */
+    public long getTimestamp(int index) {
+        return mStart + mStep * index;
+    }
+
+    /**
+     * Sets the format used to create the labels.
+     * 
+     * @param format
+     */
+    public void setFormat(DateFormat format) {
+        mFormat = format;
+        clearCache();
+    }
+}
@@ -0,0 +1,25 @@
+
+package com.github.mikephil.charting.data;
+
+/**
+ * Provides the x-values (labels on the x-axis) of a ChartData object. Instead
+ * of holding one string per x-index, implementations can create the labels on
+ * demand from the index.
+ */
+public interface XValueProvider {
+
+    /**
+     * Returns the total number of x-values.
+     * 
+     * @return
+     */
+    public int getXValCount();
+
+    /**
+     * Returns the x-value (label) at the given x-index.
+     * 
+     * @param index
+     * @return
+     */
+    public String getXVal(int index);
+}
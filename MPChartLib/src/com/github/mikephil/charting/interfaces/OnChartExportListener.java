@@ -0,0 +1,24 @@
+
+package com.github.mikephil.charting.interfaces;
+
+import com.github.mikephil.charting.charts.Chart;
+
+import java.io.File;
+
+/**
+ * Listener for callbacks when an image export of the ChartExporter has
+ * finished. The callbacks are delivered on the UI thread.
+ */
+public interface OnChartExportListener {
+
+    /**
+     * Called when the image of a chart has been written, or writing it has
+     * failed. For batch exports, this is called once for each chart, in the
+     * order of the charts.
+     * 
+     * @param chart the exported chart
+     * @param file the file the image was written to
+     * @param success true if the image was written successfully
+     */
+    public void onChartExported(Chart<?> chart, File file, boolean success);
+}
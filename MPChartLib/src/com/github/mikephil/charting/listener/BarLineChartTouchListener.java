@@ -39,6 +39,15 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
     /** center between two pointers (fingers on the display) */
     private PointF mTouchPointCenter = new PointF();
 
+    /** translation of the pointer center, the pivot of zooming */
+    private PointF mTouchPointTrans = new PointF();
+
+    /**
+     * positions of the first two pointers of the last move event that was
+     * processed, NaN after a new touch started
+     */
+    private float[] mLastMovePoints = new float[4];
+
     // states
     private static final int NONE = 0;
     private static final int DRAG = 1;
@@ -67,14 +76,17 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
     public BarLineChartTouchListener(T chart, Matrix start) {
         this.mChart = chart;
         this.mMatrix = start;
-
-        mGestureDetector = new GestureDetector(chart.getContext(), this);
     }
 
     @SuppressLint("ClickableViewAccessibility")
     @Override
     public boolean onTouch(View v, MotionEvent event) {
 
+        // created on the first touch, the detector needs the looper of the UI
+        // thread while charts can be created on any thread
+        if (mGestureDetector == null)
+            mGestureDetector = new GestureDetector(mChart.getContext(), this);
+
         if (mTouchMode == NONE) {
             mGestureDetector.onTouchEvent(event);
         }
@@ -82,6 +94,8 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
         if (!mChart.isDragEnabled() && !mChart.isScaleEnabled())
             return true;
 
+        boolean matrixChanged = false;
+
         // Handle touch events here...
         switch (event.getAction() & MotionEvent.ACTION_MASK) {
 
@@ -120,23 +134,30 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
 
                     // determine the touch-pointer center
                     midPoint(mTouchPointCenter, event);
+                    getTrans(mTouchPointCenter.x, mTouchPointCenter.y, mTouchPointTrans);
                 }
                 break;
             case MotionEvent.ACTION_MOVE:
 
+                // dragging and zooming are calculated from the touch start,
+                // so only the latest of the samples batched into this event
+                // matters, the historical samples are not processed
+                if (!hasMoved(event))
+                    break;
+
                 if (mTouchMode == DRAG) {
 
                     mChart.disableScroll();
 
                     if (mChart.isDragEnabled())
-                        performDrag(event);
+                        matrixChanged = performDrag(event);
 
                 } else if (mTouchMode == X_ZOOM || mTouchMode == Y_ZOOM || mTouchMode == PINCH_ZOOM) {
 
                     mChart.disableScroll();
 
                     if (mChart.isScaleEnabled())
-                        performZoom(event);
+                        matrixChanged = performZoom(event);
 
                 } else if (mTouchMode == NONE
                         && Math.abs(distance(event.getX(), mTouchStartPoint.x, event.getY(),
@@ -146,6 +167,8 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
 
                         if (!mChart.isFullyZoomedOut())
                             mTouchMode = DRAG;
+                        else if (mChart.isHighlightPerDragEnabled())
+                            performHighlightDrag(event);
 
                     } else {
                         mTouchMode = DRAG;
@@ -162,8 +185,10 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
                 break;
         }
 
-        // Perform the transformation, update the chart
-        mMatrix = mChart.getTransformer().refresh(mMatrix, mChart);
+        // Perform the transformation, update the chart, once per event and
+        // only if the matrix changed
+        if (matrixChanged)
+            mMatrix = mChart.getTransformer().refresh(mMatrix, mChart);
 
         return true; // indicate event was handled
     }
@@ -182,34 +207,90 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
 
         mSavedMatrix.set(mMatrix);
         mTouchStartPoint.set(event.getX(), event.getY());
+        mLastMovePoints[0] = Float.NaN;
+    }
+
+    /**
+     * Returns true if the first two pointers of the given move event moved
+     * since the last processed move event, and remembers their positions.
+     * 
+     * @param event
+     * @return
+     */
+    private boolean hasMoved(MotionEvent event) {
+
+        float x0 = event.getX(0);
+        float y0 = event.getY(0);
+        float x1 = 0f;
+        float y1 = 0f;
+
+        if (event.getPointerCount() >= 2) {
+            x1 = event.getX(1);
+            y1 = event.getY(1);
+        }
+
+        float[] last = mLastMovePoints;
+
+        // NaN is never equal, the first move after a touch start counts
+        if (last[0] == x0 && last[1] == y0 && last[2] == x1 && last[3] == y1)
+            return false;
+
+        last[0] = x0;
+        last[1] = y0;
+        last[2] = x1;
+        last[3] = y1;
+
+        return true;
     }
 
     /**
-     * Performs all necessary operations needed for dragging.
+     * Performs all necessary operations needed for dragging. Returns true as
+     * the matrix is changed.
      * 
      * @param event
+     * @return
      */
-    private void performDrag(MotionEvent event) {
+    private boolean performDrag(MotionEvent event) {
 
         mMatrix.set(mSavedMatrix);
-        PointF dragPoint = new PointF(event.getX(), event.getY());
+
+        float dx = event.getX() - mTouchStartPoint.x;
+        float dy = event.getY() - mTouchStartPoint.y;
 
         // check if axis is inverted
         if (!mChart.isInvertYAxisEnabled()) {
-            mMatrix.postTranslate(dragPoint.x - mTouchStartPoint.x, dragPoint.y
-                    - mTouchStartPoint.y);
+            mMatrix.postTranslate(dx, dy);
         } else {
-            mMatrix.postTranslate(dragPoint.x - mTouchStartPoint.x, -(dragPoint.y
-                    - mTouchStartPoint.y));
+            mMatrix.postTranslate(dx, -dy);
         }
+
+        return true;
     }
 
     /**
-     * Performs the all operations necessary for pinch and axis zoom.
+     * Highlights the value at the touch position of the given event if it
+     * differs from the last highlighted value.
      * 
      * @param event
      */
-    private void performZoom(MotionEvent event) {
+    private void performHighlightDrag(MotionEvent event) {
+
+        Highlight h = mChart.getHighlightByTouchPoint(event.getX(), event.getY());
+
+        if (h != null && !h.equalTo(mLastHighlighted)) {
+            mLastHighlighted = h;
+            mChart.highlightTouch(h);
+        }
+    }
+
+    /**
+     * Performs the all operations necessary for pinch and axis zoom. Returns
+     * true if the matrix was changed.
+     * 
+     * @param event
+     * @return
+     */
+    private boolean performZoom(MotionEvent event) {
 
         if (event.getPointerCount() >= 2) {
 
@@ -219,8 +300,8 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
 
             if (totalDist > 10f) {
 
-                // get the translation
-                PointF t = getTrans(mTouchPointCenter.x, mTouchPointCenter.y);
+                // the translation of the pointer center
+                PointF t = mTouchPointTrans;
 
                 // take actions depending on the activated touch
                 // mode
@@ -253,8 +334,12 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
                     mMatrix.postScale(1f, scaleY, t.x, t.y);
 
                 }
+
+                return true;
             }
         }
+
+        return false;
     }
 
     /**
@@ -334,6 +419,22 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
      */
     public PointF getTrans(float x, float y) {
 
+        PointF trans = new PointF();
+        getTrans(x, y, trans);
+
+        return trans;
+    }
+
+    /**
+     * Writes the correct translation depending on the provided x and y touch
+     * points into the given point.
+     * 
+     * @param x
+     * @param y
+     * @param trans
+     */
+    private void getTrans(float x, float y, PointF trans) {
+
         float xTrans = x - mChart.getOffsetLeft();
         float yTrans = 0f;
 
@@ -344,7 +445,7 @@ public class BarLineChartTouchListener<T extends BarLineChartBase<? extends BarL
             yTrans = -(y - mChart.getOffsetTop());
         }
 
-        return new PointF(xTrans, yTrans);
+        trans.set(xTrans, yTrans);
     }
 
     /**
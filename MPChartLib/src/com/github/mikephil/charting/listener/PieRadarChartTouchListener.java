@@ -37,13 +37,16 @@ public class PieRadarChartTouchListener extends SimpleOnGestureListener implemen
 
     public PieRadarChartTouchListener(PieRadarChartBase ctx) {
         this.mChart = ctx;
-
-        mGestureDetector = new GestureDetector(ctx.getContext(), this);
     }
 
     @Override
     public boolean onTouch(View v, MotionEvent e) {
 
+        // created on the first touch, the detector needs the looper of the UI
+        // thread while charts can be created on any thread
+        if (mGestureDetector == null)
+            mGestureDetector = new GestureDetector(mChart.getContext(), this);
+
         if (mGestureDetector.onTouchEvent(e))
             return true;
 
@@ -66,6 +69,7 @@ public class PieRadarChartTouchListener extends SimpleOnGestureListener implemen
                             > Utils.convertDpToPixel(8f)) {
                         mTouchMode = ROTATE;
                         mChart.disableScroll();
+                        mChart.beginRotationGesture();
                     } else if (mTouchMode == ROTATE) {
                         mChart.updateRotation(x, y);
                         mChart.invalidate();
@@ -73,7 +77,9 @@ public class PieRadarChartTouchListener extends SimpleOnGestureListener implemen
 
                     break;
                 case MotionEvent.ACTION_UP:
+                case MotionEvent.ACTION_CANCEL:
                     mChart.enableScroll();
+                    mChart.endRotationGesture();
                     mTouchMode = NONE;
                     break;
             }
@@ -30,6 +30,12 @@ public class Transformer {
     /** matrix used for touch events */
     private final Matrix mMatrixTouch = new Matrix();
 
+    /** buffer for inverting the matrices in pixelsToValue(...) */
+    private Matrix mPixelToValueMatrixBuffer = new Matrix();
+
+    /** buffer for the values of the touch matrix when limiting it */
+    private float[] mMatrixValuesBuffer = new float[9];
+
     /** if set to true, the y-axis is inverted and low values start at the top */
     private boolean mInvertYAxis = false;
 
@@ -109,6 +115,22 @@ public class Transformer {
      */
     public float[] generateTransformedValuesLineScatter(ArrayList<? extends Entry> entries,
             float phaseY) {
+        return generateTransformedValuesLineScatter(entries, phaseY, 0.0);
+    }
+
+    /**
+     * Transforms an arraylist of Entry into a float array containing the x and
+     * y values transformed with all matrices for the LINECHART or SCATTERCHART.
+     * The x-position of each Entry is its x-value minus the given origin (the
+     * x-index if the Entry has no own x-value).
+     * 
+     * @param entries
+     * @param phaseY
+     * @param xOrigin the x-value that is drawn at the left edge of the chart
+     * @return
+     */
+    public float[] generateTransformedValuesLineScatter(ArrayList<? extends Entry> entries,
+            float phaseY, double xOrigin) {
 
         float[] valuePoints = new float[entries.size() * 2];
 
@@ -116,7 +138,7 @@ public class Transformer {
 
             Entry e = entries.get(j / 2);
 
-            valuePoints[j] = e.getXIndex();
+            valuePoints[j] = (float) (e.getX() - xOrigin);
             valuePoints[j + 1] = e.getVal() * phaseY;
         }
 
@@ -197,6 +219,20 @@ public class Transformer {
         mMatrixOffset.mapPoints(pts);
     }
 
+    /**
+     * Transforms the first count points (x, y pairs) of the given array with
+     * all matrices, which allows reusing a larger buffer.
+     * 
+     * @param pts
+     * @param count the number of points
+     */
+    public void pointValuesToPixel(float[] pts, int count) {
+
+        mMatrixValueToPx.mapPoints(pts, 0, pts, 0, count);
+        mMatrixTouch.mapPoints(pts, 0, pts, 0, count);
+        mMatrixOffset.mapPoints(pts, 0, pts, 0, count);
+    }
+
     /**
      * Transform a rectangle with all matrices.
      * 
@@ -247,7 +283,7 @@ public class Transformer {
      */
     public void pixelsToValue(float[] pixels) {
 
-        Matrix tmp = new Matrix();
+        Matrix tmp = mPixelToValueMatrixBuffer;
 
         // invert all matrixes to convert back to the original value
         mMatrixOffset.invert(tmp);
@@ -419,7 +455,7 @@ public class Transformer {
      */
     private void limitTransAndScale(Matrix matrix, RectF content) {
 
-        float[] vals = new float[9];
+        float[] vals = mMatrixValuesBuffer;
         matrix.getValues(vals);
 
         float curTransX = vals[Matrix.MTRANS_X];
@@ -0,0 +1,106 @@
+
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.PageSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * PageSource that reads the entries of a binary entry file (see
+ * FileUtils.saveToBinaryFile(...)) from a memory-mapping of the file. The
+ * mapped file is paged in by the operating system and does not occupy the
+ * heap. Stacked values are read as their sum, own x-values are not read as
+ * the entries of a paged DataSet are positioned by their x-index. Reading
+ * is thread-safe, the mapped columns are only read with absolute positions.
+ */
+public class BinaryFilePageSource implements PageSource {
+
+    /** the number of entries of the file */
+    private int mCount;
+
+    /** the mapped column of x-indices */
+    private IntBuffer mXIndices;
+
+    /** the mapped column of values */
+    private FloatBuffer mValues;
+
+    /**
+     * Constructor with the binary entry file to read. Throws an IOException
+     * if the file cannot be mapped or is not a binary entry file.
+     * 
+     * @param file
+     * @throws IOException
+     */
+    public BinaryFilePageSource(File file) throws IOException {
+
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+
+        try {
+            FileChannel channel = raf.getChannel();
+
+            long size = channel.size();
+
+            if (size < FileUtils.BINARY_HEADER_SIZE)
+                throw new IOException("Binary entry file " + file + " is too short.");
+
+            IntBuffer header = channel
+                    .map(FileChannel.MapMode.READ_ONLY, 0, FileUtils.BINARY_HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+            if (header.get(0) != FileUtils.BINARY_MAGIC)
+                throw new IOException("File " + file + " is not a binary entry file.");
+
+            if (header.get(1) > FileUtils.BINARY_VERSION)
+                throw new IOException("Binary entry file version " + header.get(1)
+                        + " is not supported.");
+
+            mCount = header.get(2);
+
+            long columnSize = 4L * mCount;
+
+            if (mCount < 0 || size < FileUtils.BINARY_HEADER_SIZE + 2 * columnSize)
+                throw new IOException("Binary entry file " + file + " is truncated.");
+
+            // the mappings stay valid after the file is closed
+            mXIndices = channel
+                    .map(FileChannel.MapMode.READ_ONLY, FileUtils.BINARY_HEADER_SIZE, columnSize)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+            mValues = channel
+                    .map(FileChannel.MapMode.READ_ONLY,
+                            FileUtils.BINARY_HEADER_SIZE + columnSize, columnSize)
+                    .order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    @Override
+    public int read(int start, int count, float[] values, int[] xIndices) {
+
+        if (start < 0 || start >= mCount)
+            return 0;
+
+        count = Math.min(count, mCount - start);
+
+        // absolute gets do not move the shared position of the buffers
+        for (int i = 0; i < count; i++) {
+            xIndices[i] = mXIndices.get(start + i);
+            values[i] = mValues.get(start + i);
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,83 @@
+
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.DataSet;
+
+/**
+ * EntrySink that adds the parsed entries directly to the DataSet at a given
+ * index of a ChartData object, chunk by chunk with the bulk
+ * addEntries(...) method. Optionally, the DataSet is limited to a maximum
+ * number of entries by removing its oldest entries, so that arbitrarily
+ * large files can be streamed through a window of constant size.
+ */
+public class ChartDataSink implements EntrySink {
+
+    private ChartData<?> mData;
+
+    private int mDataSetIndex;
+
+    /** the maximum number of entries of the DataSet, 0 for no limit */
+    private int mMaxEntries;
+
+    /**
+     * Constructor for adding the entries to the DataSet at the given index.
+     *
+     * @param data
+     * @param dataSetIndex
+     */
+    public ChartDataSink(ChartData<?> data, int dataSetIndex) {
+        this(data, dataSetIndex, 0);
+    }
+
+    /**
+     * Constructor for adding the entries to the DataSet at the given index,
+     * keeping at most maxEntries entries in the DataSet.
+     *
+     * @param data
+     * @param dataSetIndex
+     * @param maxEntries the maximum number of entries, 0 for no limit
+     */
+    public ChartDataSink(ChartData<?> data, int dataSetIndex, int maxEntries) {
+        mData = data;
+        mDataSetIndex = dataSetIndex;
+        mMaxEntries = Math.max(0, maxEntries);
+    }
+
+    @Override
+    public void onEntries(float[] values, int[] xIndices, int count) {
+        mData.addEntries(values, xIndices, 0, count, mDataSetIndex);
+        limitEntries();
+    }
+
+    @Override
+    public void onStackedEntry(float[] vals, int count, int xIndex) {
+
+        float[] copy = new float[count];
+        System.arraycopy(vals, 0, copy, 0, count);
+
+        mData.addEntry(new BarEntry(copy, xIndex), mDataSetIndex);
+        limitEntries();
+    }
+
+    /**
+     * Removes the oldest entries of the DataSet if it contains more entries
+     * than allowed.
+     */
+    private void limitEntries() {
+
+        if (mMaxEntries == 0)
+            return;
+
+        DataSet<?> set = mData.getDataSetByIndex(mDataSetIndex);
+
+        if (set == null)
+            return;
+
+        int excess = set.getEntryCount() - mMaxEntries;
+
+        if (excess > 0)
+            mData.truncateFront(excess, mDataSetIndex);
+    }
+}
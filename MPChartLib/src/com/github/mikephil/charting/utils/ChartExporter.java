@@ -0,0 +1,430 @@
+
+package com.github.mikephil.charting.utils;
+
+import android.content.ContentValues;
+import android.graphics.Bitmap;
+import android.graphics.Bitmap.CompressFormat;
+import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
+import android.provider.MediaStore.Images;
+import android.util.Log;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.interfaces.OnChartExportListener;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Exports charts as images without blocking the UI thread. The charts are
+ * drawn on the UI thread (one chart per message, so that a batch of charts
+ * does not freeze the UI) into a small pool of reused bitmaps, compressing
+ * and writing the images is done on a background thread. The number of
+ * bitmaps in memory is bounded: if all bitmaps are in use, the next chart is
+ * drawn when a bitmap has been written. All methods must be called on the UI
+ * thread, the listener is called on the UI thread.
+ */
+public class ChartExporter {
+
+    private static final String LOG_TAG = "MPChart-ChartExporter";
+
+    /** the default maximum number of bitmaps held by an exporter */
+    public static final int DEFAULT_MAX_BITMAPS = 2;
+
+    /** size of the buffer used for writing the images */
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /** executor shared by all exporters for compressing and writing images */
+    private static ExecutorService sWriteExecutor;
+
+    private Handler mHandler = new Handler(Looper.getMainLooper());
+
+    /** the maximum number of bitmaps held by this exporter */
+    private int mMaxBitmaps;
+
+    /** the number of bitmaps currently held, free or in use */
+    private int mBitmapCount = 0;
+
+    /** bitmaps that can be reused for the next export */
+    private ArrayList<Bitmap> mFreeBitmaps = new ArrayList<Bitmap>();
+
+    /** exports waiting for the chart to be drawn */
+    private ArrayList<Export> mPending = new ArrayList<Export>();
+
+    /** true if drawing the next pending chart is already posted */
+    private boolean mDrawScheduled = false;
+
+    public ChartExporter() {
+        this(DEFAULT_MAX_BITMAPS);
+    }
+
+    /**
+     * Constructor with the maximum number of bitmaps the exporter holds. More
+     * bitmaps allow drawing further charts while images are written, but need
+     * more memory.
+     * 
+     * @param maxBitmaps
+     */
+    public ChartExporter(int maxBitmaps) {
+        mMaxBitmaps = Math.max(1, maxBitmaps);
+    }
+
+    /**
+     * Exports the current state of the given chart as an image to the given
+     * file. Missing parent directories are created. The listener can be null.
+     * 
+     * @param chart
+     * @param file
+     * @param format e.g. CompressFormat.PNG
+     * @param quality compression hint from 0 to 100, ignored for PNG
+     * @param listener
+     */
+    public void export(Chart<?> chart, File file, CompressFormat format, int quality,
+            OnChartExportListener listener) {
+
+        Export export = new Export(chart, file, format, quality, listener);
+        mPending.add(export);
+
+        scheduleDraw();
+    }
+
+    /**
+     * Exports the current state of the given chart to the gallery as a JPEG
+     * image, like Chart.saveToGallery(...) does, but without blocking the UI
+     * thread. NOTE: Needs permission WRITE_EXTERNAL_STORAGE
+     * 
+     * @param chart
+     * @param fileName e.g. "my_image"
+     * @param quality e.g. 50, min = 0, max = 100
+     * @param listener
+     */
+    public void exportToGallery(Chart<?> chart, String fileName, int quality,
+            OnChartExportListener listener) {
+
+        File dir = new File(Environment.getExternalStorageDirectory().getAbsolutePath() + "/DCIM");
+
+        Export export = new Export(chart, new File(dir, fileName), CompressFormat.JPEG, quality,
+                listener);
+        export.gallery = true;
+        export.title = fileName;
+        mPending.add(export);
+
+        scheduleDraw();
+    }
+
+    /**
+     * Exports the given charts as images to the given files (one file for
+     * each chart). The listener is called once for each chart.
+     * 
+     * @param charts
+     * @param files
+     * @param format e.g. CompressFormat.PNG
+     * @param quality compression hint from 0 to 100, ignored for PNG
+     * @param listener
+     */
+    public void exportAll(List<? extends Chart<?>> charts, List<File> files,
+            CompressFormat format, int quality, OnChartExportListener listener) {
+
+        if (charts.size() != files.size()) {
+            Log.e(LOG_TAG, "The number of charts and files of an export does not match.");
+            return;
+        }
+
+        for (int i = 0; i < charts.size(); i++) {
+            mPending.add(new Export(charts.get(i), files.get(i), format, quality, listener));
+        }
+
+        scheduleDraw();
+    }
+
+    /**
+     * Recycles all bitmaps that are currently not in use. Call this when no
+     * further exports are planned.
+     */
+    public void clearBitmaps() {
+
+        for (int i = 0; i < mFreeBitmaps.size(); i++) {
+            mFreeBitmaps.get(i).recycle();
+        }
+
+        mBitmapCount -= mFreeBitmaps.size();
+        mFreeBitmaps.clear();
+    }
+
+    /**
+     * Posts drawing the next pending chart if a bitmap is available for it.
+     */
+    private void scheduleDraw() {
+
+        if (mDrawScheduled || mPending.isEmpty())
+            return;
+
+        if (mFreeBitmaps.isEmpty() && mBitmapCount >= mMaxBitmaps)
+            return;
+
+        mDrawScheduled = true;
+        mHandler.post(mDrawRunnable);
+    }
+
+    private Runnable mDrawRunnable = new Runnable() {
+
+        @Override
+        public void run() {
+
+            mDrawScheduled = false;
+
+            if (mPending.isEmpty())
+                return;
+
+            final Export export = mPending.remove(0);
+
+            int width = export.chart.getWidth();
+            int height = export.chart.getHeight();
+
+            if (width <= 0 || height <= 0) {
+                Log.e(LOG_TAG, "Cannot export a chart that has not been laid out.");
+                notifyFailed(export);
+                scheduleDraw();
+                return;
+            }
+
+            Bitmap reuse = takeFreeBitmap(width, height);
+            final Bitmap bitmap;
+
+            try {
+                bitmap = export.chart.getChartBitmap(reuse);
+            } catch (RuntimeException e) {
+                Log.e(LOG_TAG, e.toString());
+
+                if (reuse != null)
+                    mFreeBitmaps.add(reuse);
+
+                notifyFailed(export);
+                scheduleDraw();
+                return;
+            }
+
+            if (bitmap != reuse)
+                mBitmapCount++;
+
+            getWriteExecutor().execute(new Runnable() {
+
+                @Override
+                public void run() {
+
+                    boolean written = false;
+
+                    try {
+                        written = export.write(bitmap);
+                    } catch (RuntimeException e) {
+                        // e.g. a SecurityException from the media store, the
+                        // bitmap still needs to go back to the pool
+                        Log.e(LOG_TAG, e.toString());
+                    } finally {
+
+                        final boolean success = written;
+
+                        mHandler.post(new Runnable() {
+
+                            @Override
+                            public void run() {
+                                mFreeBitmaps.add(bitmap);
+                                export.notifyListener(success);
+                                scheduleDraw();
+                            }
+                        });
+                    }
+                }
+            });
+
+            scheduleDraw();
+        }
+    };
+
+    /**
+     * Notifies the listener of the given export that it failed. The
+     * notification is queued behind the images that are still being written
+     * and posted to the UI thread like theirs, so that the listener is
+     * called in the order of the charts.
+     * 
+     * @param export
+     */
+    private void notifyFailed(final Export export) {
+
+        getWriteExecutor().execute(new Runnable() {
+
+            @Override
+            public void run() {
+
+                mHandler.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        export.notifyListener(false);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Returns a free bitmap of the given size, null if there is none. If the
+     * free bitmaps have other sizes, one of them is recycled so that the
+     * number of bitmaps stays bounded.
+     * 
+     * @param width
+     * @param height
+     * @return
+     */
+    private Bitmap takeFreeBitmap(int width, int height) {
+
+        for (int i = 0; i < mFreeBitmaps.size(); i++) {
+
+            Bitmap b = mFreeBitmaps.get(i);
+
+            if (b.getWidth() == width && b.getHeight() == height)
+                return mFreeBitmaps.remove(i);
+        }
+
+        if (!mFreeBitmaps.isEmpty()) {
+            mFreeBitmaps.remove(0).recycle();
+            mBitmapCount--;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the executor used for compressing and writing the images. Uses
+     * a single daemon thread.
+     * 
+     * @return
+     */
+    private static synchronized ExecutorService getWriteExecutor() {
+
+        if (sWriteExecutor == null) {
+
+            sWriteExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "ChartExporter-write");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+
+        return sWriteExecutor;
+    }
+
+    /**
+     * A single export of a chart.
+     */
+    private static class Export {
+
+        Chart<?> chart;
+        File file;
+        CompressFormat format;
+        int quality;
+        OnChartExportListener listener;
+
+        /** true if the image is added to the gallery */
+        boolean gallery = false;
+        String title;
+        long time = System.currentTimeMillis();
+
+        Export(Chart<?> chart, File file, CompressFormat format, int quality,
+                OnChartExportListener listener) {
+            this.chart = chart;
+            this.file = file;
+            this.format = format;
+            this.listener = listener;
+
+            // restrain quality
+            this.quality = quality < 0 || quality > 100 ? 50 : quality;
+        }
+
+        /**
+         * Compresses the given bitmap into the file of the export and adds it
+         * to the gallery if needed. Called on the background thread. Returns
+         * true on success.
+         * 
+         * @param bitmap
+         * @return
+         */
+        boolean write(Bitmap bitmap) {
+
+            File dir = file.getParentFile();
+
+            if (dir != null && !dir.exists() && !dir.mkdirs()) {
+                Log.e(LOG_TAG, "Cannot create directory " + dir + ".");
+                return false;
+            }
+
+            OutputStream out = null;
+            boolean success = false;
+
+            try {
+                out = new BufferedOutputStream(new FileOutputStream(file), WRITE_BUFFER_SIZE);
+                success = bitmap.compress(format, quality, out);
+                out.flush();
+            } catch (IOException e) {
+                Log.e(LOG_TAG, e.toString());
+                success = false;
+            } finally {
+
+                if (out != null) {
+                    try {
+                        out.close();
+                    } catch (IOException e) {
+                        Log.e(LOG_TAG, e.toString());
+                    }
+                }
+            }
+
+            if (success && gallery)
+                success = insertIntoGallery();
+
+            return success;
+        }
+
+        /**
+         * Adds the written image to the media store.
+         * 
+         * @return
+         */
+        private boolean insertIntoGallery() {
+
+            ContentValues values = new ContentValues(8);
+
+            // store the details
+            values.put(Images.Media.TITLE, title);
+            values.put(Images.Media.DISPLAY_NAME, title);
+            values.put(Images.Media.DATE_ADDED, time);
+            values.put(Images.Media.MIME_TYPE, "image/jpeg");
+            values.put(Images.Media.DESCRIPTION, "MPAndroidChart-Library Save");
+            values.put(Images.Media.ORIENTATION, 0);
+            values.put(Images.Media.DATA, file.getAbsolutePath());
+            values.put(Images.Media.SIZE, file.length());
+
+            return chart.getContext().getContentResolver()
+                    .insert(Images.Media.EXTERNAL_CONTENT_URI, values) != null;
+        }
+
+        void notifyListener(boolean success) {
+
+            if (listener != null)
+                listener.onChartExported(chart, file, success);
+        }
+    }
+}
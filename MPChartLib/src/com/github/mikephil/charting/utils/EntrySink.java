@@ -0,0 +1,28 @@
+
+package com.github.mikephil.charting.utils;
+
+/**
+ * Interface for receiving the entries parsed by the EntryTextParser in
+ * chunks. The arrays handed to the sink are reused by the parser, copy their
+ * content if it is needed after the callback returned.
+ */
+public interface EntrySink {
+
+    /**
+     * Called with a chunk of parsed entries.
+     * 
+     * @param values the values of the entries
+     * @param xIndices the x-indices of the entries
+     * @param count the number of entries in the arrays
+     */
+    public void onEntries(float[] values, int[] xIndices, int count);
+
+    /**
+     * Called with a parsed entry that has stacked values (BarEntry).
+     * 
+     * @param vals the stacked values
+     * @param count the number of stacked values in the array
+     * @param xIndex the x-index of the entry
+     */
+    public void onStackedEntry(float[] vals, int count, int xIndex);
+}
@@ -0,0 +1,406 @@
+
+package com.github.mikephil.charting.utils;
+
+import android.util.Log;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streaming parser for the '#'-delimited text format of the FileUtils. Each
+ * line contains a value and an x-index ("value#xIndex"), or several stacked
+ * values followed by the x-index ("val1#val2#...#xIndex"). The parser scans
+ * the bytes of the stream directly and parses the numbers in place, without
+ * creating strings, and hands the entries to an EntrySink in chunks. The
+ * memory used does not depend on the size of the stream. A parser object can
+ * be reused, but is not thread-safe.
+ */
+public class EntryTextParser {
+
+    private static final String LOG_TAG = "MPChart-EntryTextParser";
+
+    /** the default number of entries handed to the sink at once */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /**
+     * the maximum number of characters of a single number, lines with longer
+     * fields are malformed
+     */
+    private static final int MAX_FIELD_LENGTH = 64;
+
+    /** powers of ten that can be represented exactly as a double */
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+
+        for (int i = 1; i < POWERS_OF_TEN.length; i++)
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+    }
+
+    /** buffer the stream is read into */
+    private final byte[] mReadBuffer = new byte[64 * 1024];
+
+    /** the characters of the field that is currently parsed */
+    private final byte[] mField = new byte[MAX_FIELD_LENGTH];
+    private int mFieldLength = 0;
+
+    /** the parsed fields of the current line */
+    private double[] mLineFields = new double[8];
+    private int mLineFieldCount = 0;
+
+    /** true if a field of the current line is too long to be a number */
+    private boolean mLineMalformed = false;
+
+    /** reused buffer for the values of stacked entries */
+    private float[] mStackBuffer = new float[8];
+
+    /** the chunk of entries that is handed to the sink */
+    private final float[] mValues;
+    private final int[] mXIndices;
+    private int mChunkCount = 0;
+
+    /** the number of the line that is currently parsed, for error messages */
+    private int mLine = 0;
+
+    public EntryTextParser() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor with the number of entries that are handed to the sink at
+     * once.
+     * 
+     * @param chunkSize
+     */
+    public EntryTextParser(int chunkSize) {
+        mValues = new float[Math.max(1, chunkSize)];
+        mXIndices = new int[Math.max(1, chunkSize)];
+    }
+
+    /**
+     * Parses the whole stream and hands all entries to the given sink. The
+     * stream is not closed. Returns the number of parsed entries. Malformed
+     * lines (fields that are not a number, or an x-index that is not a whole
+     * number) are skipped.
+     * 
+     * @param in
+     * @param sink
+     * @return
+     * @throws IOException
+     */
+    public int parse(InputStream in, EntrySink sink) throws IOException {
+
+        mFieldLength = 0;
+        mLineFieldCount = 0;
+        mLineMalformed = false;
+        mChunkCount = 0;
+        mLine = 1;
+
+        int entries = 0;
+        int read;
+
+        while ((read = in.read(mReadBuffer)) != -1) {
+
+            for (int i = 0; i < read; i++) {
+
+                byte b = mReadBuffer[i];
+
+                if (b == '#') {
+                    endField();
+                } else if (b == '\n') {
+                    endField();
+                    entries += endLine(sink);
+                    mLine++;
+                } else if (b != '\r') {
+
+                    if (mFieldLength < MAX_FIELD_LENGTH)
+                        mField[mFieldLength++] = b;
+                    else
+                        mLineMalformed = true;
+                }
+            }
+        }
+
+        // the last line might not end with a line break
+        endField();
+        entries += endLine(sink);
+
+        flush(sink);
+
+        return entries;
+    }
+
+    /**
+     * Parses the field that ended and adds it to the fields of the line.
+     */
+    private void endField() {
+
+        if (mFieldLength == 0)
+            return;
+
+        if (mLineFieldCount == mLineFields.length) {
+            double[] fields = new double[mLineFields.length * 2];
+            System.arraycopy(mLineFields, 0, fields, 0, mLineFieldCount);
+            mLineFields = fields;
+        }
+
+        double value = parseNumber(mField, mFieldLength);
+
+        // fields that are not a number make the line malformed, unless they
+        // are a literal "NaN"
+        if (Double.isNaN(value) && !isNaNLiteral(mField, mFieldLength))
+            mLineMalformed = true;
+
+        mLineFields[mLineFieldCount++] = value;
+        mFieldLength = 0;
+    }
+
+    /**
+     * Creates the entry of the line that ended from its fields. Returns the
+     * number of created entries (0 or 1).
+     * 
+     * @param sink
+     * @return
+     */
+    private int endLine(EntrySink sink) {
+
+        int fields = mLineFieldCount;
+        mLineFieldCount = 0;
+
+        boolean malformed = mLineMalformed;
+        mLineMalformed = false;
+
+        // empty line
+        if (fields == 0)
+            return 0;
+
+        if (malformed || fields < 2 || !isXIndex(mLineFields[fields - 1])) {
+            Log.e(LOG_TAG, "Skipping malformed line " + mLine + ".");
+            return 0;
+        }
+
+        int xIndex = (int) mLineFields[fields - 1];
+
+        if (fields == 2) {
+
+            mValues[mChunkCount] = (float) mLineFields[0];
+            mXIndices[mChunkCount] = xIndex;
+            mChunkCount++;
+
+            if (mChunkCount == mValues.length)
+                flush(sink);
+
+        } else {
+
+            // keep the order of the entries
+            flush(sink);
+
+            int count = fields - 1;
+
+            if (mStackBuffer.length < count)
+                mStackBuffer = new float[count];
+
+            for (int i = 0; i < count; i++)
+                mStackBuffer[i] = (float) mLineFields[i];
+
+            sink.onStackedEntry(mStackBuffer, count, xIndex);
+        }
+
+        return 1;
+    }
+
+    /**
+     * Hands all entries of the current chunk to the sink.
+     * 
+     * @param sink
+     */
+    private void flush(EntrySink sink) {
+
+        if (mChunkCount == 0)
+            return;
+
+        sink.onEntries(mValues, mXIndices, mChunkCount);
+        mChunkCount = 0;
+    }
+
+    /**
+     * Parses a decimal number (e.g. "-12", "3.25", "1.0E-5") from the given
+     * ASCII characters without creating a string. Falls back to
+     * Float.parseFloat(...) for other notations (e.g. "NaN", "Infinity").
+     * Returns NaN if the characters are not a number.
+     * 
+     * @param chars
+     * @param length
+     * @return
+     */
+    static double parseNumber(byte[] chars, int length) {
+
+        int i = 0;
+
+        // skip surrounding whitespace
+        while (i < length && isWhitespace(chars[i]))
+            i++;
+        while (length > i && isWhitespace(chars[length - 1]))
+            length--;
+
+        if (i == length)
+            return Double.NaN;
+
+        boolean negative = false;
+
+        if (chars[i] == '-' || chars[i] == '+') {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean fraction = false;
+
+        for (; i < length; i++) {
+
+            byte c = chars[i];
+
+            if (c >= '0' && c <= '9') {
+
+                anyDigit = true;
+
+                // further digits are beyond the precision of a float
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+
+                    if (mantissa != 0)
+                        digits++;
+
+                    if (fraction)
+                        exponent--;
+                } else if (!fraction) {
+                    exponent++;
+                }
+
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if ((c == 'e' || c == 'E') && anyDigit) {
+
+                int exp = parseExponent(chars, i + 1, length);
+
+                if (exp == Integer.MIN_VALUE)
+                    return parseFallback(chars, length);
+
+                exponent += exp;
+                i = length;
+                break;
+            } else {
+                return parseFallback(chars, length);
+            }
+        }
+
+        if (!anyDigit)
+            return parseFallback(chars, length);
+
+        double value = mantissa;
+
+        if (exponent < 0) {
+
+            if (-exponent < POWERS_OF_TEN.length)
+                value /= POWERS_OF_TEN[-exponent];
+            else
+                value *= Math.pow(10, exponent);
+
+        } else if (exponent > 0) {
+
+            if (exponent < POWERS_OF_TEN.length)
+                value *= POWERS_OF_TEN[exponent];
+            else
+                value *= Math.pow(10, exponent);
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * returns true if the given number is a whole number in the range of an
+     * int and can be used as an x-index
+     */
+    private static boolean isXIndex(double x) {
+        return x >= Integer.MIN_VALUE && x <= Integer.MAX_VALUE && x == Math.rint(x);
+    }
+
+    /**
+     * returns true if the given characters are "NaN", with optional sign and
+     * surrounding whitespace
+     */
+    static boolean isNaNLiteral(byte[] chars, int length) {
+
+        int i = 0;
+
+        while (i < length && isWhitespace(chars[i]))
+            i++;
+        while (length > i && isWhitespace(chars[length - 1]))
+            length--;
+
+        if (i < length && (chars[i] == '-' || chars[i] == '+'))
+            i++;
+
+        return length - i == 3 && chars[i] == 'N' && chars[i + 1] == 'a' && chars[i + 2] == 'N';
+    }
+
+    /**
+     * returns true if the given character is a space or a tab
+     */
+    private static boolean isWhitespace(byte c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * Parses the integer exponent of a number. Returns Integer.MIN_VALUE if
+     * it is malformed.
+     */
+    private static int parseExponent(byte[] chars, int start, int length) {
+
+        if (start >= length)
+            return Integer.MIN_VALUE;
+
+        boolean negative = false;
+
+        if (chars[start] == '-' || chars[start] == '+') {
+            negative = chars[start] == '-';
+            start++;
+        }
+
+        if (start >= length)
+            return Integer.MIN_VALUE;
+
+        int exp = 0;
+
+        for (int i = start; i < length; i++) {
+
+            byte c = chars[i];
+
+            if (c < '0' || c > '9')
+                return Integer.MIN_VALUE;
+
+            if (exp < 10000)
+                exp = exp * 10 + (c - '0');
+        }
+
+        return negative ? -exp : exp;
+    }
+
+    /**
+     * Parses notations that are not handled in place (e.g. "NaN",
+     * "Infinity") with Float.parseFloat(...). Returns NaN if the characters
+     * are not a number.
+     */
+    private static double parseFallback(byte[] chars, int length) {
+
+        try {
+            return Float.parseFloat(new String(chars, 0, length, "US-ASCII"));
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -6,15 +6,25 @@ import android.os.Environment;
 import android.util.Log;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.Entry;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 
 /**
@@ -27,6 +37,27 @@ public class FileUtils {
 
     private static final String LOG = "MPChart-FileUtils";
 
+    /** magic number at the start of binary entry files, "MPCE" */
+    static final int BINARY_MAGIC = 0x4D504345;
+
+    /**
+     * the version of the binary entry file format, version 2 added the
+     * column of x-values
+     */
+    static final int BINARY_VERSION = 2;
+
+    /** size of the header of binary entry files in bytes */
+    static final int BINARY_HEADER_SIZE = 16;
+
+    /** flag in the header of binary entry files that contain stacked bars */
+    static final int BINARY_FLAG_STACKED = 1;
+
+    /** flag in the header of binary entry files that contain own x-values */
+    static final int BINARY_FLAG_X = 2;
+
+    /** size of the buffer used for writing binary entry files */
+    private static final int BINARY_WRITE_BUFFER_SIZE = 64 * 1024;
+
     /**
      * Loads a an Array of Entries from a textfile from the sd-card.
      * 
@@ -187,6 +218,83 @@ public class FileUtils {
         // return ds;
     }
 
+    /**
+     * Streams the entries of a textfile from the sd-card into the given sink
+     * with the allocation-free EntryTextParser, without holding the whole file
+     * in memory. Returns the number of parsed entries.
+     * 
+     * @param path the name of the file on the sd-card (+ path if needed)
+     * @param sink
+     * @return
+     */
+    public static int streamEntriesFromFile(String path, EntrySink sink) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+
+        return streamEntriesFromFile(new File(sdcard, path), sink);
+    }
+
+    /**
+     * Streams the entries of the given textfile into the given sink with the
+     * allocation-free EntryTextParser. Returns the number of parsed entries.
+     * 
+     * @param file
+     * @param sink
+     * @return
+     */
+    public static int streamEntriesFromFile(File file, EntrySink sink) {
+
+        InputStream in = null;
+
+        try {
+            in = new FileInputStream(file);
+            return new EntryTextParser().parse(in, sink);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        } finally {
+            closeQuietly(in);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Streams the entries of a textfile from the assets folder into the given
+     * sink with the allocation-free EntryTextParser. Returns the number of
+     * parsed entries.
+     * 
+     * @param am
+     * @param path the name of the file in the assets folder (+ path if needed)
+     * @param sink
+     * @return
+     */
+    public static int streamEntriesFromAssets(AssetManager am, String path, EntrySink sink) {
+
+        InputStream in = null;
+
+        try {
+            in = am.open(path);
+            return new EntryTextParser().parse(in, sink);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        } finally {
+            closeQuietly(in);
+        }
+
+        return 0;
+    }
+
+    private static void closeQuietly(InputStream in) {
+
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                Log.e(LOG, e.toString());
+            }
+        }
+    }
+
     /**
      * Saves an Array of Entries to the specified location on the sdcard
      * 
@@ -225,4 +333,405 @@ public class FileUtils {
             Log.e(LOG, e.toString());
         }
     }
+
+    /**
+     * Saves an Array of Entries in the binary entry format to the specified
+     * location on the sdcard. The file is overwritten if it exists.
+     * 
+     * @param entries
+     * @param path
+     */
+    public static void saveToSdCardBinary(ArrayList<? extends Entry> entries, String path) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+        saveToBinaryFile(entries, new File(sdcard, path));
+    }
+
+    /**
+     * Saves an Array of Entries in the binary entry format to the given file.
+     * The file is overwritten if it exists. The format is a header (magic
+     * number, version, entry count, flags) followed by a column of all
+     * x-indices and a column of all values. If there are entries with their
+     * own x-values, a column of all x-values (as doubles, NaN for entries
+     * without one) follows. If there are stacked BarEntries, a column with
+     * the stack size of each entry and a column with all stack values follow.
+     * All numbers are little endian.
+     * 
+     * @param entries
+     * @param file
+     */
+    public static void saveToBinaryFile(ArrayList<? extends Entry> entries, File file) {
+
+        int count = entries.size();
+
+        boolean stacked = false;
+        boolean hasX = false;
+
+        for (int i = 0; i < count; i++) {
+
+            Entry e = entries.get(i);
+
+            if (e instanceof BarEntry && ((BarEntry) e).getVals() != null)
+                stacked = true;
+
+            if (e.hasX())
+                hasX = true;
+        }
+
+        int flags = 0;
+
+        if (stacked)
+            flags |= BINARY_FLAG_STACKED;
+        if (hasX)
+            flags |= BINARY_FLAG_X;
+
+        FileOutputStream out = null;
+
+        try {
+            out = new FileOutputStream(file);
+            FileChannel channel = out.getChannel();
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(BINARY_WRITE_BUFFER_SIZE);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+
+            buf.putInt(BINARY_MAGIC);
+            buf.putInt(BINARY_VERSION);
+            buf.putInt(count);
+            buf.putInt(flags);
+
+            for (int i = 0; i < count; i++) {
+                ensureRemaining(channel, buf, 4);
+                buf.putInt(entries.get(i).getXIndex());
+            }
+
+            for (int i = 0; i < count; i++) {
+                ensureRemaining(channel, buf, 4);
+                buf.putFloat(entries.get(i).getVal());
+            }
+
+            if (hasX) {
+
+                for (int i = 0; i < count; i++) {
+
+                    Entry e = entries.get(i);
+
+                    ensureRemaining(channel, buf, 8);
+                    buf.putDouble(e.hasX() ? e.getX() : Double.NaN);
+                }
+            }
+
+            if (stacked) {
+
+                for (int i = 0; i < count; i++) {
+                    ensureRemaining(channel, buf, 4);
+                    buf.putInt(getStackSize(entries.get(i)));
+                }
+
+                for (int i = 0; i < count; i++) {
+
+                    if (getStackSize(entries.get(i)) == 0)
+                        continue;
+
+                    float[] vals = ((BarEntry) entries.get(i)).getVals();
+
+                    for (int j = 0; j < vals.length; j++) {
+                        ensureRemaining(channel, buf, 4);
+                        buf.putFloat(vals[j]);
+                    }
+                }
+            }
+
+            buf.flip();
+
+            while (buf.hasRemaining())
+                channel.write(buf);
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        } finally {
+
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the content of the buffer to the channel if it has less than the
+     * given number of bytes remaining.
+     * 
+     * @param channel
+     * @param buf
+     * @param bytes
+     * @throws IOException
+     */
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buf, int bytes)
+            throws IOException {
+
+        if (buf.remaining() >= bytes)
+            return;
+
+        buf.flip();
+
+        while (buf.hasRemaining())
+            channel.write(buf);
+
+        buf.clear();
+    }
+
+    /**
+     * Returns the number of stacked values of the given entry, 0 if it is not
+     * a stacked BarEntry.
+     * 
+     * @param e
+     * @return
+     */
+    private static int getStackSize(Entry e) {
+
+        if (e instanceof BarEntry && ((BarEntry) e).getVals() != null)
+            return ((BarEntry) e).getVals().length;
+
+        return 0;
+    }
+
+    /**
+     * Loads an Array of Entries from a binary entry file on the sd-card.
+     * 
+     * @param path the name of the file on the sd-card (+ path if needed)
+     * @return
+     */
+    public static ArrayList<Entry> loadEntriesFromBinaryFile(String path) {
+
+        File sdcard = Environment.getExternalStorageDirectory();
+        return loadEntriesFromBinaryFile(new File(sdcard, path));
+    }
+
+    /**
+     * Loads an Array of Entries from a binary entry file (see
+     * saveToBinaryFile(...)). The file is memory-mapped and its columns are
+     * read in bulk. Stacked values are loaded as BarEntries, own x-values are
+     * set on the entries.
+     * 
+     * @param file
+     * @return
+     */
+    public static ArrayList<Entry> loadEntriesFromBinaryFile(File file) {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+
+        BinaryColumns columns = readBinaryFile(file);
+
+        if (columns == null)
+            return entries;
+
+        entries.ensureCapacity(columns.count);
+
+        int stackOffset = 0;
+
+        for (int i = 0; i < columns.count; i++) {
+
+            int stackSize = columns.stackSizes == null ? 0 : columns.stackSizes[i];
+
+            Entry e;
+
+            if (stackSize == 0) {
+                e = new Entry(columns.values[i], columns.xIndices[i]);
+            } else {
+
+                float[] vals = new float[stackSize];
+                System.arraycopy(columns.stackValues, stackOffset, vals, 0, stackSize);
+                stackOffset += stackSize;
+
+                e = new BarEntry(vals, columns.xIndices[i]);
+            }
+
+            if (columns.x != null)
+                e.setX(columns.x[i]);
+
+            entries.add(e);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Loads the values of a binary entry file (see saveToBinaryFile(...))
+     * directly into the DataSet at the given index of the given data object,
+     * using its bulk addEntries(...) method. Stacked values are added as
+     * their sum. If the file contains own x-values, the entries are added
+     * one by one with their x-values instead, as the bulk method only
+     * supports x-indices. Returns the number of added entries.
+     * 
+     * @param file
+     * @param data
+     * @param dataSetIndex
+     * @return
+     */
+    public static int loadBinaryFileInto(File file, ChartData<?> data, int dataSetIndex) {
+
+        BinaryColumns columns = readBinaryFile(file);
+
+        if (columns == null || columns.count == 0)
+            return 0;
+
+        if (columns.x != null) {
+
+            for (int i = 0; i < columns.count; i++) {
+
+                Entry e = new Entry(columns.values[i], columns.xIndices[i]);
+                e.setX(columns.x[i]);
+
+                data.addEntry(e, dataSetIndex);
+            }
+
+            return columns.count;
+        }
+
+        data.addEntries(columns.values, columns.xIndices, 0, columns.count, dataSetIndex);
+
+        return columns.count;
+    }
+
+    /**
+     * The columns of a binary entry file.
+     */
+    private static class BinaryColumns {
+
+        int count;
+        int[] xIndices;
+        float[] values;
+
+        /** null if the file contains no own x-values */
+        double[] x;
+
+        /** null if the file contains no stacked values */
+        int[] stackSizes;
+        float[] stackValues;
+    }
+
+    /**
+     * Memory-maps the given binary entry file and reads its columns in bulk.
+     * Returns null if the file could not be read or has an unknown format.
+     * 
+     * @param file
+     * @return
+     */
+    private static BinaryColumns readBinaryFile(File file) {
+
+        RandomAccessFile raf = null;
+
+        try {
+            raf = new RandomAccessFile(file, "r");
+            FileChannel channel = raf.getChannel();
+
+            long size = channel.size();
+
+            if (size < BINARY_HEADER_SIZE) {
+                Log.e(LOG, "Binary entry file " + file + " is too short.");
+                return null;
+            }
+
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (map.getInt() != BINARY_MAGIC) {
+                Log.e(LOG, "File " + file + " is not a binary entry file.");
+                return null;
+            }
+
+            int version = map.getInt();
+
+            if (version > BINARY_VERSION) {
+                Log.e(LOG, "Binary entry file version " + version + " is not supported.");
+                return null;
+            }
+
+            BinaryColumns columns = new BinaryColumns();
+            columns.count = map.getInt();
+
+            int flags = map.getInt();
+            boolean stacked = (flags & BINARY_FLAG_STACKED) != 0;
+            boolean hasX = (flags & BINARY_FLAG_X) != 0;
+
+            // x-indices and values, the x-values and stack sizes if flagged,
+            // the stack values are checked once their number is known
+            long expected = BINARY_HEADER_SIZE + 8L * columns.count;
+
+            if (hasX)
+                expected += 8L * columns.count;
+            if (stacked)
+                expected += 4L * columns.count;
+
+            if (columns.count < 0 || size < expected) {
+                Log.e(LOG, "Binary entry file " + file + " is truncated.");
+                return null;
+            }
+
+            columns.xIndices = new int[columns.count];
+            columns.values = new float[columns.count];
+
+            map.asIntBuffer().get(columns.xIndices);
+            map.position(map.position() + 4 * columns.count);
+
+            map.asFloatBuffer().get(columns.values);
+            map.position(map.position() + 4 * columns.count);
+
+            if (hasX) {
+                columns.x = new double[columns.count];
+                map.asDoubleBuffer().get(columns.x);
+                map.position(map.position() + 8 * columns.count);
+            }
+
+            if (stacked) {
+
+                columns.stackSizes = new int[columns.count];
+                map.asIntBuffer().get(columns.stackSizes);
+                map.position(map.position() + 4 * columns.count);
+
+                long total = 0;
+
+                for (int i = 0; i < columns.count; i++) {
+
+                    if (columns.stackSizes[i] < 0) {
+                        Log.e(LOG, "Binary entry file " + file + " has an invalid stack size.");
+                        return null;
+                    }
+
+                    total += columns.stackSizes[i];
+                }
+
+                if (size < expected + 4L * total) {
+                    Log.e(LOG, "Binary entry file " + file + " is truncated.");
+                    return null;
+                }
+
+                columns.stackValues = new float[(int) total];
+                map.asFloatBuffer().get(columns.stackValues);
+            }
+
+            return columns;
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+        } catch (BufferUnderflowException e) {
+            Log.e(LOG, e.toString());
+        } catch (IndexOutOfBoundsException e) {
+            Log.e(LOG, e.toString());
+        } finally {
+
+            if (raf != null) {
+                try {
+                    raf.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,47 @@
+
+package com.github.mikephil.charting.utils;
+
+import android.graphics.DashPathEffect;
+
+/**
+ * DashPathEffect that keeps its intervals and phase, which DashPathEffect does
+ * not expose. Used for all dashed lines of the charts, so that canvases that
+ * do not draw pixels (e.g. SvgCanvas) can write the dashes.
+ */
+public class IntervalDashPathEffect extends DashPathEffect {
+
+    private float[] mIntervals;
+
+    private float mPhase;
+
+    /**
+     * Constructor with the on and off lengths of the dashes, see
+     * DashPathEffect.
+     *
+     * @param intervals
+     * @param phase offset into the intervals
+     */
+    public IntervalDashPathEffect(float[] intervals, float phase) {
+        super(intervals, phase);
+        mIntervals = intervals.clone();
+        mPhase = phase;
+    }
+
+    /**
+     * returns the on and off lengths of the dashes
+     *
+     * @return
+     */
+    public float[] getIntervals() {
+        return mIntervals;
+    }
+
+    /**
+     * returns the offset into the intervals
+     *
+     * @return
+     */
+    public float getPhase() {
+        return mPhase;
+    }
+}
@@ -105,7 +105,7 @@ public class LimitLine {
      * @param phase offset, in degrees (normally, use 0)
      */
     public void enableDashedLine(float lineLength, float spaceLength, float phase) {
-        mDashPathEffect = new DashPathEffect(new float[] {
+        mDashPathEffect = new IntervalDashPathEffect(new float[] {
                 lineLength, spaceLength
         }, phase);
     }
@@ -2,7 +2,9 @@
 package com.github.mikephil.charting.utils;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.RelativeLayout;
@@ -23,6 +25,30 @@ public abstract class MarkerView extends RelativeLayout {
     /** draw offset on the y-axis */
     private float mYOffset = 0f;
 
+    /**
+     * the number of highlights the content is cached for, markers of further
+     * highlights are refreshed and drawn each time
+     */
+    private static final int CACHE_SIZE = 4;
+
+    /** the bitmaps the content of the marker of each highlight is rendered into */
+    private Bitmap[] mCacheBitmaps = new Bitmap[CACHE_SIZE];
+
+    /** the canvases that draw into the cache bitmaps */
+    private Canvas[] mCacheCanvases = new Canvas[CACHE_SIZE];
+
+    /** the entry whose content is currently rendered into each cache */
+    private Entry[] mCachedEntries = new Entry[CACHE_SIZE];
+
+    /** the value of each cached entry at the time it was rendered */
+    private float[] mCachedVals = new float[CACHE_SIZE];
+
+    /** the x-index of each cached entry at the time it was rendered */
+    private int[] mCachedXIndices = new int[CACHE_SIZE];
+
+    /** the DataSet index of each cached entry */
+    private int[] mCachedDataSetIndices = new int[CACHE_SIZE];
+
     /**
      * Constructor. Sets up the MarkerView with a custom layout resource.
      * 
@@ -72,6 +98,114 @@ public abstract class MarkerView extends RelativeLayout {
         canvas.translate(-posx, -posy);
     }
 
+    /**
+     * Draws the MarkerView for the given Entry on the given position. The
+     * content of the marker of each highlight is cached separately, it is
+     * refreshed, laid out and rendered into the cached bitmap of the
+     * highlight only if the Entry (or its value or x-index) differs from the
+     * one drawn before for the same highlight. Otherwise the cached bitmap is
+     * drawn, which makes redrawing the markers while panning or zooming
+     * cheap. Call invalidateContent() if the content needs to be refreshed
+     * for the same Entry.
+     * 
+     * @param canvas
+     * @param posx
+     * @param posy
+     * @param e the Entry the MarkerView belongs to
+     * @param dataSetIndex the index of the DataSet the Entry is in
+     * @param highlight the position of the highlight among the drawn
+     *            highlights
+     */
+    public void draw(Canvas canvas, float posx, float posy, Entry e, int dataSetIndex,
+            int highlight) {
+
+        boolean cached = highlight >= 0 && highlight < CACHE_SIZE;
+
+        boolean changed = !cached || e != mCachedEntries[highlight]
+                || dataSetIndex != mCachedDataSetIndices[highlight]
+                || e.getXIndex() != mCachedXIndices[highlight]
+                || e.getVal() != mCachedVals[highlight];
+
+        // the views always need to show the content of the highlight if they
+        // are drawn directly
+        if (changed || canvas instanceof SvgCanvas) {
+
+            refreshContent(e, dataSetIndex);
+
+            measure(MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED),
+                    MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
+            layout(0, 0, getMeasuredWidth(), getMeasuredHeight());
+        }
+
+        // bitmaps are not part of a vector export, and markers of highlights
+        // that are not cached are drawn directly
+        if (!cached || canvas instanceof SvgCanvas) {
+            draw(canvas, posx, posy);
+            return;
+        }
+
+        if (changed) {
+
+            if (!renderCache(highlight))
+                return;
+
+            mCachedEntries[highlight] = e;
+            mCachedVals[highlight] = e.getVal();
+            mCachedXIndices[highlight] = e.getXIndex();
+            mCachedDataSetIndices[highlight] = dataSetIndex;
+        }
+
+        canvas.drawBitmap(mCacheBitmaps[highlight], posx + mXOffset, posy + mYOffset, null);
+    }
+
+    /**
+     * Renders the laid out MarkerView into the cache bitmap of the given
+     * highlight, which is only reallocated if it is too small. Returns false
+     * if the MarkerView has no size.
+     * 
+     * @param highlight
+     * @return
+     */
+    private boolean renderCache(int highlight) {
+
+        int width = getMeasuredWidth();
+        int height = getMeasuredHeight();
+
+        if (width <= 0 || height <= 0) {
+            mCachedEntries[highlight] = null;
+            return false;
+        }
+
+        Bitmap bitmap = mCacheBitmaps[highlight];
+
+        if (bitmap == null || bitmap.getWidth() < width || bitmap.getHeight() < height) {
+
+            if (bitmap != null)
+                bitmap.recycle();
+
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+            mCacheBitmaps[highlight] = bitmap;
+            mCacheCanvases[highlight] = new Canvas(bitmap);
+        }
+
+        bitmap.eraseColor(Color.TRANSPARENT);
+        draw(mCacheCanvases[highlight]);
+
+        return true;
+    }
+
+    /**
+     * Forces the content of the MarkerView to be refreshed and rendered again
+     * the next time it is drawn, needed if the content changes without a
+     * change of the selected Entry.
+     */
+    public void invalidateContent() {
+
+        for (int i = 0; i < CACHE_SIZE; i++)
+            mCachedEntries[i] = null;
+    }
+
     /**
      * This method enables a specified custom MarkerView to update it's content
      * everytime the MarkerView is redrawn.
@@ -0,0 +1,268 @@
+
+package com.github.mikephil.charting.utils;
+
+/**
+ * Uniform grid over the pixel positions of the drawn entries that finds the
+ * entry closest to a touch point. The grid is sized so that each cell holds
+ * about two points, a lookup only visits the cells around the touch point.
+ * All arrays are kept and only grown when needed, neither building the grid
+ * nor looking up a point allocates once the arrays are large enough.
+ */
+public class NearestPointIndex {
+
+    /** the average number of points per cell the grid is sized for */
+    private static final int POINTS_PER_CELL = 2;
+
+    /** the number of points added since the last reset */
+    private int mCount = 0;
+
+    /** x- and y-position of each point, one after another */
+    private float[] mPoints = new float[64];
+
+    /** the DataSet index of each point */
+    private int[] mDataSetIndices = new int[32];
+
+    /** the x-index of each point */
+    private int[] mXIndices = new int[32];
+
+    /** the bounds of the grid */
+    private float mLeft, mTop, mRight, mBottom;
+
+    /** number of columns and rows of the grid */
+    private int mCols = 1, mRows = 1;
+
+    /** size of a cell in pixels */
+    private float mCellWidth = 1f, mCellHeight = 1f;
+
+    /**
+     * position of the first point of each cell in mCellPoints, the points of
+     * cell c are at mCellStart[c] until mCellStart[c + 1]
+     */
+    private int[] mCellStart = new int[2];
+
+    /** the points sorted by their cell */
+    private int[] mCellPoints = new int[32];
+
+    /** fill position of each cell while building */
+    private int[] mCellFill = new int[1];
+
+    /**
+     * Removes all points and sets the bounds of the area the points are in.
+     * Points outside of the bounds are not added.
+     * 
+     * @param left
+     * @param top
+     * @param right
+     * @param bottom
+     */
+    public void reset(float left, float top, float right, float bottom) {
+        mCount = 0;
+        mLeft = left;
+        mTop = top;
+        mRight = right;
+        mBottom = bottom;
+    }
+
+    /**
+     * Adds a point at the given pixel position, build() needs to be called
+     * after all points are added. Returns false if the point is outside of
+     * the bounds and was not added.
+     * 
+     * @param x
+     * @param y
+     * @param dataSetIndex the index of the DataSet of the point
+     * @param xIndex the x-index of the Entry of the point
+     * @return
+     */
+    public boolean add(float x, float y, int dataSetIndex, int xIndex) {
+
+        // also rejects NaN
+        if (!(x >= mLeft && x <= mRight && y >= mTop && y <= mBottom))
+            return false;
+
+        if (mCount == mXIndices.length) {
+            mPoints = grow(mPoints, mCount * 4);
+            mDataSetIndices = grow(mDataSetIndices, mCount * 2);
+            mXIndices = grow(mXIndices, mCount * 2);
+        }
+
+        mPoints[mCount * 2] = x;
+        mPoints[mCount * 2 + 1] = y;
+        mDataSetIndices[mCount] = dataSetIndex;
+        mXIndices[mCount] = xIndex;
+        mCount++;
+
+        return true;
+    }
+
+    /**
+     * Sorts the added points into the grid.
+     */
+    public void build() {
+
+        float width = Math.max(1f, mRight - mLeft);
+        float height = Math.max(1f, mBottom - mTop);
+
+        int cells = Math.max(1, mCount / POINTS_PER_CELL);
+
+        mCols = Math.max(1, (int) Math.sqrt(cells * width / height));
+        mRows = Math.max(1, cells / mCols);
+        mCellWidth = width / mCols;
+        mCellHeight = height / mRows;
+
+        cells = mCols * mRows;
+
+        if (mCellStart.length < cells + 1) {
+            mCellStart = new int[cells + 1];
+            mCellFill = new int[cells];
+        }
+
+        if (mCellPoints.length < mCount)
+            mCellPoints = new int[mXIndices.length];
+
+        for (int c = 0; c <= cells; c++)
+            mCellStart[c] = 0;
+
+        // count the points per cell, then turn the counts into start
+        // positions
+        for (int i = 0; i < mCount; i++)
+            mCellStart[cellOf(i) + 1]++;
+
+        for (int c = 0; c < cells; c++) {
+            mCellStart[c + 1] += mCellStart[c];
+            mCellFill[c] = mCellStart[c];
+        }
+
+        for (int i = 0; i < mCount; i++)
+            mCellPoints[mCellFill[cellOf(i)]++] = i;
+    }
+
+    /**
+     * Returns the position of the point closest to the given pixel position,
+     * or -1 if the index is empty. Use getDataSetIndex(...) and
+     * getXIndex(...) to retrieve the point.
+     * 
+     * @param x
+     * @param y
+     * @return
+     */
+    public int nearest(float x, float y) {
+
+        if (mCount == 0)
+            return -1;
+
+        int cx = clamp((int) ((x - mLeft) / mCellWidth), mCols);
+        int cy = clamp((int) ((y - mTop) / mCellHeight), mRows);
+
+        int best = -1;
+        float bestDist = Float.MAX_VALUE;
+
+        int maxRing = Math.max(mCols, mRows);
+
+        for (int r = 0; r <= maxRing; r++) {
+
+            for (int j = cy - r; j <= cy + r; j++) {
+
+                if (j < 0 || j >= mRows)
+                    continue;
+
+                // inner rows of the ring only have the outer two cells
+                int step = (j == cy - r || j == cy + r) ? 1 : Math.max(1, 2 * r);
+
+                for (int i = cx - r; i <= cx + r; i += step) {
+
+                    if (i < 0 || i >= mCols)
+                        continue;
+
+                    int c = j * mCols + i;
+
+                    for (int k = mCellStart[c]; k < mCellStart[c + 1]; k++) {
+
+                        int p = mCellPoints[k];
+
+                        float dx = mPoints[p * 2] - x;
+                        float dy = mPoints[p * 2 + 1] - y;
+                        float dist = dx * dx + dy * dy;
+
+                        if (dist < bestDist) {
+                            bestDist = dist;
+                            best = p;
+                        }
+                    }
+                }
+            }
+
+            if (best >= 0) {
+
+                // the distance from the touch point to the outside of the
+                // searched block, no point of the next ring can be closer
+                float outside = Math.min(
+                        Math.min(x - (mLeft + (cx - r) * mCellWidth),
+                                mLeft + (cx + r + 1) * mCellWidth - x),
+                        Math.min(y - (mTop + (cy - r) * mCellHeight),
+                                mTop + (cy + r + 1) * mCellHeight - y));
+
+                if (outside > 0f && bestDist <= outside * outside)
+                    break;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns the number of points in the index.
+     * 
+     * @return
+     */
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Returns the DataSet index of the point at the given position.
+     * 
+     * @param point
+     * @return
+     */
+    public int getDataSetIndex(int point) {
+        return mDataSetIndices[point];
+    }
+
+    /**
+     * Returns the x-index of the point at the given position.
+     * 
+     * @param point
+     * @return
+     */
+    public int getXIndex(int point) {
+        return mXIndices[point];
+    }
+
+    /**
+     * returns the cell the point at the given position is in
+     */
+    private int cellOf(int point) {
+
+        int cx = clamp((int) ((mPoints[point * 2] - mLeft) / mCellWidth), mCols);
+        int cy = clamp((int) ((mPoints[point * 2 + 1] - mTop) / mCellHeight), mRows);
+
+        return cy * mCols + cx;
+    }
+
+    private static int clamp(int cell, int count) {
+        return cell < 0 ? 0 : (cell >= count ? count - 1 : cell);
+    }
+
+    private static float[] grow(float[] array, int size) {
+        float[] grown = new float[size];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    private static int[] grow(int[] array, int size) {
+        int[] grown = new int[size];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+}
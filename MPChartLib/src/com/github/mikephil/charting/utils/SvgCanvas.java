@@ -0,0 +1,1093 @@
+
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PathEffect;
+import android.graphics.PathMeasure;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+import android.util.Log;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Canvas that writes the drawing commands of a chart as SVG vector graphics
+ * into an OutputStream instead of drawing pixels. The elements are written
+ * while the chart is drawn, so the memory used does not depend on the size
+ * of the output. Lines, rects, circles, arcs, paths and texts are written,
+ * bitmaps are ignored. Paths and consecutive line segments are reduced to at
+ * most four points (first, lowest, highest, last) for each column of the
+ * path tolerance width, so the size of the output depends on the visual
+ * complexity of the chart and not on the number of entries. Paths are
+ * further simplified to the points needed to stay within the path tolerance.
+ * Dashes are written for IntervalDashPathEffects, other path effects are
+ * ignored. Use Chart.saveToSvg(...) for exporting a chart.
+ */
+public class SvgCanvas extends Canvas {
+
+    private static final String LOG_TAG = "MPChart-SvgCanvas";
+
+    private Writer mWriter;
+
+    private int mWidth;
+    private int mHeight;
+
+    /** the first error that occurred while writing, null if none */
+    private IOException mError = null;
+
+    /**
+     * the distance in pixels at which paths are sampled, within which points
+     * are reduced and by which simplified paths may deviate
+     */
+    private float mTolerance = 1f;
+
+    /** the current transformation matrix and buffers for mapping points */
+    private Matrix mMatrix = new Matrix();
+    private float[] mMatrixValues = new float[9];
+    private float[] mPoints = new float[8];
+    private RectF mRectBuffer = new RectF();
+
+    /** the clip rect of each save level, in output coordinates */
+    private RectF[] mClips = new RectF[] {
+            new RectF()
+    };
+
+    /** the number of open clip groups of each save level */
+    private int[] mClipGroups = new int[1];
+
+    /** the number of written clip paths, for creating their ids */
+    private int mClipPathCount = 0;
+
+    private PathMeasure mPathMeasure = new PathMeasure();
+    private float[] mPos = new float[2];
+
+    /**
+     * true while the reduced points of a path contour are collected for
+     * simplifying them instead of being written
+     */
+    private boolean mCollectPoints = false;
+
+    /** the collected points of the current path contour, x and y */
+    private float[] mPathPoints = new float[256];
+    private int mPathPointCount = 0;
+
+    /** the points of the contour that are kept by the simplification */
+    private boolean[] mKeepPoints = new boolean[128];
+
+    /** ranges of points that still need to be simplified, start and end */
+    private int[] mSimplifyStack = new int[64];
+
+    /** buffer for writing numbers */
+    private char[] mDigits = new char[24];
+
+    /**
+     * true if a path element is open that consecutive connected line segments
+     * with the same style are merged into, and the style of the element
+     */
+    private boolean mPolylineOpen = false;
+    private int mPolylineColor;
+    private float mPolylineWidth;
+    private Paint.Cap mPolylineCap;
+    private PathEffect mPolylineEffect;
+    private float mPolylineEndX;
+    private float mPolylineEndY;
+
+    /** state of the reduction of the points of the current path element */
+    private boolean mNeedMove = true;
+    private boolean mColumnOpen = false;
+    private int mColumn;
+    private int mPointIndex;
+    private float mFirstX, mFirstY, mLastX, mLastY;
+    private float mMinX, mMinY, mMaxX, mMaxY;
+    private int mFirstIndex, mLastIndex, mMinIndex, mMaxIndex;
+
+    /**
+     * Constructor with the stream the SVG document is written to and the size
+     * of the document. The stream is not closed.
+     * 
+     * @param out
+     * @param width
+     * @param height
+     */
+    public SvgCanvas(OutputStream out, int width, int height) {
+
+        try {
+            mWriter = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"));
+        } catch (IOException e) {
+            mError = e;
+        }
+
+        mWidth = width;
+        mHeight = height;
+        mClips[0].set(0, 0, width, height);
+
+        write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+        writeNumber(width);
+        write("\" height=\"");
+        writeNumber(height);
+        write("\" viewBox=\"0 0 ");
+        writeNumber(width);
+        write(" ");
+        writeNumber(height);
+        write("\">\n");
+    }
+
+    /**
+     * Sets the distance in pixels at which paths are sampled and within which
+     * points are reduced. Smaller values give more exact output, larger
+     * values smaller output. Default: 1f
+     * 
+     * @param tolerance
+     */
+    public void setPathTolerance(float tolerance) {
+        mTolerance = Math.max(0.01f, tolerance);
+    }
+
+    /**
+     * Closes all open elements, ends the document and flushes it to the
+     * stream. Returns false if an error occurred while writing.
+     * 
+     * @return
+     */
+    public boolean finish() {
+
+        closePolyline();
+
+        while (getSaveCount() > 1)
+            restore();
+
+        closeClipGroups(0);
+
+        write("</svg>\n");
+
+        if (mError == null) {
+            try {
+                mWriter.flush();
+            } catch (IOException e) {
+                mError = e;
+            }
+        }
+
+        if (mError != null) {
+            Log.e(LOG_TAG, mError.toString());
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int getWidth() {
+        return mWidth;
+    }
+
+    @Override
+    public int getHeight() {
+        return mHeight;
+    }
+
+    @Override
+    public int save() {
+        closePolyline();
+
+        int count = super.save();
+        pushSaveLevel(count);
+        return count;
+    }
+
+    @Override
+    public int save(int saveFlags) {
+        closePolyline();
+
+        int count = super.save(saveFlags);
+        pushSaveLevel(count);
+        return count;
+    }
+
+    @Override
+    public void restore() {
+        closePolyline();
+
+        int level = getSaveCount() - 1;
+
+        if (level > 0)
+            closeClipGroups(level);
+
+        super.restore();
+    }
+
+    @Override
+    public void restoreToCount(int saveCount) {
+        closePolyline();
+
+        for (int level = getSaveCount() - 1; level >= saveCount && level > 0; level--)
+            closeClipGroups(level);
+
+        super.restoreToCount(saveCount);
+    }
+
+    /**
+     * Initializes the state of the save level that was created by saving at
+     * the given save count.
+     * 
+     * @param count the save count before saving
+     */
+    private void pushSaveLevel(int count) {
+
+        if (count >= mClips.length) {
+
+            RectF[] clips = new RectF[count * 2];
+            System.arraycopy(mClips, 0, clips, 0, mClips.length);
+
+            for (int i = mClips.length; i < clips.length; i++)
+                clips[i] = new RectF();
+
+            int[] groups = new int[count * 2];
+            System.arraycopy(mClipGroups, 0, groups, 0, mClipGroups.length);
+
+            mClips = clips;
+            mClipGroups = groups;
+        }
+
+        mClips[count].set(mClips[count - 1]);
+        mClipGroups[count] = 0;
+    }
+
+    /**
+     * Closes the clip groups that were opened at the given save level.
+     * 
+     * @param level
+     */
+    private void closeClipGroups(int level) {
+
+        for (int i = 0; i < mClipGroups[level]; i++)
+            write("</g>\n");
+
+        mClipGroups[level] = 0;
+    }
+
+    @Override
+    public boolean clipRect(RectF rect) {
+        return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+    }
+
+    @Override
+    public boolean clipRect(Rect rect) {
+        return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+    }
+
+    @Override
+    public boolean clipRect(int left, int top, int right, int bottom) {
+        return clipRect((float) left, (float) top, (float) right, (float) bottom);
+    }
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom) {
+        closePolyline();
+
+        super.clipRect(left, top, right, bottom);
+
+        updateMatrix();
+        mRectBuffer.set(left, top, right, bottom);
+        mMatrix.mapRect(mRectBuffer);
+
+        int level = getSaveCount() - 1;
+        RectF clip = mClips[level];
+
+        if (!clip.intersect(mRectBuffer))
+            clip.setEmpty();
+
+        String id = "clip" + (mClipPathCount++);
+
+        write("<clipPath id=\"");
+        write(id);
+        write("\"><rect x=\"");
+        writeNumber(clip.left);
+        write("\" y=\"");
+        writeNumber(clip.top);
+        write("\" width=\"");
+        writeNumber(clip.width());
+        write("\" height=\"");
+        writeNumber(clip.height());
+        write("\"/></clipPath>\n<g clip-path=\"url(#");
+        write(id);
+        write(")\">\n");
+
+        mClipGroups[level]++;
+
+        return !clip.isEmpty();
+    }
+
+    @Override
+    public void drawColor(int color) {
+        closePolyline();
+
+        if (Color.alpha(color) == 0)
+            return;
+
+        write("<rect x=\"0\" y=\"0\" width=\"100%\" height=\"100%\"");
+        writeColor(" fill", color);
+        write("/>\n");
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+
+        float[] pts = mPoints;
+        pts[0] = startX;
+        pts[1] = startY;
+        pts[2] = stopX;
+        pts[3] = stopY;
+
+        updateMatrix();
+        mMatrix.mapPoints(pts, 0, pts, 0, 2);
+
+        // cull segments that are completely outside the clip rect
+        RectF clip = mClips[getSaveCount() - 1];
+
+        if ((pts[0] < clip.left && pts[2] < clip.left)
+                || (pts[0] > clip.right && pts[2] > clip.right)
+                || (pts[1] < clip.top && pts[3] < clip.top)
+                || (pts[1] > clip.bottom && pts[3] > clip.bottom)) {
+
+            // the next segment is not connected anymore
+            flushColumn();
+            mNeedMove = true;
+            return;
+        }
+
+        boolean connected = mPolylineOpen
+                && mPolylineColor == paint.getColor()
+                && mPolylineWidth == paint.getStrokeWidth()
+                && mPolylineCap == paint.getStrokeCap()
+                && mPolylineEffect == paint.getPathEffect();
+
+        if (!connected) {
+
+            closePolyline();
+
+            write("<path fill=\"none\"");
+            writeStroke(paint);
+            write(" d=\"");
+
+            mPolylineOpen = true;
+            mPolylineColor = paint.getColor();
+            mPolylineWidth = paint.getStrokeWidth();
+            mPolylineCap = paint.getStrokeCap();
+            mPolylineEffect = paint.getPathEffect();
+            mNeedMove = true;
+        }
+
+        if (mNeedMove || pts[0] != mPolylineEndX || pts[1] != mPolylineEndY) {
+            flushColumn();
+            mNeedMove = true;
+            addPoint(pts[0], pts[1]);
+        }
+
+        addPoint(pts[2], pts[3]);
+
+        mPolylineEndX = pts[2];
+        mPolylineEndY = pts[3];
+    }
+
+    @Override
+    public void drawLines(float[] pts, Paint paint) {
+        drawLines(pts, 0, pts.length, paint);
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+
+        for (int i = offset; i + 3 < offset + count; i += 4)
+            drawLine(pts[i], pts[i + 1], pts[i + 2], pts[i + 3], paint);
+    }
+
+    @Override
+    public void drawRect(RectF rect, Paint paint) {
+        drawRect(rect.left, rect.top, rect.right, rect.bottom, paint);
+    }
+
+    @Override
+    public void drawRect(Rect r, Paint paint) {
+        drawRect(r.left, r.top, r.right, r.bottom, paint);
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        closePolyline();
+
+        updateMatrix();
+
+        if (mMatrix.rectStaysRect()) {
+
+            mRectBuffer.set(left, top, right, bottom);
+            mMatrix.mapRect(mRectBuffer);
+
+            if (!RectF.intersects(mRectBuffer, mClips[getSaveCount() - 1]))
+                return;
+
+            write("<rect x=\"");
+            writeNumber(mRectBuffer.left);
+            write("\" y=\"");
+            writeNumber(mRectBuffer.top);
+            write("\" width=\"");
+            writeNumber(mRectBuffer.width());
+            write("\" height=\"");
+            writeNumber(mRectBuffer.height());
+            write("\"");
+            writeStyle(paint);
+            write("/>\n");
+
+        } else {
+
+            float[] pts = mPoints;
+            pts[0] = left;
+            pts[1] = top;
+            pts[2] = right;
+            pts[3] = top;
+            pts[4] = right;
+            pts[5] = bottom;
+            pts[6] = left;
+            pts[7] = bottom;
+
+            mMatrix.mapPoints(pts);
+
+            write("<polygon points=\"");
+
+            for (int i = 0; i < 8; i += 2) {
+                writeNumber(pts[i]);
+                write(",");
+                writeNumber(pts[i + 1]);
+                write(" ");
+            }
+
+            write("\"");
+            writeStyle(paint);
+            write("/>\n");
+        }
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+        closePolyline();
+
+        updateMatrix();
+
+        float[] pts = mPoints;
+        pts[0] = cx;
+        pts[1] = cy;
+        mMatrix.mapPoints(pts, 0, pts, 0, 1);
+
+        float r = mMatrix.mapRadius(radius);
+
+        RectF clip = mClips[getSaveCount() - 1];
+
+        if (pts[0] + r < clip.left || pts[0] - r > clip.right
+                || pts[1] + r < clip.top || pts[1] - r > clip.bottom)
+            return;
+
+        write("<circle cx=\"");
+        writeNumber(pts[0]);
+        write("\" cy=\"");
+        writeNumber(pts[1]);
+        write("\" r=\"");
+        writeNumber(r);
+        write("\"");
+        writeStyle(paint);
+        write("/>\n");
+    }
+
+    @Override
+    public void drawArc(RectF oval, float startAngle, float sweepAngle, boolean useCenter,
+            Paint paint) {
+        closePolyline();
+
+        updateMatrix();
+
+        float cx = oval.centerX();
+        float cy = oval.centerY();
+        float rx = oval.width() / 2f;
+        float ry = oval.height() / 2f;
+
+        // sample the arc at about the path tolerance
+        float length = (float) (Math.abs(sweepAngle) / 180.0 * Math.PI)
+                * mMatrix.mapRadius(Math.max(rx, ry));
+        int steps = Math.max(2, (int) Math.ceil(length / mTolerance));
+
+        write("<path");
+        writeStyle(paint);
+        write(" d=\"");
+        mNeedMove = true;
+
+        if (useCenter)
+            addMappedPoint(cx, cy);
+
+        for (int i = 0; i <= steps; i++) {
+
+            double angle = Math.toRadians(startAngle + sweepAngle * i / steps);
+
+            addMappedPoint((float) (cx + rx * Math.cos(angle)),
+                    (float) (cy + ry * Math.sin(angle)));
+        }
+
+        flushColumn();
+
+        if (useCenter)
+            write("Z");
+
+        write("\"/>\n");
+    }
+
+    @Override
+    public void drawPath(Path path, Paint paint) {
+        closePolyline();
+
+        updateMatrix();
+
+        write("<path");
+        writeStyle(paint);
+
+        if (path.getFillType() == Path.FillType.EVEN_ODD
+                || path.getFillType() == Path.FillType.INVERSE_EVEN_ODD)
+            write(" fill-rule=\"evenodd\"");
+
+        write(" d=\"");
+
+        // Path does not expose its segments below API level 26, each contour
+        // is sampled at the tolerance and simplified back to the points that
+        // are needed to follow it within the tolerance
+        mPathMeasure.setPath(path, false);
+
+        do {
+
+            float length = mPathMeasure.getLength();
+
+            if (length <= 0f)
+                continue;
+
+            mNeedMove = true;
+            mCollectPoints = true;
+            mPathPointCount = 0;
+
+            int steps = Math.max(1, (int) Math.ceil(length / mTolerance));
+
+            for (int i = 0; i <= steps; i++) {
+
+                mPathMeasure.getPosTan(Math.min(length, i * mTolerance), mPos, null);
+                addMappedPoint(mPos[0], mPos[1]);
+            }
+
+            flushColumn();
+            mCollectPoints = false;
+
+            writeSimplifiedPoints();
+
+            if (mPathMeasure.isClosed())
+                write("Z");
+
+        } while (mPathMeasure.nextContour());
+
+        write("\"/>\n");
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+        drawText(text, 0, text.length(), x, y, paint);
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+        drawText(new String(text, index, count), 0, count, x, y, paint);
+    }
+
+    @Override
+    public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+        drawText(text.toString(), start, end, x, y, paint);
+    }
+
+    @Override
+    public void drawText(String text, int start, int end, float x, float y, Paint paint) {
+        closePolyline();
+
+        if (start >= end)
+            return;
+
+        updateMatrix();
+        mMatrix.getValues(mMatrixValues);
+
+        float[] pts = mPoints;
+        pts[0] = x;
+        pts[1] = y;
+        mMatrix.mapPoints(pts, 0, pts, 0, 1);
+
+        float scaleX = mMatrixValues[Matrix.MSCALE_X];
+        float skewY = mMatrixValues[Matrix.MSKEW_Y];
+
+        write("<text x=\"");
+        writeNumber(pts[0]);
+        write("\" y=\"");
+        writeNumber(pts[1]);
+        write("\" font-size=\"");
+        writeNumber(paint.getTextSize() * (float) Math.sqrt(scaleX * scaleX + skewY * skewY));
+        write("\"");
+
+        Typeface tf = paint.getTypeface();
+
+        if (paint.isFakeBoldText() || (tf != null && tf.isBold()))
+            write(" font-weight=\"bold\"");
+
+        if (paint.getTextAlign() == Paint.Align.CENTER)
+            write(" text-anchor=\"middle\"");
+        else if (paint.getTextAlign() == Paint.Align.RIGHT)
+            write(" text-anchor=\"end\"");
+
+        writeColor(" fill", paint.getColor());
+
+        if (skewY != 0f) {
+            write(" transform=\"rotate(");
+            writeNumber((float) Math.toDegrees(Math.atan2(skewY, scaleX)));
+            write(" ");
+            writeNumber(pts[0]);
+            write(" ");
+            writeNumber(pts[1]);
+            write(")\"");
+        }
+
+        write(">");
+
+        for (int i = start; i < end; i++) {
+
+            char c = text.charAt(i);
+
+            if (c == '<')
+                write("&lt;");
+            else if (c == '>')
+                write("&gt;");
+            else if (c == '&')
+                write("&amp;");
+            else
+                write(c);
+        }
+
+        write("</text>\n");
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+        // bitmaps are not exported
+    }
+
+    /**
+     * Copies the current transformation matrix of the canvas into mMatrix.
+     * getMatrix(Matrix) is deprecated because the matrix of a hardware
+     * accelerated canvas is not meaningful, this canvas is never hardware
+     * accelerated and its matrix is exactly what the drawing calls are mapped
+     * with, so the deprecation does not apply here.
+     */
+    @SuppressWarnings("deprecation")
+    private void updateMatrix() {
+        getMatrix(mMatrix);
+    }
+
+    /**
+     * Ends the path element of merged line segments if one is open.
+     */
+    private void closePolyline() {
+
+        if (!mPolylineOpen)
+            return;
+
+        flushColumn();
+        write("\"/>\n");
+
+        mPolylineOpen = false;
+    }
+
+    /**
+     * Maps the given point with the current matrix and adds it to the current
+     * path element.
+     * 
+     * @param x
+     * @param y
+     */
+    private void addMappedPoint(float x, float y) {
+
+        float[] pts = mPoints;
+        pts[0] = x;
+        pts[1] = y;
+        mMatrix.mapPoints(pts, 0, pts, 0, 1);
+
+        addPoint(pts[0], pts[1]);
+    }
+
+    /**
+     * Adds a point to the current path element. Consecutive points within the
+     * same column of the tolerance width are reduced to the first, lowest,
+     * highest and last of them.
+     * 
+     * @param x
+     * @param y
+     */
+    private void addPoint(float x, float y) {
+
+        int column = (int) Math.floor(x / mTolerance);
+
+        if (mColumnOpen && column == mColumn) {
+
+            if (y < mMinY) {
+                mMinX = x;
+                mMinY = y;
+                mMinIndex = mPointIndex;
+            }
+
+            if (y > mMaxY) {
+                mMaxX = x;
+                mMaxY = y;
+                mMaxIndex = mPointIndex;
+            }
+
+            mLastX = x;
+            mLastY = y;
+            mLastIndex = mPointIndex;
+
+            mPointIndex++;
+            return;
+        }
+
+        flushColumn();
+
+        mColumnOpen = true;
+        mColumn = column;
+
+        mFirstX = mLastX = mMinX = mMaxX = x;
+        mFirstY = mLastY = mMinY = mMaxY = y;
+        mFirstIndex = mLastIndex = mMinIndex = mMaxIndex = mPointIndex;
+
+        mPointIndex++;
+    }
+
+    /**
+     * Writes the reduced points of the current column.
+     */
+    private void flushColumn() {
+
+        if (!mColumnOpen)
+            return;
+
+        mColumnOpen = false;
+
+        writePoint(mFirstX, mFirstY);
+
+        // the extremes in the order they were added
+        if (mMinIndex < mMaxIndex) {
+            writeColumnPoint(mMinIndex, mMinX, mMinY);
+            writeColumnPoint(mMaxIndex, mMaxX, mMaxY);
+        } else {
+            writeColumnPoint(mMaxIndex, mMaxX, mMaxY);
+            writeColumnPoint(mMinIndex, mMinX, mMinY);
+        }
+
+        if (mLastIndex != mFirstIndex)
+            writePoint(mLastX, mLastY);
+    }
+
+    private void writeColumnPoint(int index, float x, float y) {
+
+        if (index != mFirstIndex && index != mLastIndex)
+            writePoint(x, y);
+    }
+
+    private void writePoint(float x, float y) {
+
+        if (mCollectPoints) {
+
+            if (mPathPointCount * 2 == mPathPoints.length) {
+                float[] points = new float[mPathPoints.length * 2];
+                System.arraycopy(mPathPoints, 0, points, 0, mPathPoints.length);
+                mPathPoints = points;
+            }
+
+            mPathPoints[mPathPointCount * 2] = x;
+            mPathPoints[mPathPointCount * 2 + 1] = y;
+            mPathPointCount++;
+            return;
+        }
+
+        write(mNeedMove ? "M" : "L");
+        writeNumber(x);
+        write(" ");
+        writeNumber(y);
+
+        mNeedMove = false;
+    }
+
+    /**
+     * Simplifies the collected points of a path contour with the
+     * Douglas-Peucker algorithm and writes the remaining points. A point is
+     * kept if it is further than the tolerance away from the line between
+     * the kept points around it.
+     */
+    private void writeSimplifiedPoints() {
+
+        int count = mPathPointCount;
+
+        if (count == 0)
+            return;
+
+        if (mKeepPoints.length < count)
+            mKeepPoints = new boolean[Math.max(count, mKeepPoints.length * 2)];
+
+        boolean[] keep = mKeepPoints;
+        float[] pts = mPathPoints;
+
+        for (int i = 0; i < count; i++)
+            keep[i] = false;
+
+        keep[0] = true;
+        keep[count - 1] = true;
+
+        float tolerance = mTolerance * mTolerance;
+
+        int[] stack = mSimplifyStack;
+        int top = 0;
+
+        stack[top++] = 0;
+        stack[top++] = count - 1;
+
+        while (top > 0) {
+
+            int end = stack[--top];
+            int start = stack[--top];
+
+            float max = tolerance;
+            int farthest = -1;
+
+            for (int i = start + 1; i < end; i++) {
+
+                float d = segmentDistanceSquared(pts[i * 2], pts[i * 2 + 1],
+                        pts[start * 2], pts[start * 2 + 1], pts[end * 2], pts[end * 2 + 1]);
+
+                if (d > max) {
+                    max = d;
+                    farthest = i;
+                }
+            }
+
+            if (farthest < 0)
+                continue;
+
+            keep[farthest] = true;
+
+            if (top + 4 > stack.length) {
+                int[] grown = new int[stack.length * 2];
+                System.arraycopy(stack, 0, grown, 0, top);
+                stack = grown;
+                mSimplifyStack = grown;
+            }
+
+            stack[top++] = start;
+            stack[top++] = farthest;
+            stack[top++] = farthest;
+            stack[top++] = end;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (keep[i])
+                writePoint(pts[i * 2], pts[i * 2 + 1]);
+        }
+
+        mPathPointCount = 0;
+    }
+
+    /**
+     * Returns the squared distance of the point (px, py) from the segment
+     * between (x1, y1) and (x2, y2).
+     */
+    private static float segmentDistanceSquared(float px, float py, float x1, float y1,
+            float x2, float y2) {
+
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+
+        float lengthSquared = dx * dx + dy * dy;
+
+        float t = 0f;
+
+        if (lengthSquared > 0f)
+            t = Math.max(0f, Math.min(1f, ((px - x1) * dx + (py - y1) * dy) / lengthSquared));
+
+        float ex = px - (x1 + t * dx);
+        float ey = py - (y1 + t * dy);
+
+        return ex * ex + ey * ey;
+    }
+
+    /**
+     * Writes the fill and stroke attributes of the given paint.
+     * 
+     * @param paint
+     */
+    private void writeStyle(Paint paint) {
+
+        Paint.Style style = paint.getStyle();
+
+        if (style == Paint.Style.STROKE) {
+            write(" fill=\"none\"");
+        } else {
+            writeColor(" fill", paint.getColor());
+        }
+
+        if (style != Paint.Style.FILL)
+            writeStroke(paint);
+    }
+
+    private void writeStroke(Paint paint) {
+
+        writeColor(" stroke", paint.getColor());
+
+        write(" stroke-width=\"");
+        writeNumber(Math.max(paint.getStrokeWidth(), 1f) * mMatrix.mapRadius(1f));
+        write("\"");
+
+        if (paint.getStrokeCap() == Paint.Cap.ROUND)
+            write(" stroke-linecap=\"round\"");
+        else if (paint.getStrokeCap() == Paint.Cap.SQUARE)
+            write(" stroke-linecap=\"square\"");
+
+        if (paint.getPathEffect() instanceof IntervalDashPathEffect) {
+
+            IntervalDashPathEffect dash = (IntervalDashPathEffect) paint.getPathEffect();
+            float[] intervals = dash.getIntervals();
+            float scale = mMatrix.mapRadius(1f);
+
+            write(" stroke-dasharray=\"");
+
+            for (int i = 0; i < intervals.length; i++) {
+
+                if (i > 0)
+                    write(",");
+
+                writeNumber(intervals[i] * scale);
+            }
+
+            write("\" stroke-dashoffset=\"");
+            writeNumber(dash.getPhase() * scale);
+            write("\"");
+        }
+    }
+
+    /**
+     * Writes the given color as an attribute with the given name, and its
+     * alpha as an opacity attribute if it is not opaque.
+     * 
+     * @param name
+     * @param color
+     */
+    private void writeColor(String name, int color) {
+
+        write(name);
+        write("=\"#");
+
+        int rgb = color & 0xFFFFFF;
+
+        for (int shift = 20; shift >= 0; shift -= 4)
+            write(Character.forDigit((rgb >> shift) & 0xF, 16));
+
+        write("\"");
+
+        int alpha = Color.alpha(color);
+
+        if (alpha < 255) {
+            write(name);
+            write("-opacity=\"");
+            writeNumber(alpha / 255f);
+            write("\"");
+        }
+    }
+
+    /**
+     * Writes the given number with at most two decimals, without creating a
+     * string.
+     * 
+     * @param value
+     */
+    private void writeNumber(float value) {
+
+        if (Float.isNaN(value) || Float.isInfinite(value))
+            value = 0f;
+
+        long scaled = Math.round(value * 100.0);
+
+        if (scaled < 0) {
+            write('-');
+            scaled = -scaled;
+        }
+
+        long integer = scaled / 100;
+        int fraction = (int) (scaled % 100);
+
+        int pos = mDigits.length;
+
+        do {
+            mDigits[--pos] = (char) ('0' + integer % 10);
+            integer /= 10;
+        } while (integer > 0);
+
+        write(mDigits, pos, mDigits.length - pos);
+
+        if (fraction != 0) {
+            write('.');
+            write((char) ('0' + fraction / 10));
+
+            if (fraction % 10 != 0)
+                write((char) ('0' + fraction % 10));
+        }
+    }
+
+    private void write(String s) {
+
+        if (mError != null)
+            return;
+
+        try {
+            mWriter.write(s);
+        } catch (IOException e) {
+            mError = e;
+        }
+    }
+
+    private void write(char c) {
+
+        if (mError != null)
+            return;
+
+        try {
+            mWriter.write(c);
+        } catch (IOException e) {
+            mError = e;
+        }
+    }
+
+    private void write(char[] chars, int offset, int count) {
+
+        if (mError != null)
+            return;
+
+        try {
+            mWriter.write(chars, offset, count);
+        } catch (IOException e) {
+            mError = e;
+        }
+    }
+}
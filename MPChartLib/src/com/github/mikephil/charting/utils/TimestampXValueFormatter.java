@@ -0,0 +1,42 @@
+
+package com.github.mikephil.charting.utils;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * XValueFormatter that formats x-values as timestamps (in milliseconds).
+ */
+public class TimestampXValueFormatter implements XValueFormatter {
+
+    /** the format used to turn the timestamps into labels */
+    private DateFormat mFormat;
+
+    /** reused for formatting to avoid allocations */
+    private Date mDate = new Date();
+
+    /**
+     * Constructor.
+     * 
+     * @param pattern the SimpleDateFormat pattern, e.g. "HH:mm:ss"
+     */
+    public TimestampXValueFormatter(String pattern) {
+        this(new SimpleDateFormat(pattern));
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param format the format used to create the labels
+     */
+    public TimestampXValueFormatter(DateFormat format) {
+        mFormat = format;
+    }
+
+    @Override
+    public String getFormattedXValue(double x) {
+        mDate.setTime((long) x);
+        return mFormat.format(mDate);
+    }
+}
@@ -20,7 +20,7 @@ import java.util.ArrayList;
  */
 public abstract class Utils {
 
-    private static DisplayMetrics mMetrics;
+    private static volatile DisplayMetrics mMetrics;
 
     /**
      * initialize method, called inside the Chart.init() method.
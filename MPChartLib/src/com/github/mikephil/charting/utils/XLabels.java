@@ -1,6 +1,12 @@
 
 package com.github.mikephil.charting.utils;
 
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Class representing the x-axis labels settings. Only use the setter methods to
  * modify it. Do not access public variables directly. Be aware that not all
@@ -53,6 +59,34 @@ public class XLabels extends LabelBase {
     /** the position of the x-labels relative to the chart */
     private XLabelPosition mPosition = XLabelPosition.TOP;
 
+    /**
+     * the formatter used for the labels if the entries have their own x-values
+     */
+    private XValueFormatter mFormatter = null;
+
+    /** the maximum number of measured label widths that are kept in the cache */
+    private static final int MAX_CACHED_WIDTHS = 1000;
+
+    /**
+     * cache for the measured widths of the x-label texts, drops the least
+     * recently used width when full
+     */
+    private WidthCache mWidthCache = new WidthCache(MAX_CACHED_WIDTHS);
+
+    /** the text size the cached widths were measured with */
+    private float mWidthCacheTextSize = -1f;
+
+    /** the typeface the cached widths were measured with */
+    private Typeface mWidthCacheTypeface = null;
+
+    /** the range of x-scale values the current modulus is valid for */
+    private float mModulusMinScale = 0f;
+    private float mModulusMaxScale = -1f;
+
+    /** the x-value count and content width the modulus was calculated for */
+    private int mModulusValCount = -1;
+    private float mModulusContentWidth = -1f;
+
     /** enum for the position of the x-labels relative to the chart */
     public enum XLabelPosition {
         TOP, BOTTOM, BOTH_SIDED, TOP_INSIDE, BOTTOM_INSIDE
@@ -152,4 +186,118 @@ public class XLabels extends LabelBase {
     public boolean isAvoidFirstLastClippingEnabled() {
         return mAvoidFirstLastClipping;
     }
+
+    /**
+     * Sets the formatter that is used for the x-labels if the entries have
+     * their own x-values (e.g. timestamps) instead of x-indices.
+     * 
+     * @param f
+     */
+    public void setFormatter(XValueFormatter f) {
+        mFormatter = f;
+    }
+
+    /**
+     * Returns the formatter that is used for the x-labels if the entries have
+     * their own x-values.
+     * 
+     * @return
+     */
+    public XValueFormatter getFormatter() {
+        return mFormatter;
+    }
+
+    /**
+     * Returns the width of the given label text measured with the given paint.
+     * Each distinct text is only measured once, as long as it is one of the
+     * most recently used texts. The cache is cleared if the text size or
+     * typeface of the paint change.
+     * 
+     * @param p
+     * @param label
+     * @return
+     */
+    public float getLabelWidth(Paint p, String label) {
+
+        if (p.getTextSize() != mWidthCacheTextSize || p.getTypeface() != mWidthCacheTypeface) {
+            mWidthCache.clear();
+            mWidthCacheTextSize = p.getTextSize();
+            mWidthCacheTypeface = p.getTypeface();
+        }
+
+        Float width = mWidthCache.get(label);
+
+        if (width == null) {
+            width = p.measureText(label);
+            mWidthCache.put(label, width);
+        }
+
+        return width;
+    }
+
+    /**
+     * Calculates the modulus for the given x-value count, content width and
+     * x-scale. The modulus is only calculated again if the scale crosses the
+     * boundaries in which the current modulus is valid, or if the label width,
+     * value count or content width changed.
+     * 
+     * @param valCount the number of x-values
+     * @param contentWidth the width of the content rect in pixels
+     * @param scaleX the current scale factor of the x-axis
+     */
+    public void calcModulus(int valCount, float contentWidth, float scaleX) {
+
+        if (valCount == mModulusValCount && contentWidth == mModulusContentWidth
+                && scaleX >= mModulusMinScale && scaleX < mModulusMaxScale)
+            return;
+
+        // the total width of all labels next to each other
+        float labelsWidth = valCount * mLabelWidth;
+
+        int modulus = (int) Math.ceil(labelsWidth / (contentWidth * scaleX));
+
+        if (modulus < 1)
+            modulus = 1;
+
+        mXAxisLabelModulus = modulus;
+
+        // the modulus stays the same as long as the scale is in between these
+        // values
+        mModulusMinScale = labelsWidth / (contentWidth * modulus);
+        mModulusMaxScale = modulus > 1 ? labelsWidth / (contentWidth * (modulus - 1))
+                : Float.MAX_VALUE;
+
+        mModulusValCount = valCount;
+        mModulusContentWidth = contentWidth;
+    }
+
+    /**
+     * Discards the state of the last modulus calculation, forcing the modulus
+     * to be calculated again. Needs to be called whenever the label width
+     * changes.
+     */
+    public void invalidateModulus() {
+        mModulusValCount = -1;
+    }
+
+    /**
+     * LinkedHashMap in access-order that drops the least recently used width
+     * when the maximum size is exceeded.
+     */
+    private static class WidthCache extends LinkedHashMap<String, Float> {
+
+        private static final long serialVersionUID = 1L;
+
+        private int mMaxSize;
+
+        public WidthCache(int maxSize) {
+            super(16, 0.75f, true);
+            mMaxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Float> eldest) {
+            return size() > mMaxSize;
+        }
+    }
 }
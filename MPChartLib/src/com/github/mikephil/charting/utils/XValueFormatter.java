@@ -0,0 +1,19 @@
+
+package com.github.mikephil.charting.utils;
+
+/**
+ * Interface that allows custom formatting of x-values (e.g. timestamps) for
+ * entries that are positioned by their own x-value instead of their x-index.
+ */
+public interface XValueFormatter {
+
+    /**
+     * Called when an x-value is formatted before being drawn as a label on the
+     * x-axis. For performance reasons, avoid excessive calculations and memory
+     * allocations inside this method.
+     * 
+     * @param x the x-value to be formatted
+     * @return the formatted label ready for being drawn
+     */
+    public String getFormattedXValue(double x);
+}
@@ -1,6 +1,8 @@
 
 package com.github.mikephil.charting.utils;
 
+import java.util.Arrays;
+
 /**
  * Class representing the y-axis labels settings and its entries. Only use the
  * setter methods to modify it. Do not access public variables directly. Be
@@ -40,6 +42,18 @@ public class YLabels extends LabelBase {
     /** the formatter used to customly format the y-labels */
     private ValueFormatter mFormatter = null;
 
+    /** the formatted labels, cached until the entries or formatting change */
+    private String[] mFormattedLabels = new String[] {};
+
+    /** the longest formatted label, null if not yet determined */
+    private String mLongestLabel = null;
+
+    /** flag that indicates if the cached formatted labels are valid */
+    private boolean mFormattedLabelsValid = false;
+
+    /** incremented each time the cached formatted labels are invalidated */
+    private int mFormattedLabelsVersion = 0;
+
     /** the position of the y-labels relative to the chart */
     private YLabelPosition mPosition = YLabelPosition.LEFT;
 
@@ -135,6 +149,7 @@ public class YLabels extends LabelBase {
      */
     public void setSeparateThousands(boolean enabled) {
         mSeparateTousands = enabled;
+        invalidateFormattedLabels();
     }
 
     /**
@@ -162,6 +177,7 @@ public class YLabels extends LabelBase {
      */
     public void setFormatter(ValueFormatter f) {
         this.mFormatter = f;
+        invalidateFormattedLabels();
     }
 
     /**
@@ -183,6 +199,27 @@ public class YLabels extends LabelBase {
         return mShowOnlyMinMax;
     }
 
+    /**
+     * Discards the cached formatted labels. Needs to be called whenever the
+     * entries (mEntries, mEntryCount, mDecimals) are modified.
+     */
+    public void invalidateFormattedLabels() {
+        mFormattedLabelsValid = false;
+        mLongestLabel = null;
+        mFormattedLabelsVersion++;
+    }
+
+    /**
+     * Returns a number that changes every time the formatted labels are
+     * invalidated. Can be used to determine if texts derived from the
+     * formatted labels need to be created again.
+     * 
+     * @return
+     */
+    public int getFormattedLabelsVersion() {
+        return mFormattedLabelsVersion;
+    }
+
     /**
      * Returns the longest formatted label (in terms of characters) the y-labels
      * contain.
@@ -191,39 +228,70 @@ public class YLabels extends LabelBase {
      */
     public String getLongestLabel() {
 
+        if (mLongestLabel != null)
+            return mLongestLabel;
+
         String longest = "";
 
-        for (int i = 0; i < mEntries.length; i++) {
+        for (int i = 0; i < mEntryCount; i++) {
             String text = getFormattedLabel(i);
 
             if (longest.length() < text.length())
                 longest = text;
         }
 
+        mLongestLabel = longest;
+
         return longest;
     }
 
     /**
      * Returns the formatted y-label at the specified index. This will either
-     * use the auto-formatter or the custom formatter (if one is set).
+     * use the auto-formatter or the custom formatter (if one is set). The
+     * formatted labels are cached until the entries or the formatting change.
      * 
      * @param index
      * @return
      */
     public String getFormattedLabel(int index) {
 
-        if (index < 0)
+        if (index < 0 || index >= mEntryCount)
             return "";
 
-        String text = null;
+        if (!mFormattedLabelsValid) {
+
+            if (mFormattedLabels.length < mEntryCount)
+                mFormattedLabels = new String[mEntryCount];
+            else
+                Arrays.fill(mFormattedLabels, null);
+
+            mFormattedLabelsValid = true;
+        }
+
+        String text = mFormattedLabels[index];
+
+        if (text == null) {
+            text = formatLabel(mEntries[index]);
+            mFormattedLabels[index] = text;
+        }
+
+        return text;
+    }
+
+    /**
+     * Formats the given y-label value. This will either use the auto-formatter
+     * or the custom formatter (if one is set).
+     * 
+     * @param value
+     * @return
+     */
+    private String formatLabel(float value) {
 
         // if there is no formatter
         if (getFormatter() == null)
-            text = Utils.formatNumber(mEntries[index], mDecimals,
+            return Utils.formatNumber(value, mDecimals,
                     isSeparateThousandsEnabled());
         else
-            text = getFormatter().getFormattedValue(mEntries[index]);
-
-        return text;
+            return getFormatter().getFormattedValue(value);
     }
 }
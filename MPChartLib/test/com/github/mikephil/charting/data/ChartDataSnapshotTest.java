@@ -0,0 +1,147 @@
+
+package com.github.mikephil.charting.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class ChartDataSnapshotTest {
+
+    @Test
+    public void roundTripsListXValuesAndNullLabels() throws IOException {
+
+        ArrayList<String> xVals = new ArrayList<String>();
+        xVals.add("a");
+        xVals.add("");
+        xVals.add("c");
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(1f, 0));
+        entries.add(new Entry(-2f, 1));
+        entries.add(new Entry(3f, 2));
+
+        LineData data = new LineData(xVals, new LineDataSet(entries, null));
+
+        ChartDataSnapshot snapshot = roundTrip(new ChartDataSnapshot(data));
+
+        assertEquals(ChartDataSnapshot.TYPE_LINE, snapshot.getType());
+        assertNull(snapshot.getViewport());
+
+        ChartData<?> restored = snapshot.restore();
+
+        assertEquals(3, restored.getXValCount());
+        assertEquals("a", restored.getXValueProvider().getXVal(0));
+        assertEquals("", restored.getXValueProvider().getXVal(1));
+        assertEquals("c", restored.getXValueProvider().getXVal(2));
+
+        DataSet<?> set = restored.getDataSetByIndex(0);
+
+        assertNull(set.getLabel());
+        assertEquals(3, set.getEntryCount());
+        assertEquals(-2f, set.getYMin(), 0f);
+        assertEquals(3f, set.getYMax(), 0f);
+        assertEquals(-2f, set.getYVals().get(1).getVal(), 0f);
+    }
+
+    @Test
+    public void roundTripsGeneratedXValues() throws IOException {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 50000; i++) {
+
+            Entry e = new Entry(i % 100, i);
+
+            if (i % 2 == 0)
+                e.setX(i * 0.5);
+
+            entries.add(e);
+        }
+
+        LineData data = new LineData(ChartData.generateXValueProvider(0, 50000),
+                new LineDataSet(entries, "line"));
+
+        // generated x-values are not stored, the snapshot has no x-value list
+        ChartDataSnapshot original = new ChartDataSnapshot(data);
+        original.setViewport(2f, 1f, -0.5f, 0f);
+
+        ChartDataSnapshot snapshot = roundTrip(original);
+
+        assertEquals(50000, snapshot.getEntryCount());
+        assertArrayEquals(new float[] {
+                2f, 1f, -0.5f, 0f
+        }, snapshot.getViewport(), 0f);
+
+        ChartData<?> restored = snapshot.restore();
+
+        assertEquals(50000, restored.getXValCount());
+
+        DataSet<?> set = restored.getDataSetByIndex(0);
+
+        assertEquals("line", set.getLabel());
+        assertEquals(data.getDataSetByIndex(0).getYValueSum(), set.getYValueSum(), 0f);
+
+        for (int i = 0; i < 50000; i++) {
+
+            Entry e = set.getYVals().get(i);
+
+            assertEquals(i, e.getXIndex());
+            assertEquals(i % 100, e.getVal(), 0f);
+            assertEquals(i % 2 == 0, e.hasX());
+
+            if (e.hasX())
+                assertEquals(i * 0.5, e.getX(), 0.0);
+        }
+    }
+
+    @Test
+    public void roundTripsStackedBars() throws IOException {
+
+        ArrayList<BarEntry> entries = new ArrayList<BarEntry>();
+        entries.add(new BarEntry(new float[] {
+                1f, 2f
+        }, 0));
+        entries.add(new BarEntry(4f, 1));
+
+        BarData data = new BarData(new String[] {
+                "x", "y"
+        }, new BarDataSet(entries, "bars"));
+
+        ChartData<?> restored = roundTrip(new ChartDataSnapshot(data)).restore();
+
+        assertTrue(restored instanceof BarData);
+
+        BarDataSet set = (BarDataSet) restored.getDataSetByIndex(0);
+
+        assertEquals(2, set.getStackSize());
+        assertArrayEquals(new float[] {
+                1f, 2f
+        }, set.getYVals().get(0).getVals(), 0f);
+        assertNull(set.getYVals().get(1).getVals());
+        assertFalse(set.getYVals().get(1).hasX());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherStreams() throws IOException {
+        ChartDataSnapshot.readFrom(new ByteArrayInputStream(new byte[] {
+                1, 2, 3, 4, 5, 6, 7, 8
+        }));
+    }
+
+    private static ChartDataSnapshot roundTrip(ChartDataSnapshot snapshot) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+
+        return ChartDataSnapshot.readFrom(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,111 @@
+
+package com.github.mikephil.charting.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class BinaryFilePageSourceTest {
+
+    private File mFile;
+
+    @Before
+    public void setUp() throws IOException {
+        mFile = File.createTempFile("entries", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        mFile.delete();
+    }
+
+    @Test
+    public void readsPagesOfFilesWithOptionalColumns() throws IOException {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++) {
+
+            Entry e;
+
+            // stacked entries and own x-values add columns after the
+            // x-indices and values the source reads
+            if (i % 10 == 0) {
+                e = new BarEntry(new float[] {
+                        i, 1f
+                }, i * 2);
+            } else {
+                e = new Entry(i, i * 2);
+            }
+
+            if (i % 3 == 0)
+                e.setX(i * 1000.0);
+
+            entries.add(e);
+        }
+
+        FileUtils.saveToBinaryFile(entries, mFile);
+
+        BinaryFilePageSource source = new BinaryFilePageSource(mFile);
+
+        assertEquals(100, source.getEntryCount());
+
+        float[] values = new float[30];
+        int[] xIndices = new int[30];
+
+        assertEquals(30, source.read(40, 30, values, xIndices));
+
+        for (int i = 0; i < 30; i++) {
+            assertEquals(entries.get(40 + i).getVal(), values[i], 0f);
+            assertEquals((40 + i) * 2, xIndices[i]);
+        }
+
+        // the last page is shorter, pages outside of the file are empty
+        assertEquals(10, source.read(90, 30, values, xIndices));
+        assertEquals(99 * 2, xIndices[9]);
+        assertEquals(0, source.read(100, 30, values, xIndices));
+        assertEquals(0, source.read(-1, 30, values, xIndices));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedFiles() throws IOException {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i));
+
+        FileUtils.saveToBinaryFile(entries, mFile);
+
+        byte[] truncated = new byte[FileUtils.BINARY_HEADER_SIZE + 60];
+
+        FileInputStream in = new FileInputStream(mFile);
+
+        try {
+            in.read(truncated);
+        } finally {
+            in.close();
+        }
+
+        FileOutputStream out = new FileOutputStream(mFile);
+
+        try {
+            out.write(truncated);
+        } finally {
+            out.close();
+        }
+
+        new BinaryFilePageSource(mFile);
+    }
+}
@@ -0,0 +1,177 @@
+
+package com.github.mikephil.charting.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class EntryTextParserTest {
+
+    @Test
+    public void parsesValuesAndXIndices() throws IOException {
+
+        RecordingSink sink = parse("1.5#0\n-2#1\r\n3.25E2#2");
+
+        assertEquals(3, sink.values.size());
+        assertEquals(1.5f, sink.values.get(0), 0f);
+        assertEquals(-2f, sink.values.get(1), 0f);
+        assertEquals(325f, sink.values.get(2), 0f);
+        assertEquals(2, (int) sink.xIndices.get(2));
+    }
+
+    @Test
+    public void trimsSpacesAndTabs() throws IOException {
+
+        RecordingSink sink = parse("\t4.5 #\t7\t\n 1 # 8 ");
+
+        assertEquals(2, sink.values.size());
+        assertEquals(4.5f, sink.values.get(0), 0f);
+        assertEquals(7, (int) sink.xIndices.get(0));
+        assertEquals(1f, sink.values.get(1), 0f);
+        assertEquals(8, (int) sink.xIndices.get(1));
+    }
+
+    @Test
+    public void skipsOverlongFields() throws IOException {
+
+        StringBuilder longField = new StringBuilder();
+
+        for (int i = 0; i < 100; i++)
+            longField.append('1');
+
+        RecordingSink sink = parse(longField + "#0\n2#1\n3#" + longField + "\n");
+
+        assertEquals(1, sink.values.size());
+        assertEquals(2f, sink.values.get(0), 0f);
+        assertEquals(1, (int) sink.xIndices.get(0));
+    }
+
+    @Test
+    public void acceptsOnlyLiteralNaNValues() throws IOException {
+
+        RecordingSink sink = parse("NaN#0\n -NaN #1\nnan#2\nabc#3\n1#NaN\n");
+
+        assertEquals(2, sink.values.size());
+        assertTrue(Float.isNaN(sink.values.get(0)));
+        assertTrue(Float.isNaN(sink.values.get(1)));
+        assertEquals(1, (int) sink.xIndices.get(1));
+    }
+
+    @Test
+    public void skipsFractionalAndOutOfRangeXIndices() throws IOException {
+
+        RecordingSink sink = parse("1#2.5\n2#1e10\n3#-3000000000\n4#1e2\n");
+
+        assertEquals(1, sink.values.size());
+        assertEquals(4f, sink.values.get(0), 0f);
+        assertEquals(100, (int) sink.xIndices.get(0));
+    }
+
+    @Test
+    public void skipsLinesWithoutXIndex() throws IOException {
+
+        RecordingSink sink = parse("1\n\n#\n2#3\n");
+
+        assertEquals(1, sink.values.size());
+        assertEquals(3, (int) sink.xIndices.get(0));
+    }
+
+    @Test
+    public void keepsOrderOfStackedEntries() throws IOException {
+
+        EntryTextParser parser = new EntryTextParser(2);
+        RecordingSink sink = new RecordingSink();
+
+        int count = parser.parse(stream("1#0\n2#1\n3#4#5#2\n6#3\n"), sink);
+
+        assertEquals(4, count);
+        assertEquals(4, sink.order.size());
+        assertArrayEquals(new float[] {
+                3f, 4f, 5f
+        }, sink.stacks.get(0), 0f);
+        assertEquals("e0 e1 s2 e3 ", concat(sink.order));
+    }
+
+    @Test
+    public void handsEntriesToTheSinkInChunks() throws IOException {
+
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 10; i++)
+            text.append(i).append('#').append(i).append('\n');
+
+        EntryTextParser parser = new EntryTextParser(3);
+        RecordingSink sink = new RecordingSink();
+
+        assertEquals(10, parser.parse(stream(text.toString()), sink));
+        assertEquals(10, sink.values.size());
+        assertEquals(4, sink.chunks);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, sink.values.get(i), 0f);
+            assertEquals(i, (int) sink.xIndices.get(i));
+        }
+    }
+
+    private static RecordingSink parse(String text) throws IOException {
+
+        RecordingSink sink = new RecordingSink();
+        new EntryTextParser().parse(stream(text), sink);
+        return sink;
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes());
+    }
+
+    private static String concat(ArrayList<String> strings) {
+
+        StringBuilder builder = new StringBuilder();
+
+        for (String s : strings)
+            builder.append(s).append(' ');
+
+        return builder.toString();
+    }
+
+    /**
+     * Sink that copies everything it receives, as the parser reuses its
+     * arrays.
+     */
+    private static class RecordingSink implements EntrySink {
+
+        ArrayList<Float> values = new ArrayList<Float>();
+        ArrayList<Integer> xIndices = new ArrayList<Integer>();
+        ArrayList<float[]> stacks = new ArrayList<float[]>();
+        ArrayList<String> order = new ArrayList<String>();
+        int chunks = 0;
+
+        @Override
+        public void onEntries(float[] values, int[] xIndices, int count) {
+
+            chunks++;
+
+            for (int i = 0; i < count; i++) {
+                this.values.add(values[i]);
+                this.xIndices.add(xIndices[i]);
+                order.add("e" + xIndices[i]);
+            }
+        }
+
+        @Override
+        public void onStackedEntry(float[] vals, int count, int xIndex) {
+
+            float[] copy = new float[count];
+            System.arraycopy(vals, 0, copy, 0, count);
+
+            stacks.add(copy);
+            order.add("s" + xIndex);
+        }
+    }
+}
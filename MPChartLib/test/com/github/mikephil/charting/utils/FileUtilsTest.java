@@ -0,0 +1,204 @@
+
+package com.github.mikephil.charting.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+public class FileUtilsTest {
+
+    private File mFile;
+
+    @Before
+    public void setUp() throws IOException {
+        mFile = File.createTempFile("entries", ".bin");
+    }
+
+    @After
+    public void tearDown() {
+        mFile.delete();
+    }
+
+    @Test
+    public void roundTripsPlainEntries() {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++)
+            entries.add(new Entry(i * 0.5f - 100f, i));
+
+        FileUtils.saveToBinaryFile(entries, mFile);
+
+        // header, x-indices and values
+        assertEquals(FileUtils.BINARY_HEADER_SIZE + 8 * 1000, mFile.length());
+
+        ArrayList<Entry> loaded = FileUtils.loadEntriesFromBinaryFile(mFile);
+
+        assertEquals(1000, loaded.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(entries.get(i).getVal(), loaded.get(i).getVal(), 0f);
+            assertEquals(i, loaded.get(i).getXIndex());
+            assertFalse(loaded.get(i).hasX());
+        }
+    }
+
+    @Test
+    public void roundTripsXValuesAndStacks() {
+
+        ArrayList<Entry> entries = new ArrayList<Entry>();
+
+        Entry withX = new Entry(1f, 0);
+        withX.setX(1400000000000.5);
+        entries.add(withX);
+
+        entries.add(new BarEntry(new float[] {
+                1f, 2f, 3f
+        }, 1));
+
+        BarEntry stackWithX = new BarEntry(new float[] {
+                -4f, 5f
+        }, 2);
+        stackWithX.setX(-2.25);
+        entries.add(stackWithX);
+
+        entries.add(new Entry(6f, 3));
+
+        FileUtils.saveToBinaryFile(entries, mFile);
+
+        // header, x-indices, values, x-values, stack sizes, stack values
+        assertEquals(FileUtils.BINARY_HEADER_SIZE + 4 * (4 + 4 + 8 + 4) + 4 * 5,
+                mFile.length());
+
+        ArrayList<Entry> loaded = FileUtils.loadEntriesFromBinaryFile(mFile);
+
+        assertEquals(4, loaded.size());
+
+        assertEquals(1400000000000.5, loaded.get(0).getX(), 0.0);
+        assertFalse(loaded.get(1).hasX());
+        assertEquals(-2.25, loaded.get(2).getX(), 0.0);
+        assertFalse(loaded.get(3).hasX());
+
+        assertTrue(loaded.get(1) instanceof BarEntry);
+        assertArrayEquals(new float[] {
+                1f, 2f, 3f
+        }, ((BarEntry) loaded.get(1)).getVals(), 0f);
+        assertArrayEquals(new float[] {
+                -4f, 5f
+        }, ((BarEntry) loaded.get(2)).getVals(), 0f);
+
+        assertEquals(6f, loaded.get(3).getVal(), 0f);
+        assertEquals(3, loaded.get(3).getXIndex());
+    }
+
+    @Test
+    public void readsVersionOneFiles() throws IOException {
+
+        // version 1 files have no x-value column
+        ByteBuffer buf = header(1, 2, FileUtils.BINARY_FLAG_STACKED);
+        buf.putInt(7).putInt(9);
+        buf.putFloat(1.5f).putFloat(3f);
+        buf.putInt(0).putInt(2);
+        buf.putFloat(1f).putFloat(2f);
+        write(buf);
+
+        ArrayList<Entry> loaded = FileUtils.loadEntriesFromBinaryFile(mFile);
+
+        assertEquals(2, loaded.size());
+        assertEquals(7, loaded.get(0).getXIndex());
+        assertEquals(1.5f, loaded.get(0).getVal(), 0f);
+        assertFalse(loaded.get(0) instanceof BarEntry);
+        assertEquals(9, loaded.get(1).getXIndex());
+        assertArrayEquals(new float[] {
+                1f, 2f
+        }, ((BarEntry) loaded.get(1)).getVals(), 0f);
+    }
+
+    @Test
+    public void rejectsTruncatedFiles() throws IOException {
+
+        // the x-value column is missing
+        ByteBuffer buf = header(2, 2, FileUtils.BINARY_FLAG_X);
+        buf.putInt(0).putInt(1);
+        buf.putFloat(1f).putFloat(2f);
+        buf.putDouble(5.0);
+        write(buf);
+
+        assertTrue(FileUtils.loadEntriesFromBinaryFile(mFile).isEmpty());
+
+        // the stack values are missing
+        buf = header(2, 1, FileUtils.BINARY_FLAG_STACKED);
+        buf.putInt(0);
+        buf.putFloat(1f);
+        buf.putInt(3);
+        buf.putFloat(1f);
+        write(buf);
+
+        assertTrue(FileUtils.loadEntriesFromBinaryFile(mFile).isEmpty());
+
+        // more entries than the file contains
+        buf = header(2, Integer.MAX_VALUE, 0);
+        write(buf);
+
+        assertTrue(FileUtils.loadEntriesFromBinaryFile(mFile).isEmpty());
+    }
+
+    @Test
+    public void rejectsUnknownFiles() throws IOException {
+
+        ByteBuffer buf = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(0x12345678).putInt(2).putInt(0).putInt(0);
+        write(buf);
+
+        assertTrue(FileUtils.loadEntriesFromBinaryFile(mFile).isEmpty());
+
+        buf = header(FileUtils.BINARY_VERSION + 1, 0, 0);
+        write(buf);
+
+        assertTrue(FileUtils.loadEntriesFromBinaryFile(mFile).isEmpty());
+    }
+
+    @Test
+    public void missingFileLoadsNothing() {
+
+        mFile.delete();
+
+        assertTrue(FileUtils.loadEntriesFromBinaryFile(mFile).isEmpty());
+    }
+
+    private static ByteBuffer header(int version, int count, int flags) {
+
+        ByteBuffer buf = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(FileUtils.BINARY_MAGIC);
+        buf.putInt(version);
+        buf.putInt(count);
+        buf.putInt(flags);
+        return buf;
+    }
+
+    private void write(ByteBuffer buf) throws IOException {
+
+        FileOutputStream out = new FileOutputStream(mFile);
+
+        try {
+            out.write(buf.array(), 0, buf.position());
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+
+package com.github.mikephil.charting.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class NearestPointIndexTest {
+
+    @Test
+    public void emptyIndexFindsNothing() {
+
+        NearestPointIndex index = new NearestPointIndex();
+        index.reset(0f, 0f, 100f, 100f);
+        index.build();
+
+        assertEquals(0, index.size());
+        assertEquals(-1, index.nearest(50f, 50f));
+    }
+
+    @Test
+    public void pointsOutsideOfTheBoundsAreNotAdded() {
+
+        NearestPointIndex index = new NearestPointIndex();
+        index.reset(10f, 10f, 100f, 100f);
+
+        assertFalse(index.add(5f, 50f, 0, 0));
+        assertFalse(index.add(50f, 101f, 0, 1));
+        assertFalse(index.add(Float.NaN, 50f, 0, 2));
+        assertTrue(index.add(10f, 100f, 1, 3));
+
+        index.build();
+
+        assertEquals(1, index.size());
+        assertEquals(1, index.getDataSetIndex(0));
+        assertEquals(3, index.getXIndex(0));
+    }
+
+    @Test
+    public void uniformPointsMatchBruteForce() {
+
+        Random random = new Random(1);
+
+        for (int run = 0; run < 100; run++)
+            checkAgainstBruteForce(random, false);
+    }
+
+    @Test
+    public void clusteredPointsMatchBruteForce() {
+
+        Random random = new Random(2);
+
+        for (int run = 0; run < 100; run++)
+            checkAgainstBruteForce(random, true);
+    }
+
+    /**
+     * Fills an index with random points and checks that each lookup returns
+     * a point with the smallest distance a linear search finds. Touch points
+     * are also generated outside of the bounds.
+     */
+    private static void checkAgainstBruteForce(Random random, boolean clustered) {
+
+        NearestPointIndex index = new NearestPointIndex();
+        index.reset(0f, 0f, 800f, 400f);
+
+        int count = random.nextInt(3000);
+
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+        int added = 0;
+
+        for (int i = 0; i < count; i++) {
+
+            float x, y;
+
+            if (clustered) {
+                x = 400f + (float) random.nextGaussian() * 3f;
+                y = 200f + (float) random.nextGaussian() * 100f;
+            } else {
+                x = random.nextFloat() * 900f - 50f;
+                y = random.nextFloat() * 500f - 50f;
+            }
+
+            // the x-index is the position in the arrays of added points
+            if (index.add(x, y, 0, added)) {
+                xs[added] = x;
+                ys[added] = y;
+                added++;
+            }
+        }
+
+        index.build();
+
+        assertEquals(added, index.size());
+
+        for (int q = 0; q < 200; q++) {
+
+            float x = random.nextFloat() * 1000f - 100f;
+            float y = random.nextFloat() * 600f - 100f;
+
+            int point = index.nearest(x, y);
+
+            if (added == 0) {
+                assertEquals(-1, point);
+                continue;
+            }
+
+            float best = Float.MAX_VALUE;
+
+            for (int i = 0; i < added; i++)
+                best = Math.min(best, distance(xs[i], ys[i], x, y));
+
+            int found = index.getXIndex(point);
+
+            assertEquals(best, distance(xs[found], ys[found], x, y), 0f);
+        }
+    }
+
+    private static float distance(float x1, float y1, float x2, float y2) {
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+}